@@ -0,0 +1,100 @@
+package org.commonmark.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+
+/** Inputs shared by the benchmarks. */
+final class BenchmarkInputs {
+
+    static final String SPEC = TestResources.readAsString(TestResources.getSpec());
+
+    static final List<String> SPEC_EXAMPLES =
+            ExampleReader.readExampleSources(TestResources.getSpec());
+
+    /** The spec with non-ASCII characters replaced, as UTF-8 */
+    static final byte[] ASCII_SPEC_BYTES =
+            SPEC.replaceAll("[^\\x01-\\x7f]", "?").getBytes(StandardCharsets.UTF_8);
+
+    /** The spec repeated, about 5 MB */
+    static final String LARGE = (SPEC + "\n\n").repeat(20);
+
+    private BenchmarkInputs() {}
+
+    /** Long paragraphs of plain text and big code blocks, which are mostly scanning */
+    static final String LONG_LINES = longLines();
+
+    static String tables() {
+        var sb = new StringBuilder();
+        for (int table = 0; table < 100; table++) {
+            sb.append("| Name | Value | Description |\n");
+            sb.append("|:-----|------:|:-----------:|\n");
+            for (int row = 0; row < 20; row++) {
+                sb.append("| `name").append(row).append("` | ").append(row * table);
+                sb.append(" | Some *emphasized* text with a \\| pipe |\n");
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    static String autolinks() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("See https://example.com/path/").append(i).append("?q=a&b=c, ");
+            sb.append("www.example.org/").append(i).append(" or mail foo").append(i);
+            sb.append("@example.com for details. Text without any links in it.\n\n");
+        }
+        return sb.toString();
+    }
+
+    static String footnotes() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Paragraph with a footnote[^").append(i).append("] and an inline one^[");
+            sb.append("inline *note* ").append(i).append("].\n\n");
+        }
+        for (int i = 0; i < 1000; i++) {
+            sb.append("[^").append(i).append("]: The definition of footnote ").append(i);
+            sb.append("\n    with a continuation line.\n\n");
+        }
+        return sb.toString();
+    }
+
+    private static String longLines() {
+        var words = "lorem ipsum dolor sit amet, consectetur adipiscing elit sed do eiusmod ";
+        var sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append(words.repeat(10)).append("end\n");
+            sb.append(words.repeat(10)).append("end.\n\n");
+            sb.append("```java\n");
+            for (int line = 0; line < 20; line++) {
+                sb.append("    String s = \"a fairly long line of code in a block\" + i;\n");
+            }
+            sb.append("```\n\n");
+        }
+        return sb.toString();
+    }
+
+    static String alerts() {
+        var types = List.of("NOTE", "TIP", "IMPORTANT", "WARNING", "CAUTION");
+        var sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("> [!").append(types.get(i % types.size())).append("]\n");
+            sb.append("> Alert content with **strong** text.\n> - and a list\n\n");
+            sb.append("> A normal block quote.\n\n");
+        }
+        return sb.toString();
+    }
+
+    static String headings() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            // Repeat heading text so that unique IDs need to be generated
+            sb.append("## Heading ").append(i % 100).append(" with `code` and *emphasis*\n\n");
+            sb.append("Some text below the heading.\n\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package org.commonmark.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks of this module, or the ones matching the regex arguments. Any other JMH
+ * options can be passed as well (see {@code -h}). Allocation rates are always reported by enabling
+ * the GC profiler (same as {@code -prof gc}).
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+        var commandLineOptions = new CommandLineOptions(args);
+        var builder = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(Benchmarks.class.getPackageName() + ".*");
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
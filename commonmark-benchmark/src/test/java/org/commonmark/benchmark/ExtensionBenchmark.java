@@ -0,0 +1,95 @@
+package org.commonmark.benchmark;
+
+import java.util.List;
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.footnotes.FootnotesExtension;
+import org.commonmark.ext.gfm.alerts.AlertsExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.HeadingAnchorExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parsing and rendering with each extension, using input that makes use of the extension. The
+ * {@code parseWithoutExtension} benchmark parses the same input without the extension, to be able
+ * to tell the cost of the extension apart from the cost of the core parser.
+ */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ExtensionBenchmark {
+
+    @Param({"tables", "autolink", "footnotes", "alerts", "heading-anchor"})
+    public String extension;
+
+    private String input;
+    private Parser parser;
+    private Parser parserWithoutExtension;
+    private HtmlRenderer renderer;
+    private Node document;
+
+    public static void main(String[] args) throws Exception {
+        Options options =
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(ExtensionBenchmark.class.getName() + ".*")
+                        .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        List<Extension> extensions;
+        switch (extension) {
+            case "tables":
+                extensions = List.of(TablesExtension.create());
+                input = BenchmarkInputs.tables();
+                break;
+            case "autolink":
+                extensions = List.of(AutolinkExtension.create());
+                input = BenchmarkInputs.autolinks();
+                break;
+            case "footnotes":
+                extensions = List.of(FootnotesExtension.builder().inlineFootnotes(true).build());
+                input = BenchmarkInputs.footnotes();
+                break;
+            case "alerts":
+                extensions = List.of(AlertsExtension.create());
+                input = BenchmarkInputs.alerts();
+                break;
+            case "heading-anchor":
+                extensions = List.of(HeadingAnchorExtension.create());
+                input = BenchmarkInputs.headings();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown extension " + extension);
+        }
+        parser = Parser.builder().extensions(extensions).build();
+        parserWithoutExtension = Parser.builder().build();
+        renderer = HtmlRenderer.builder().extensions(extensions).build();
+        document = parser.parse(input);
+    }
+
+    @Benchmark
+    public Node parse() {
+        return parser.parse(input);
+    }
+
+    @Benchmark
+    public Node parseWithoutExtension() {
+        return parserWithoutExtension.parse(input);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(document);
+    }
+}
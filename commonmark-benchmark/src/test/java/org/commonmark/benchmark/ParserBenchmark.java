@@ -0,0 +1,168 @@
+package org.commonmark.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.commonmark.internal.InlineParserImpl;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.parser.InlineParser;
+import org.commonmark.parser.InlineParserContext;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.SourceLines;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parsing, both as a whole and split into its two stages: Block parsing (using an inline parser
+ * that does nothing) and inline parsing (of the inline content that block parsing produced).
+ */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ParserBenchmark {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final Parser REUSING_PARSER = Parser.builder().reuseParserState(true).build();
+    private static final Parser CONCURRENT_PARSER =
+            Parser.builder()
+                    .blockParallelism(
+                            ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors())
+                    .inlineParallelism(
+                            ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors())
+                    .build();
+    private static final Parser BLOCK_PARSER =
+            Parser.builder().inlineParserFactory(context -> (lines, node) -> {}).build();
+
+    private InlineParser inlineParser;
+    private List<SourceLines> inlineContents;
+    private Path specFile;
+
+    public static void main(String[] args) throws Exception {
+        Options options =
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(ParserBenchmark.class.getName() + ".*")
+                        .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        specFile = Files.createTempFile("spec", ".md");
+        specFile.toFile().deleteOnExit();
+        Files.writeString(specFile, BenchmarkInputs.SPEC);
+
+        var contexts = new ArrayList<InlineParserContext>();
+        var contents = new ArrayList<SourceLines>();
+        Parser.builder()
+                .inlineParserFactory(
+                        context -> {
+                            contexts.add(context);
+                            return (lines, node) -> contents.add(lines);
+                        })
+                .build()
+                .parse(BenchmarkInputs.SPEC);
+        inlineParser = new InlineParserImpl(contexts.get(0));
+        inlineContents = contents;
+    }
+
+    @Benchmark
+    public Node parseWholeSpec() {
+        return PARSER.parse(BenchmarkInputs.SPEC);
+    }
+
+    @Benchmark
+    public long parseExamples() {
+        long count = 0;
+        for (String example : BenchmarkInputs.SPEC_EXAMPLES) {
+            Node document = PARSER.parse(example);
+            count += document.getFirstChild() == null ? 0 : 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long parseExamplesReusingState() {
+        long count = 0;
+        for (String example : BenchmarkInputs.SPEC_EXAMPLES) {
+            Node document = REUSING_PARSER.parse(example);
+            count += document.getFirstChild() == null ? 0 : 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Node> parseExamplesAsBatch() {
+        return PARSER.parseAll(BenchmarkInputs.SPEC_EXAMPLES);
+    }
+
+    @Benchmark
+    public List<Node> parseExamplesAsBatchConcurrently() {
+        return PARSER.parseAll(
+                BenchmarkInputs.SPEC_EXAMPLES,
+                ForkJoinPool.commonPool(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public Node parseBytesAsString() {
+        var bytes = BenchmarkInputs.ASCII_SPEC_BYTES;
+        return REUSING_PARSER.parse(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Node parseBytes() {
+        var bytes = BenchmarkInputs.ASCII_SPEC_BYTES;
+        return REUSING_PARSER.parse(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public Node parseFileAsString() throws IOException {
+        return REUSING_PARSER.parse(Files.readString(specFile));
+    }
+
+    @Benchmark
+    public Node parseFile() throws IOException {
+        return REUSING_PARSER.parseFile(specFile);
+    }
+
+    @Benchmark
+    public Node parseLongLines() {
+        return PARSER.parse(BenchmarkInputs.LONG_LINES);
+    }
+
+    @Benchmark
+    public Node parseLarge() {
+        return PARSER.parse(BenchmarkInputs.LARGE);
+    }
+
+    @Benchmark
+    public Node parseLargeConcurrently() {
+        return CONCURRENT_PARSER.parse(BenchmarkInputs.LARGE);
+    }
+
+    @Benchmark
+    public Node parseBlocksOnly() {
+        return BLOCK_PARSER.parse(BenchmarkInputs.SPEC);
+    }
+
+    @Benchmark
+    public long parseInlinesOnly() {
+        long count = 0;
+        for (SourceLines lines : inlineContents) {
+            var paragraph = new Paragraph();
+            inlineParser.parse(lines, paragraph);
+            count += paragraph.getFirstChild() == null ? 0 : 1;
+        }
+        return count;
+    }
+}
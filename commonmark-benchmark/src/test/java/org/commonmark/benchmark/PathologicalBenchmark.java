@@ -0,0 +1,141 @@
+package org.commonmark.benchmark;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Pathological inputs, the same ones as in {@code PathologicalTest} of the core module. The test
+ * only checks that they finish within a generous timeout, this measures them.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PathologicalBenchmark {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Param({
+        "emphasisClosersWithNoOpeners",
+        "emphasisOpenersWithNoClosers",
+        "linkClosersWithNoOpeners",
+        "linkOpenersWithNoClosers",
+        "linkOpenersAndEmphasisClosers",
+        "mismatchedOpenersAndClosers",
+        "openerSearchLowerBound",
+        "nestedBrackets",
+        "nestedBlockQuotes",
+        "hugeHorizontalRule",
+        "backslashInLink",
+        "unclosedInlineLinks",
+        "htmlProcessingInstructionsWithNoEnd",
+        "htmlCommentsWithNoEnd",
+        "htmlCdataWithNoEnd",
+        "autolinkWithoutCloser",
+        "backticksDistinctLengths",
+        "htmlBlockAttributes",
+        "autolinkEmail",
+        "nestedEmphasisSamePair",
+        "nestedEmphasisReusedOpener",
+        "nestedEmphasisDifferentDelimiters",
+        "nestedImages",
+        "nestedEmphasisAndImagesInterleaved"
+    })
+    public String input;
+
+    private String source;
+
+    public static void main(String[] args) throws Exception {
+        Options options =
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(PathologicalBenchmark.class.getName() + ".*")
+                        .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        source = source(input);
+    }
+
+    @Benchmark
+    public Node parse() {
+        return PARSER.parse(source);
+    }
+
+    @Benchmark
+    public String parseAndRender() {
+        return RENDERER.render(PARSER.parse(source));
+    }
+
+    private static String source(String input) {
+        int x = 100_000;
+        int n = 40_000;
+        switch (input) {
+            case "emphasisClosersWithNoOpeners":
+                return "a_ ".repeat(x);
+            case "emphasisOpenersWithNoClosers":
+                return "_a ".repeat(x);
+            case "linkClosersWithNoOpeners":
+                return "a] ".repeat(x);
+            case "linkOpenersWithNoClosers":
+                return "[a ".repeat(x);
+            case "linkOpenersAndEmphasisClosers":
+                return "[ a_ ".repeat(x);
+            case "mismatchedOpenersAndClosers":
+                return "*a_ ".repeat(x);
+            case "openerSearchLowerBound":
+                return "a**b" + "c* ".repeat(80_000);
+            case "nestedBrackets":
+                return "[".repeat(x) + "a" + "]".repeat(x);
+            case "nestedBlockQuotes":
+                // Limited by maxOpenBlockParsers
+                return "> ".repeat(1000) + "a\n";
+            case "hugeHorizontalRule":
+                return "*".repeat(10000) + "\n";
+            case "backslashInLink":
+                return "[" + "\\".repeat(x) + "\n";
+            case "unclosedInlineLinks":
+                return "[](".repeat(x) + "\n";
+            case "htmlProcessingInstructionsWithNoEnd":
+                return "x <? >".repeat(x);
+            case "htmlCommentsWithNoEnd":
+                return "x <!-- >".repeat(x);
+            case "htmlCdataWithNoEnd":
+                return "x <![CDATA[ >".repeat(x);
+            case "autolinkWithoutCloser":
+                return "<".repeat(160_000);
+            case "backticksDistinctLengths":
+                var sb = new StringBuilder();
+                for (int i = 1; i <= 3000; i++) {
+                    sb.append("`".repeat(i));
+                    sb.append('x');
+                }
+                return sb.toString();
+            case "htmlBlockAttributes":
+                return "<a" + " a".repeat(4000);
+            case "autolinkEmail":
+                return "<a@" + "a.".repeat(4000) + "a>";
+            case "nestedEmphasisSamePair":
+                return "*".repeat(n) + "x" + "*".repeat(n);
+            case "nestedEmphasisReusedOpener":
+                return "*".repeat(n) + "x" + "*".repeat(n) + "b*".repeat(n);
+            case "nestedEmphasisDifferentDelimiters":
+                return "*a ".repeat(n) + " b*".repeat(n);
+            case "nestedImages":
+                return "![".repeat(n) + "x" + "](u)".repeat(n);
+            case "nestedEmphasisAndImagesInterleaved":
+                return "*![".repeat(n / 2) + "x" + "](u)*".repeat(n / 2);
+            default:
+                throw new IllegalArgumentException("Unknown input " + input);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.commonmark.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.markdown.MarkdownRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Rendering of an already parsed document, for each of the renderers. */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class RendererBenchmark {
+
+    private static final Node SPEC_NODE = Parser.builder().build().parse(BenchmarkInputs.SPEC);
+    private static final Node LONG_LINES_NODE =
+            Parser.builder().build().parse(BenchmarkInputs.LONG_LINES);
+    private static final Node SMALL_NODE =
+            Parser.builder().build().parse("Thanks, *that* fixed it! See [here](/issues/1).");
+
+    private static final HtmlRenderer HTML_RENDERER = HtmlRenderer.builder().build();
+    private static final HtmlRenderer REUSING_HTML_RENDERER =
+            HtmlRenderer.builder().reuseRendererState(true).build();
+    private static final MarkdownRenderer MARKDOWN_RENDERER = MarkdownRenderer.builder().build();
+    private static final TextContentRenderer TEXT_CONTENT_RENDERER =
+            TextContentRenderer.builder().build();
+
+    private static final OutputStream OUTPUT_STREAM = OutputStream.nullOutputStream();
+
+    public static void main(String[] args) throws Exception {
+        Options options =
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(RendererBenchmark.class.getName() + ".*")
+                        .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public String renderHtml() {
+        return HTML_RENDERER.render(SPEC_NODE);
+    }
+
+    @Benchmark
+    public void renderHtmlAndEncode() throws IOException {
+        OUTPUT_STREAM.write(HTML_RENDERER.render(SPEC_NODE).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void renderHtmlToOutputStream() throws IOException {
+        HTML_RENDERER.render(SPEC_NODE, OUTPUT_STREAM);
+    }
+
+    @Benchmark
+    public String renderHtmlLongLines() {
+        return HTML_RENDERER.render(LONG_LINES_NODE);
+    }
+
+    @Benchmark
+    public String renderHtmlSmall() {
+        return HTML_RENDERER.render(SMALL_NODE);
+    }
+
+    @Benchmark
+    public String renderHtmlSmallReusingState() {
+        return REUSING_HTML_RENDERER.render(SMALL_NODE);
+    }
+
+    @Benchmark
+    public String renderMarkdown() {
+        return MARKDOWN_RENDERER.render(SPEC_NODE);
+    }
+
+    @Benchmark
+    public String renderTextContent() {
+        return TEXT_CONTENT_RENDERER.render(SPEC_NODE);
+    }
+}
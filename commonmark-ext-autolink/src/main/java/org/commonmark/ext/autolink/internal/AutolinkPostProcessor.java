@@ -3,13 +3,13 @@ package org.commonmark.ext.autolink.internal;
 import java.util.*;
 import org.commonmark.ext.autolink.AutolinkType;
 import org.commonmark.node.*;
-import org.commonmark.parser.PostProcessor;
+import org.commonmark.parser.NodePostProcessor;
 import org.nibor.autolink.LinkExtractor;
 import org.nibor.autolink.LinkSpan;
 import org.nibor.autolink.LinkType;
 import org.nibor.autolink.Span;
 
-public class AutolinkPostProcessor implements PostProcessor {
+public class AutolinkPostProcessor implements NodePostProcessor {
 
     private final LinkExtractor linkExtractor;
 
@@ -41,10 +41,28 @@ public class AutolinkPostProcessor implements PostProcessor {
     }
 
     @Override
-    public Node process(Node node) {
-        AutolinkVisitor autolinkVisitor = new AutolinkVisitor();
-        node.accept(autolinkVisitor);
-        return node;
+    public Set<Class<? extends Node>> getNodeTypes() {
+        return Set.of(Text.class);
+    }
+
+    @Override
+    public void processNode(Node node) {
+        Text text = (Text) node;
+        if (!isInLink(text)) {
+            linkify(text);
+        }
+    }
+
+    private static boolean isInLink(Node node) {
+        // Links are inline nodes, so there can't be any above a block
+        for (Node parent = node.getParent();
+                parent != null && !(parent instanceof Block);
+                parent = parent.getParent()) {
+            if (parent instanceof Link) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void linkify(Text originalTextNode) {
@@ -108,22 +126,4 @@ public class AutolinkPostProcessor implements PostProcessor {
         insertAfterNode.insertAfter(node);
         return node;
     }
-
-    private class AutolinkVisitor extends AbstractVisitor {
-        int inLink = 0;
-
-        @Override
-        public void visit(Link link) {
-            inLink++;
-            super.visit(link);
-            inLink--;
-        }
-
-        @Override
-        public void visit(Text text) {
-            if (inLink == 0) {
-                linkify(text);
-            }
-        }
-    }
 }
@@ -8,6 +8,7 @@ import org.commonmark.ext.gfm.strikethrough.internal.StrikethroughMarkdownNodeRe
 import org.commonmark.ext.gfm.strikethrough.internal.StrikethroughTextContentNodeRenderer;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
+import org.commonmark.renderer.html.HtmlNodeRendererFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.renderer.markdown.MarkdownNodeRendererContext;
 import org.commonmark.renderer.markdown.MarkdownNodeRendererFactory;
@@ -77,7 +78,8 @@ public class StrikethroughExtension
 
     @Override
     public void extend(HtmlRenderer.Builder rendererBuilder) {
-        rendererBuilder.nodeRendererFactory(StrikethroughHtmlNodeRenderer::new);
+        rendererBuilder.nodeRendererFactory(
+                HtmlNodeRendererFactory.stateless(StrikethroughHtmlNodeRenderer::new));
     }
 
     @Override
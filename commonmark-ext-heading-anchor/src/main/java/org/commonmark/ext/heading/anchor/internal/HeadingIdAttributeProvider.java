@@ -3,6 +3,7 @@ package org.commonmark.ext.heading.anchor.internal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.commonmark.ext.heading.anchor.IdGenerator;
 import org.commonmark.node.*;
 import org.commonmark.renderer.html.AttributeProvider;
@@ -21,6 +22,11 @@ public class HeadingIdAttributeProvider implements AttributeProvider {
         return new HeadingIdAttributeProvider(defaultId, prefix, suffix);
     }
 
+    @Override
+    public Set<Class<? extends Node>> getNodeTypes() {
+        return Set.of(Heading.class);
+    }
+
     @Override
     public void setAttributes(Node node, String tagName, final Map<String, String> attributes) {
 
@@ -16,6 +16,11 @@ public class ImageAttributesAttributeProvider implements AttributeProvider {
         return new ImageAttributesAttributeProvider();
     }
 
+    @Override
+    public Set<Class<? extends Node>> getNodeTypes() {
+        return Set.of(Image.class);
+    }
+
     @Override
     public void setAttributes(Node node, String tagName, final Map<String, String> attributes) {
         if (node instanceof Image) {
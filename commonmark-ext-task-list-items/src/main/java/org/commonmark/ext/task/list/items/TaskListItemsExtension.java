@@ -7,6 +7,7 @@ import org.commonmark.ext.task.list.items.internal.TaskListItemMarkdownNodeRende
 import org.commonmark.ext.task.list.items.internal.TaskListItemPostProcessor;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
+import org.commonmark.renderer.html.HtmlNodeRendererFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.renderer.markdown.MarkdownNodeRendererContext;
 import org.commonmark.renderer.markdown.MarkdownNodeRendererFactory;
@@ -39,7 +40,8 @@ public class TaskListItemsExtension
 
     @Override
     public void extend(HtmlRenderer.Builder rendererBuilder) {
-        rendererBuilder.nodeRendererFactory(TaskListItemHtmlNodeRenderer::new);
+        rendererBuilder.nodeRendererFactory(
+                HtmlNodeRendererFactory.stateless(TaskListItemHtmlNodeRenderer::new));
     }
 
     @Override
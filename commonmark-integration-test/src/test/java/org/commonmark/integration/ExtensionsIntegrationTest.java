@@ -1,6 +1,15 @@
 package org.commonmark.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.task.list.items.TaskListItemsExtension;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
 import org.commonmark.parser.Parser;
+import org.commonmark.parser.ParserMetrics;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.RenderingTestCase;
 import org.junit.jupiter.api.Test;
@@ -42,6 +51,49 @@ public class ExtensionsIntegrationTest extends RenderingTestCase {
                 """);
     }
 
+    @Test
+    public void testPostProcessorOrder() {
+        // Autolink processes the text before the task list item marker is removed from it, so the
+        // result has an empty text node. The fused post-processors must give the same result as
+        // running them one after another.
+        var input = "- [x] www.example.com foo\n";
+        var expected =
+                "Document[BulletList[ListItem[TaskListItemMarker[], Paragraph[Text(), "
+                        + "Link[Text(www.example.com)], Text( foo)]]]]";
+
+        assertThat(tree(PARSER.parse(input))).isEqualTo(expected);
+
+        var autolink = List.of(AutolinkExtension.create());
+        var taskListItems = List.of(TaskListItemsExtension.create());
+        var sequential =
+                Parser.builder()
+                        .extensions(autolink)
+                        // Not a node post-processor, so the ones before and after aren't fused
+                        .postProcessor(node -> node)
+                        .extensions(taskListItems)
+                        .build();
+        assertThat(tree(sequential.parse(input))).isEqualTo(expected);
+
+        var withMetrics =
+                Parser.builder()
+                        .extensions(autolink)
+                        .extensions(taskListItems)
+                        .metrics(new ParserMetrics() {})
+                        .build();
+        assertThat(tree(withMetrics.parse(input))).isEqualTo(expected);
+    }
+
+    private static String tree(Node node) {
+        if (node instanceof Text) {
+            return "Text(" + ((Text) node).getLiteral() + ")";
+        }
+        var children = new ArrayList<String>();
+        for (var child = node.getFirstChild(); child != null; child = child.getNext()) {
+            children.add(tree(child));
+        }
+        return node.getClass().getSimpleName() + "[" + String.join(", ", children) + "]";
+    }
+
     @Override
     protected String render(String source) {
         return RENDERER.render(PARSER.parse(source));
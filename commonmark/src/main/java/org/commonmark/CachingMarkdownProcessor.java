@@ -0,0 +1,257 @@
+package org.commonmark;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.Renderer;
+
+/**
+ * Parses and renders input text, caching the rendered output for input that was already processed.
+ * Useful when the same snippets are rendered again and again (e.g. templates or comments). Example:
+ *
+ * <pre><code>
+ * CachingMarkdownProcessor processor = CachingMarkdownProcessor.builder()
+ *         .parser(Parser.builder().build())
+ *         .renderer(HtmlRenderer.builder().build())
+ *         .maximumWeight(10_000_000)
+ *         .build();
+ * String html = processor.process("*hello*");
+ * </code></pre>
+ *
+ * Only the rendered output is cached, not the parsed nodes, because nodes are mutable. The cache is
+ * keyed by the input text, so a processor (and its cache) is specific to the configured parser and
+ * renderer. Entries are weighed by the length of their input and output, and the least recently
+ * used ones are evicted when the total weight exceeds the {@link Builder#maximumWeight maximum}.
+ *
+ * <p>This class is thread-safe as long as the parser and renderer are (which is the case for the
+ * ones of this library). The input is parsed and rendered outside of the lock, so concurrent misses
+ * for the same input may process it more than once.
+ */
+public class CachingMarkdownProcessor {
+
+    private final Parser parser;
+    private final Renderer renderer;
+    private final long maximumWeight;
+
+    // Access-ordered, so iteration starts with the least recently used entry
+    private final LinkedHashMap<String, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    private CachingMarkdownProcessor(Builder builder) {
+        this.parser = Objects.requireNonNull(builder.parser, "parser must not be null");
+        this.renderer = Objects.requireNonNull(builder.renderer, "renderer must not be null");
+        this.maximumWeight = builder.maximumWeight;
+    }
+
+    /**
+     * Create a new builder for configuring a {@link CachingMarkdownProcessor}.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse and render the input text, or return the cached output if the same input was processed
+     * before.
+     *
+     * @param input the text to process - must not be null
+     * @return the rendered output
+     */
+    public String process(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+        synchronized (cache) {
+            var output = cache.get(input);
+            if (output != null) {
+                hitCount++;
+                return output;
+            }
+            missCount++;
+        }
+
+        var output = renderer.render(parser.parse(input));
+
+        long entryWeight = weigh(input, output);
+        if (entryWeight <= maximumWeight) {
+            synchronized (cache) {
+                var previous = cache.put(input, output);
+                if (previous != null) {
+                    weight -= weigh(input, previous);
+                }
+                weight += entryWeight;
+                evict();
+            }
+        }
+        return output;
+    }
+
+    /** Remove all entries from the cache. The statistics are kept. */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of the cache
+     */
+    public Stats getStats() {
+        synchronized (cache) {
+            return new Stats(cache.size(), weight, hitCount, missCount, evictionCount);
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, String>> iterator = cache.entrySet().iterator();
+        while (weight > maximumWeight && iterator.hasNext()) {
+            var entry = iterator.next();
+            weight -= weigh(entry.getKey(), entry.getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long weigh(String input, String output) {
+        return (long) input.length() + output.length();
+    }
+
+    /** Statistics of the cache of a {@link CachingMarkdownProcessor}. */
+    public static final class Stats {
+
+        private final int size;
+        private final long weight;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        private Stats(int size, long weight, long hitCount, long missCount, long evictionCount) {
+            this.size = size;
+            this.weight = weight;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of entries in the cache
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the total weight of the entries in the cache (number of characters of their input
+         *     and output)
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        /**
+         * @return the number of times the output was returned from the cache
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of times the input had to be parsed and rendered
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of entries that were removed to stay within the maximum weight
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the ratio of hits to all requests, or 0 if there weren't any
+         */
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{"
+                    + "size="
+                    + size
+                    + ", weight="
+                    + weight
+                    + ", hitCount="
+                    + hitCount
+                    + ", missCount="
+                    + missCount
+                    + ", evictionCount="
+                    + evictionCount
+                    + "}";
+        }
+    }
+
+    /**
+     * Builder for configuring a {@link CachingMarkdownProcessor}. See methods for default
+     * configuration.
+     */
+    public static class Builder {
+
+        private Parser parser;
+        private Renderer renderer;
+        private long maximumWeight = 1_000_000;
+
+        /**
+         * @return the configured {@link CachingMarkdownProcessor}
+         */
+        public CachingMarkdownProcessor build() {
+            return new CachingMarkdownProcessor(this);
+        }
+
+        /**
+         * @param parser the parser to use for the input - required
+         * @return {@code this}
+         */
+        public Builder parser(Parser parser) {
+            this.parser = Objects.requireNonNull(parser, "parser must not be null");
+            return this;
+        }
+
+        /**
+         * @param renderer the renderer to use for the parsed nodes, e.g. an {@link
+         *     org.commonmark.renderer.html.HtmlRenderer} - required
+         * @return {@code this}
+         */
+        public Builder renderer(Renderer renderer) {
+            this.renderer = Objects.requireNonNull(renderer, "renderer must not be null");
+            return this;
+        }
+
+        /**
+         * Set the maximum total weight of the cache, where the weight of an entry is the number of
+         * characters of its input and output. Entries that are heavier than the maximum on their
+         * own are not cached.
+         *
+         * <p>By default, this is 1,000,000 (so about 2 MB of strings, plus overhead).
+         *
+         * @param maximumWeight the maximum weight, 0 to disable caching
+         * @return {@code this}
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight must not be negative");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+    }
+}
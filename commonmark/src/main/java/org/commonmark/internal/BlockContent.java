@@ -1,5 +1,7 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.CharSequenceView;
+
 class BlockContent {
 
     private final StringBuilder sb;
@@ -18,7 +20,7 @@ class BlockContent {
         if (lineCount != 0) {
             sb.append('\n');
         }
-        sb.append(line);
+        CharSequenceView.appendTo(sb, line);
         lineCount++;
     }
 
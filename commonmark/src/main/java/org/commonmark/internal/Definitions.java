@@ -1,5 +1,6 @@
 package org.commonmark.internal;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import org.commonmark.node.DefinitionMap;
@@ -17,6 +18,21 @@ public class Definitions {
         }
     }
 
+    /** Add copies of all definitions of {@code other}, so that it's not modified later. */
+    public void addAll(Definitions other) {
+        for (var definitionMap : other.definitionsByType.values()) {
+            addCopy(definitionMap);
+        }
+    }
+
+    public void clear() {
+        definitionsByType.clear();
+    }
+
+    public Collection<DefinitionMap<?>> getDefinitionMaps() {
+        return definitionsByType.values();
+    }
+
     public <V> V getDefinition(Class<V> type, String label) {
         var definitionMap = getMap(type);
         if (definitionMap == null) {
@@ -25,6 +41,12 @@ public class Definitions {
         return definitionMap.get(label);
     }
 
+    private <D> void addCopy(DefinitionMap<D> definitionMap) {
+        var copy = new DefinitionMap<>(definitionMap.getType());
+        copy.addAll(definitionMap);
+        addDefinitions(copy);
+    }
+
     private <V> DefinitionMap<V> getMap(Class<V> type) {
         //noinspection unchecked
         return (DefinitionMap<V>) definitionsByType.get(type);
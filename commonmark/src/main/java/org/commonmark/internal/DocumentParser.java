@@ -2,12 +2,29 @@ package org.commonmark.internal;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.commonmark.internal.util.AsciiByteSequence;
+import org.commonmark.internal.util.BatchProcessor;
+import org.commonmark.internal.util.CharSequenceView;
+import org.commonmark.internal.util.LineBreakFinder;
 import org.commonmark.internal.util.LineReader;
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.Utf8ChannelDecoder;
 import org.commonmark.node.*;
 import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.InlineParser;
+import org.commonmark.parser.InlineParserContext;
 import org.commonmark.parser.InlineParserFactory;
+import org.commonmark.parser.ParserMetrics;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.beta.InlineContentParserFactory;
@@ -43,11 +60,29 @@ public class DocumentParser implements ParserState {
         NODES_TO_CORE_FACTORIES = Collections.unmodifiableMap(map);
     }
 
+    /**
+     * How many block parsers are handed to a worker at once when parsing inlines concurrently. Most
+     * blocks are small, so this is also the minimum amount of work that is worth handing off.
+     */
+    private static final int INLINE_CHUNK_SIZE = 64;
+
+    /**
+     * Minimum length of a chunk of input when parsing blocks concurrently. Finding the chunks and
+     * stitching them together has a cost too, so smaller chunks are not worth it.
+     */
+    private static final int MIN_BLOCK_CHUNK_LENGTH = 64 * 1024;
+
     private SourceLine line;
 
     /** Line index (0-based) */
     private int lineIndex = -1;
 
+    /**
+     * Index in the input where the parsed text starts, see {@link #parse(String, int, int,
+     * Definitions)}
+     */
+    private int inputIndexOffset = 0;
+
     /** current index (offset) in input line (0-based) */
     private int index = 0;
 
@@ -71,12 +106,47 @@ public class DocumentParser implements ParserState {
     private final IncludeSourceSpans includeSourceSpans;
     private final int maxOpenBlockParsers;
     private final int maxInlineNesting;
-    private final DocumentBlockParser documentBlockParser;
+    private final Executor inlineParserExecutor;
+    private final int inlineParallelism;
+    private final Executor blockParserExecutor;
+    private final int blockParallelism;
+
+    /** The metrics to report to, or null. The fields after it are only used if it's set. */
+    private final ParserMetrics metrics;
+
+    private long parseStartNanos;
+    private int parseStartLineIndex;
+    // For each block parser factory, how often it was tried and how often it started a block
+    private final int[] blockStartAttempts;
+    private final int[] blockStarts;
+
+    /**
+     * Whether only the built-in block parser factories are used, whose block starts don't depend on
+     * what else is open, see {@link #canStartChunkAfter()}
+     */
+    private final boolean onlyCoreBlockParserFactories;
+
+    private DocumentBlockParser documentBlockParser;
     private final Definitions definitions = new Definitions();
 
     private final List<OpenBlockParser> openBlockParsers = new ArrayList<>();
     private final List<BlockParser> allBlockParsers = new ArrayList<>();
 
+    /** Whether any of the block parsers had definitions */
+    private boolean hasParsedDefinitions;
+
+    /** When parsing block by block, receives each top-level block once it's complete. */
+    private Consumer<Node> topLevelBlockConsumer;
+
+    /**
+     * The inline parser used for all blocks, created when it's first needed. The built-in one is
+     * kept for the next document when this parser is reused, see {@link #reset()}.
+     */
+    private InlineParser inlineParser;
+
+    /** For parsing files, kept when this parser is reused as it has a buffer for reading. */
+    private Utf8ChannelDecoder channelDecoder;
+
     public DocumentParser(
             List<BlockParserFactory> blockParserFactories,
             InlineParserFactory inlineParserFactory,
@@ -86,7 +156,12 @@ public class DocumentParser implements ParserState {
             Set<Character> linkMarkers,
             IncludeSourceSpans includeSourceSpans,
             int maxOpenBlockParsers,
-            int maxInlineNesting) {
+            int maxInlineNesting,
+            Executor inlineParserExecutor,
+            int inlineParallelism,
+            Executor blockParserExecutor,
+            int blockParallelism,
+            ParserMetrics metrics) {
         this.blockParserFactories = blockParserFactories;
         this.inlineParserFactory = inlineParserFactory;
         this.inlineContentParserFactories = inlineContentParserFactories;
@@ -96,11 +171,64 @@ public class DocumentParser implements ParserState {
         this.includeSourceSpans = includeSourceSpans;
         this.maxOpenBlockParsers = maxOpenBlockParsers;
         this.maxInlineNesting = maxInlineNesting;
+        this.inlineParserExecutor = inlineParserExecutor;
+        this.inlineParallelism = inlineParallelism;
+        this.blockParserExecutor = blockParserExecutor;
+        this.blockParallelism = blockParallelism;
+        this.metrics = metrics;
+        this.blockStartAttempts = metrics != null ? new int[blockParserFactories.size()] : null;
+        this.blockStarts = metrics != null ? new int[blockParserFactories.size()] : null;
+
+        boolean onlyCore = true;
+        for (var factory : blockParserFactories) {
+            if (!NODES_TO_CORE_FACTORIES.containsValue(factory)) {
+                onlyCore = false;
+                break;
+            }
+        }
+        this.onlyCoreBlockParserFactories = onlyCore;
 
         this.documentBlockParser = new DocumentBlockParser();
         activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
     }
 
+    /**
+     * Reset the state so that this parser can be used for another document. This also drops all
+     * references to the previous document and its input.
+     */
+    public void reset() {
+        line = null;
+        lineIndex = -1;
+        inputIndexOffset = 0;
+        index = 0;
+        column = 0;
+        columnIsInTab = false;
+        nextNonSpace = 0;
+        nextNonSpaceColumn = 0;
+        indent = 0;
+        blank = false;
+        openBlockParsers.clear();
+        allBlockParsers.clear();
+        definitions.clear();
+        hasParsedDefinitions = false;
+        topLevelBlockConsumer = null;
+        if (metrics != null) {
+            Arrays.fill(blockStartAttempts, 0);
+            Arrays.fill(blockStarts, 0);
+        }
+        // The built-in inline parser is reset for each block, and it only refers to the definitions
+        // (which were cleared). Other ones might expect to be created for each document.
+        if (inlineParser == null || inlineParser.getClass() != InlineParserImpl.class) {
+            inlineParser = null;
+        } else {
+            // Not taken when parsing block by block
+            takeMaxDelimiters(inlineParser);
+        }
+
+        documentBlockParser = new DocumentBlockParser();
+        activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
+    }
+
     public static Set<Class<? extends Block>> getDefaultBlockParserTypes() {
         return CORE_FACTORY_TYPES;
     }
@@ -130,29 +258,308 @@ public class DocumentParser implements ParserState {
     }
 
     /** The main parsing function. Returns a parsed document AST. */
-    public Document parse(String input) {
-        int lineStart = 0;
+    public Document parse(String source) {
+        return parseInput(prepareInput(source));
+    }
+
+    /**
+     * Parse UTF-8 input. If it's all ASCII (which most Markdown is), the lines are views of the
+     * bytes (see {@link AsciiByteSequence}), so that only the characters that end up in nodes are
+     * copied. Otherwise it's decoded into a {@link String} first.
+     */
+    public Document parse(byte[] input, int offset, int length) {
+        if (AsciiByteSequence.isAscii(input, offset, length)) {
+            return parseInput(new AsciiByteSequence(input, offset, length));
+        }
+        return parse(new String(input, offset, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse the rest of the file channel, decoded as UTF-8 (see {@link Utf8ChannelDecoder}). The
+     * lines are views of the decoded characters, same as for a {@link String}.
+     */
+    public Document parse(FileChannel channel) throws IOException {
+        if (channelDecoder == null) {
+            channelDecoder = new Utf8ChannelDecoder();
+        }
+        CharSequence input = channelDecoder.decode(channel);
+        if (input instanceof String) {
+            return parse((String) input);
+        }
+        // Same as prepareInput, but the buffer is ours to change
+        var buffer = (CharBuffer) input;
+        char[] chars = buffer.array();
+        int end = buffer.arrayOffset() + buffer.limit();
+        for (int i = buffer.arrayOffset(); i < end; i++) {
+            if (chars[i] == '\0') {
+                chars[i] = '\uFFFD';
+            }
+        }
+        return parseInput(buffer);
+    }
+
+    private Document parseInput(CharSequence input) {
+        startMetrics();
+        if (blockParserExecutor != null && topLevelBlockConsumer == null) {
+            var chunks = findChunks(input);
+            if (chunks.size() > 1) {
+                parseChunksConcurrently(input, chunks);
+                return finalizeAndProcess();
+            }
+        }
+        parseLines(input, 0, input.length());
+        return finalizeAndProcess();
+    }
+
+    /**
+     * Parse the lines of the input from {@code start} (the start of a line) to {@code end} (the
+     * start of a line or the end of the input).
+     */
+    private void parseLines(CharSequence input, int start, int end) {
+        // Lines are views of the input instead of copies, see CharSequenceView
+        var lineBreaks = new LineBreakFinder(input);
+        int lineStart = start;
         int lineBreak;
-        while ((lineBreak = Characters.findLineBreak(input, lineStart)) != -1) {
-            String line = input.substring(lineStart, lineBreak);
-            parseLine(line, lineStart);
-            if (lineBreak + 1 < input.length()
-                    && input.charAt(lineBreak) == '\r'
-                    && input.charAt(lineBreak + 1) == '\n') {
-                lineStart = lineBreak + 2;
+        while (lineStart < end && (lineBreak = lineBreaks.find(lineStart)) != -1) {
+            CharSequence line = CharSequenceView.of(input, lineStart, lineBreak);
+            parseLine(line, inputIndexOffset + lineStart);
+            lineStart = afterLineBreak(input, lineBreak);
+        }
+        if (lineStart < end) {
+            CharSequence line = CharSequenceView.of(input, lineStart, end);
+            parseLine(line, inputIndexOffset + lineStart);
+        }
+    }
+
+    /**
+     * Split the input into chunks for parsing blocks concurrently. A chunk starts at a line that
+     * follows a blank line and can't continue a block from before it, at least not a block that
+     * would be open after a blank line at the top level: It starts at column 0, and not with a list
+     * item or block quote marker. Lines in fenced code blocks that start at column 0 are skipped
+     * too. Whether the blocks before a chunk really end there is only known once they are parsed,
+     * see {@link #canStartChunkAfter()}.
+     */
+    private List<BlockChunk> findChunks(CharSequence input) {
+        if (input.length() < 2 * MIN_BLOCK_CHUNK_LENGTH || blockParallelism < 2) {
+            return List.of(new BlockChunk(0, 0));
+        }
+        // More chunks than threads, so that threads that finish early can take on more
+        int targetLength =
+                Math.max(MIN_BLOCK_CHUNK_LENGTH, input.length() / (blockParallelism * 4));
+        var chunks = new ArrayList<BlockChunk>();
+        chunks.add(new BlockChunk(0, 0));
+
+        int nextChunkStart = targetLength;
+        int lineStart = 0;
+        int lineIndex = 0;
+        boolean previousBlank = false;
+        char fenceChar = 0;
+        int fenceLength = 0;
+        var lineBreaks = new LineBreakFinder(input);
+        while (lineStart < input.length()) {
+            int lineBreak = lineBreaks.find(lineStart);
+            int lineEnd = lineBreak != -1 ? lineBreak : input.length();
+            int rest = Characters.skipSpaceTab(input, lineStart, lineEnd);
+            boolean blank = rest == lineEnd;
+            if (!blank && rest == lineStart) {
+                char c = input.charAt(lineStart);
+                if (fenceChar != 0) {
+                    int length = Characters.skip(fenceChar, input, lineStart, lineEnd) - lineStart;
+                    if (length >= fenceLength
+                            && Characters.skipSpaceTab(input, lineStart + length, lineEnd)
+                                    == lineEnd) {
+                        fenceChar = 0;
+                    }
+                } else if (c == '`' || c == '~') {
+                    int length = Characters.skip(c, input, lineStart, lineEnd) - lineStart;
+                    if (length >= 3) {
+                        fenceChar = c;
+                        fenceLength = length;
+                    }
+                } else if (previousBlank
+                        && lineStart >= nextChunkStart
+                        && input.length() - lineStart >= MIN_BLOCK_CHUNK_LENGTH
+                        && canStartChunk(c)) {
+                    chunks.get(chunks.size() - 1).end = lineStart;
+                    chunks.add(new BlockChunk(lineStart, lineIndex));
+                    nextChunkStart = lineStart + targetLength;
+                }
+            }
+            previousBlank = blank;
+            lineIndex++;
+            lineStart = lineBreak != -1 ? afterLineBreak(input, lineBreak) : input.length();
+        }
+        chunks.get(chunks.size() - 1).end = input.length();
+        return chunks;
+    }
+
+    private static boolean canStartChunk(char c) {
+        switch (c) {
+            case '>':
+            case '-':
+            case '+':
+            case '*':
+            case '=':
+                return false;
+            default:
+                return c < '0' || c > '9';
+        }
+    }
+
+    /**
+     * Parse the blocks of each chunk with a separate parser (in parallel), and then stitch them
+     * together in this parser. If the blocks before a chunk don't end where the chunk starts, the
+     * chunk is parsed again, continuing from the blocks before it.
+     */
+    private void parseChunksConcurrently(CharSequence input, List<BlockChunk> chunks) {
+        int firstLineIndex = lineIndex + 1;
+        List<DocumentParser> chunkParsers =
+                BatchProcessor.process(
+                        chunks,
+                        () ->
+                                chunk -> {
+                                    var chunkParser = createChunkParser();
+                                    chunkParser.lineIndex = firstLineIndex + chunk.lineIndex - 1;
+                                    chunkParser.inputIndexOffset = inputIndexOffset;
+                                    chunkParser.parseLines(input, chunk.start, chunk.end);
+                                    return chunkParser;
+                                },
+                        blockParserExecutor,
+                        blockParallelism);
+
+        for (int i = 0; i < chunks.size(); i++) {
+            if (canStartChunkAfter()) {
+                addChunk(chunkParsers.get(i));
             } else {
-                lineStart = lineBreak + 1;
+                var chunk = chunks.get(i);
+                parseLines(input, chunk.start, chunk.end);
             }
         }
-        if (!input.isEmpty() && (lineStart == 0 || lineStart < input.length())) {
-            String line = input.substring(lineStart);
-            parseLine(line, lineStart);
+    }
+
+    private DocumentParser createChunkParser() {
+        return new DocumentParser(
+                blockParserFactories,
+                inlineParserFactory,
+                inlineContentParserFactories,
+                delimiterProcessors,
+                linkProcessors,
+                linkMarkers,
+                includeSourceSpans,
+                maxOpenBlockParsers,
+                maxInlineNesting,
+                null,
+                1,
+                null,
+                1,
+                metrics);
+    }
+
+    /**
+     * Whether the first line of a chunk (see {@link #findChunks}) would close all blocks that are
+     * open now, and start the same blocks as when parsing the chunk on its own.
+     */
+    private boolean canStartChunkAfter() {
+        if (openBlockParsers.size() == 1) {
+            return true;
+        }
+        // Block starts are only tried if there aren't too many open block parsers, which includes
+        // the ones that are about to be closed.
+        if ((openBlockParsers.size() > maxOpenBlockParsers) != (1 > maxOpenBlockParsers)) {
+            return false;
+        }
+        // Custom factories could see that blocks are still open when they try to start a block
+        // (e.g. in the matched or active block parser), the built-in ones don't.
+        if (!onlyCoreBlockParserFactories) {
+            return false;
         }
+        // After a blank line, the only built-in blocks that can be open at the top level are these
+        // (others might be open in them). An indented code block or block quote doesn't continue
+        // at the first line of a chunk. A list block does, but it's closed when the block for the
+        // line starts, as that's not a list item.
+        var type = openBlockParsers.get(1).blockParser.getClass();
+        return type == IndentedCodeBlockParser.class
+                || type == BlockQuoteParser.class
+                || type == ListBlockParser.class;
+    }
 
-        return finalizeAndProcess();
+    /**
+     * Continue with the state of the parser of the next chunk: Close the blocks that its first line
+     * closes, take over its blocks, and then continue where it stopped.
+     */
+    private void addChunk(DocumentParser chunkParser) {
+        closeBlockParsers(openBlockParsers.size() - 1);
+
+        Node document = documentBlockParser.getBlock();
+        Node node = chunkParser.documentBlockParser.getBlock().getFirstChild();
+        while (node != null) {
+            Node next = node.getNext();
+            document.appendChild(node);
+            node = next;
+        }
+        allBlockParsers.addAll(chunkParser.allBlockParsers);
+        // Definitions of this parser came first, so they take precedence
+        for (var definitionMap : chunkParser.definitions.getDefinitionMaps()) {
+            definitions.addDefinitions(definitionMap);
+        }
+        hasParsedDefinitions |= chunkParser.hasParsedDefinitions;
+        var chunkOpenBlockParsers = chunkParser.openBlockParsers;
+        openBlockParsers.addAll(chunkOpenBlockParsers.subList(1, chunkOpenBlockParsers.size()));
+        lineIndex = chunkParser.lineIndex;
+        if (metrics != null) {
+            for (int i = 0; i < blockStartAttempts.length; i++) {
+                blockStartAttempts[i] += chunkParser.blockStartAttempts[i];
+                blockStarts[i] += chunkParser.blockStarts[i];
+            }
+        }
+    }
+
+    private static int afterLineBreak(CharSequence input, int lineBreak) {
+        if (lineBreak + 1 < input.length()
+                && input.charAt(lineBreak) == '\r'
+                && input.charAt(lineBreak + 1) == '\n') {
+            return lineBreak + 2;
+        }
+        return lineBreak + 1;
+    }
+
+    /**
+     * Parse a part of a larger input. The part needs to start at the beginning of a line; {@code
+     * lineIndex} and {@code inputIndex} are the position of that line in the larger input, so that
+     * source spans are relative to the larger input too. The definitions are the ones from the rest
+     * of the larger input, and are used for inline parsing in addition to the ones parsed from the
+     * part (see {@link #hasParsedDefinitions()}).
+     */
+    public Document parse(String input, int lineIndex, int inputIndex, Definitions definitions) {
+        this.lineIndex = lineIndex - 1;
+        this.inputIndexOffset = inputIndex;
+        this.definitions.addAll(definitions);
+        return parse(input);
     }
 
     public Document parse(Reader input) throws IOException {
+        startMetrics();
+        parseLines(input);
+        return finalizeAndProcess();
+    }
+
+    /**
+     * Parse the input block by block. Each top-level block (and any other top-level node such as a
+     * link reference definition) is passed to the consumer as soon as it's complete, including its
+     * inline content. Nodes are unlinked from the document before they're passed on, so the parser
+     * doesn't keep them around.
+     *
+     * <p>Because inline content is parsed before the rest of the document has been seen, only
+     * definitions that come before a block can be used by it.
+     */
+    public void parse(Reader input, Consumer<Node> topLevelNodeConsumer) throws IOException {
+        this.topLevelBlockConsumer = topLevelNodeConsumer;
+        parseLines(input);
+        closeBlockParsers(openBlockParsers.size());
+        allBlockParsers.clear();
+    }
+
+    private void parseLines(Reader input) throws IOException {
         var lineReader = new LineReader(input);
         int inputIndex = 0;
         String line;
@@ -164,8 +571,21 @@ public class DocumentParser implements ParserState {
                 inputIndex += eol.length();
             }
         }
+    }
 
-        return finalizeAndProcess();
+    /**
+     * @return all definitions known to this parser, i.e. the ones parsed so far plus any that were
+     *     passed in
+     */
+    public Definitions getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * @return whether any definitions were parsed (as opposed to passed in)
+     */
+    public boolean hasParsedDefinitions() {
+        return hasParsedDefinitions;
     }
 
     @Override
@@ -207,7 +627,7 @@ public class DocumentParser implements ParserState {
      * Analyze a line of text and update the document appropriately. We parse markdown text by
      * calling this on each line of input, then finalizing the document.
      */
-    private void parseLine(String ln, int inputIndex) {
+    private void parseLine(CharSequence ln, int inputIndex) {
         setLine(ln, inputIndex);
 
         // For each containing block, try to parse the associated line start.
@@ -349,13 +769,13 @@ public class DocumentParser implements ParserState {
         }
     }
 
-    private void setLine(String ln, int inputIndex) {
+    private void setLine(CharSequence ln, int inputIndex) {
         lineIndex++;
         index = 0;
         column = 0;
         columnIsInTab = false;
 
-        String lineContent = prepareLine(ln);
+        CharSequence lineContent = prepareLine(ln);
         SourceSpan sourceSpan = null;
         if (includeSourceSpans != IncludeSourceSpans.NONE) {
             sourceSpan = SourceSpan.of(lineIndex, 0, inputIndex, lineContent.length());
@@ -491,6 +911,9 @@ public class DocumentParser implements ParserState {
             return null;
         }
         MatchedBlockParser matchedBlockParser = new MatchedBlockParserImpl(blockParser);
+        if (metrics != null) {
+            return findBlockStartCounting(matchedBlockParser);
+        }
         for (BlockParserFactory blockParserFactory : blockParserFactories) {
             BlockStart result = blockParserFactory.tryStart(this, matchedBlockParser);
             if (result instanceof BlockStartImpl) {
@@ -500,24 +923,144 @@ public class DocumentParser implements ParserState {
         return null;
     }
 
+    /** Same as {@link #findBlockStart}, but counts the attempts and starts for the metrics. */
+    private BlockStartImpl findBlockStartCounting(MatchedBlockParser matchedBlockParser) {
+        for (int i = 0; i < blockParserFactories.size(); i++) {
+            blockStartAttempts[i]++;
+            BlockStart result = blockParserFactories.get(i).tryStart(this, matchedBlockParser);
+            if (result instanceof BlockStartImpl) {
+                blockStarts[i]++;
+                return (BlockStartImpl) result;
+            }
+        }
+        return null;
+    }
+
     /**
      * Walk through a block & children recursively, parsing string content into inline content where
      * appropriate.
+     *
+     * @return the maximum size of the delimiter stack, see {@link #takeMaxDelimiters}
      */
-    private void processInlines() {
-        var context =
-                new InlineParserContextImpl(
-                        inlineContentParserFactories,
-                        delimiterProcessors,
-                        linkProcessors,
-                        linkMarkers,
-                        maxInlineNesting,
-                        definitions);
-        var inlineParser = inlineParserFactory.create(context);
+    private int processInlines() {
+        int chunks = (allBlockParsers.size() + INLINE_CHUNK_SIZE - 1) / INLINE_CHUNK_SIZE;
+        int workers = inlineParserExecutor != null ? Math.min(inlineParallelism, chunks) : 1;
+        if (workers <= 1) {
+            var inlineParser = inlineParser();
+            for (var blockParser : allBlockParsers) {
+                blockParser.parseInlines(inlineParser);
+            }
+            return takeMaxDelimiters(inlineParser);
+        } else {
+            return processInlinesConcurrently(createInlineParserContext(), chunks, workers);
+        }
+    }
 
-        for (var blockParser : allBlockParsers) {
-            blockParser.parseInlines(inlineParser);
+    /**
+     * @return the maximum size of the delimiter stack since the last call, or 0 if the inline
+     *     parser doesn't keep track of it
+     */
+    private static int takeMaxDelimiters(InlineParser inlineParser) {
+        if (inlineParser instanceof InlineParserImpl) {
+            return ((InlineParserImpl) inlineParser).takeMaxDelimiters();
+        }
+        return 0;
+    }
+
+    private InlineParser inlineParser() {
+        if (inlineParser == null) {
+            inlineParser = inlineParserFactory.create(createInlineParserContext());
         }
+        return inlineParser;
+    }
+
+    private InlineParserContext createInlineParserContext() {
+        return new InlineParserContextImpl(
+                inlineContentParserFactories,
+                delimiterProcessors,
+                linkProcessors,
+                linkMarkers,
+                maxInlineNesting,
+                definitions);
+    }
+
+    /**
+     * Parse inlines with multiple workers. By the time this is called, all blocks are closed and
+     * all definitions are known, so each block can be parsed independently of the others. Each
+     * worker uses its own inline parser (they are stateful) and claims chunks of block parsers
+     * until there are none left.
+     *
+     * <p>The current thread works on chunks too. It then only waits for chunks that a worker has
+     * already claimed, not for workers that haven't started yet. That means this can't deadlock,
+     * even if the executor is busy (e.g. because it's the one that called the parser).
+     */
+    private int processInlinesConcurrently(InlineParserContext context, int chunks, int workers) {
+        var nextChunk = new AtomicInteger();
+        var remainingChunks = new CountDownLatch(chunks);
+        var failure = new AtomicReference<Throwable>();
+        var maxDelimiters = new AtomicInteger();
+
+        Runnable worker =
+                () -> {
+                    InlineParser inlineParser = null;
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        try {
+                            if (failure.get() == null) {
+                                if (inlineParser == null) {
+                                    inlineParser = inlineParserFactory.create(context);
+                                }
+                                int start = chunk * INLINE_CHUNK_SIZE;
+                                int end =
+                                        Math.min(start + INLINE_CHUNK_SIZE, allBlockParsers.size());
+                                for (int i = start; i < end; i++) {
+                                    allBlockParsers.get(i).parseInlines(inlineParser);
+                                }
+                                // Before counting down, so that the caller sees it after waiting
+                                maxDelimiters.accumulateAndGet(
+                                        takeMaxDelimiters(inlineParser), Math::max);
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            remainingChunks.countDown();
+                        }
+                    }
+                };
+
+        for (int i = 1; i < workers; i++) {
+            try {
+                inlineParserExecutor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // The current thread will do the remaining work.
+                break;
+            }
+        }
+        worker.run();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                remainingChunks.await();
+                break;
+            } catch (InterruptedException e) {
+                // The other workers still use the parsed blocks, so we can't stop waiting.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        var t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new IllegalStateException(t);
+        }
+        return maxDelimiters.get();
     }
 
     /**
@@ -563,8 +1106,35 @@ public class DocumentParser implements ParserState {
 
     private Document finalizeAndProcess() {
         closeBlockParsers(openBlockParsers.size());
-        processInlines();
-        return documentBlockParser.getBlock();
+        if (metrics == null) {
+            processInlines();
+            return documentBlockParser.getBlock();
+        }
+
+        var document = documentBlockParser.getBlock();
+        long blocksEnd = System.nanoTime();
+        metrics.blocksParsed(
+                document, lineIndex - parseStartLineIndex, blocksEnd - parseStartNanos);
+        for (int i = 0; i < blockStartAttempts.length; i++) {
+            if (blockStartAttempts[i] != 0) {
+                metrics.blockStarts(
+                        document,
+                        blockParserFactories.get(i),
+                        blockStartAttempts[i],
+                        blockStarts[i]);
+            }
+        }
+        long inlinesStart = System.nanoTime();
+        int maxDelimiters = processInlines();
+        metrics.inlinesParsed(document, maxDelimiters, System.nanoTime() - inlinesStart);
+        return document;
+    }
+
+    private void startMetrics() {
+        if (metrics != null) {
+            parseStartNanos = System.nanoTime();
+            parseStartLineIndex = lineIndex;
+        }
     }
 
     private void closeBlockParsers(int count) {
@@ -575,6 +1145,32 @@ public class DocumentParser implements ParserState {
             // could have a separate interface (e.g. BlockParserWithInlines) so that we only have to
             // remember those that actually have inlines to parse.
             allBlockParsers.add(blockParser);
+
+            if (topLevelBlockConsumer != null && openBlockParsers.size() == 1) {
+                emitTopLevelNodes();
+            }
+        }
+    }
+
+    /**
+     * Called when parsing block by block and a top-level block was closed. All the blocks closed
+     * since the last call belong to it, so their inlines can be parsed now.
+     */
+    private void emitTopLevelNodes() {
+        var inlineParser = inlineParser();
+        for (var blockParser : allBlockParsers) {
+            blockParser.parseInlines(inlineParser);
+        }
+        allBlockParsers.clear();
+
+        // Not just the block that was closed: closing a paragraph can also add link reference
+        // definition nodes before it, or remove the paragraph (if it only had definitions).
+        Node node = documentBlockParser.getBlock().getFirstChild();
+        while (node != null) {
+            Node next = node.getNext();
+            node.unlink();
+            topLevelBlockConsumer.accept(node);
+            node = next;
         }
     }
 
@@ -589,19 +1185,33 @@ public class DocumentParser implements ParserState {
 
     private void addDefinitionsFrom(BlockParser blockParser) {
         for (var definitionMap : blockParser.getDefinitions()) {
+            if (!definitionMap.keySet().isEmpty()) {
+                hasParsedDefinitions = true;
+            }
             definitions.addDefinitions(definitionMap);
         }
     }
 
-    /** Prepares the input line replacing {@code \0} */
-    private static String prepareLine(String line) {
-        if (line.indexOf('\0') == -1) {
-            return line;
+    /** Prepares the input replacing {@code \0} */
+    private static String prepareInput(String input) {
+        if (input.indexOf('\0') == -1) {
+            return input;
         } else {
-            return line.replace('\0', '\uFFFD');
+            return input.replace('\0', '\uFFFD');
         }
     }
 
+    /**
+     * Prepares the input line, see {@link #prepareInput} (lines from a String were prepared
+     * already)
+     */
+    private static CharSequence prepareLine(CharSequence line) {
+        if (line instanceof String) {
+            return prepareInput((String) line);
+        }
+        return line;
+    }
+
     private static class MatchedBlockParserImpl implements MatchedBlockParser {
 
         private final BlockParser matchedBlockParser;
@@ -625,6 +1235,17 @@ public class DocumentParser implements ParserState {
         }
     }
 
+    private static class BlockChunk {
+        private final int start;
+        private final int lineIndex;
+        private int end;
+
+        BlockChunk(int start, int lineIndex) {
+            this.start = start;
+            this.lineIndex = lineIndex;
+        }
+    }
+
     private static class OpenBlockParser {
         private final BlockParser blockParser;
         private int sourceIndex;
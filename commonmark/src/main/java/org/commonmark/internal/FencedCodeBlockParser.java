@@ -2,6 +2,7 @@ package org.commonmark.internal;
 
 import static org.commonmark.internal.util.Escaping.unescapeString;
 
+import org.commonmark.internal.util.CharSequenceView;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Block;
 import org.commonmark.node.FencedCodeBlock;
@@ -58,7 +59,7 @@ public class FencedCodeBlockParser extends AbstractBlockParser {
         if (firstLine == null) {
             firstLine = line.getContent().toString();
         } else {
-            otherLines.append(line.getContent());
+            CharSequenceView.appendTo(otherLines, line.getContent());
             otherLines.append('\n');
         }
     }
@@ -0,0 +1,151 @@
+package org.commonmark.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.commonmark.node.Node;
+import org.commonmark.parser.NodePostProcessor;
+import org.commonmark.parser.PostProcessor;
+
+/**
+ * Runs multiple {@link NodePostProcessor}s in a single traversal of the tree, see there for the
+ * semantics.
+ */
+public class FusedPostProcessor implements PostProcessor {
+
+    private static final int[] NONE = new int[0];
+
+    private final NodePostProcessor[] postProcessors;
+
+    // For each node type, the indexes of the post-processors for it (ascending). There are usually
+    // only a few node types, so comparing them by identity is faster than a map lookup.
+    private final Class<?>[] nodeTypes;
+    private final int[][] postProcessorIndexes;
+
+    public FusedPostProcessor(List<NodePostProcessor> postProcessors) {
+        this.postProcessors = postProcessors.toArray(new NodePostProcessor[0]);
+
+        Map<Class<?>, List<Integer>> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < this.postProcessors.length; i++) {
+            for (var nodeType : this.postProcessors[i].getNodeTypes()) {
+                indexes.computeIfAbsent(nodeType, k -> new ArrayList<>()).add(i);
+            }
+        }
+        this.nodeTypes = indexes.keySet().toArray(new Class<?>[0]);
+        this.postProcessorIndexes = new int[nodeTypes.length][];
+        int t = 0;
+        for (var list : indexes.values()) {
+            postProcessorIndexes[t++] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Combine consecutive {@link NodePostProcessor}s of the list, keeping the order of all
+     * post-processors.
+     */
+    public static List<PostProcessor> fuse(List<PostProcessor> postProcessors) {
+        var result = new ArrayList<PostProcessor>(postProcessors.size());
+        var nodePostProcessors = new ArrayList<NodePostProcessor>();
+        for (var postProcessor : postProcessors) {
+            if (postProcessor instanceof NodePostProcessor) {
+                nodePostProcessors.add((NodePostProcessor) postProcessor);
+            } else {
+                addFused(result, nodePostProcessors);
+                result.add(postProcessor);
+            }
+        }
+        addFused(result, nodePostProcessors);
+        return result;
+    }
+
+    @Override
+    public Node process(Node node) {
+        process(node, 0, postProcessors.length);
+        return node;
+    }
+
+    /**
+     * Process the node and its descendants with the post-processors from {@code from} (inclusive)
+     * to {@code to} (exclusive). A post-processor for the node is only called once the ones before
+     * it have processed all descendants of the node, so the result is the same as if each one
+     * walked the whole tree after the previous one.
+     */
+    private void process(Node node, int from, int to) {
+        process(node, from, from, to);
+    }
+
+    /**
+     * Same as {@link #process(Node, int, int)}, but for a node that the post-processors before
+     * {@code nodeFrom} were already called for (and its descendants only processed by the ones
+     * before {@code childrenFrom}).
+     */
+    private void process(Node node, int nodeFrom, int childrenFrom, int to) {
+        int done = childrenFrom;
+        for (int i : getPostProcessorIndexes(node.getClass())) {
+            if (i < nodeFrom) {
+                continue;
+            } else if (i >= to) {
+                break;
+            }
+            processChildren(node, done, i);
+            done = i;
+
+            var parent = node.getParent();
+            var previous = node.getPrevious();
+            var next = node.getNext();
+
+            postProcessors[i].processNode(node);
+
+            if (parent != null
+                    && (node.getParent() != parent
+                            || node.getPrevious() != previous
+                            || node.getNext() != next)) {
+                // The node was replaced or siblings were inserted. The new nodes are only
+                // processed by the remaining post-processors, the same as if each one walked the
+                // tree separately.
+                var n = previous != null ? previous.getNext() : parent.getFirstChild();
+                while (n != null && n != next) {
+                    var following = n.getNext();
+                    if (n == node) {
+                        process(n, i + 1, i, to);
+                    } else {
+                        process(n, i + 1, to);
+                    }
+                    n = following;
+                }
+                return;
+            }
+        }
+        processChildren(node, done, to);
+    }
+
+    private void processChildren(Node node, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        var child = node.getFirstChild();
+        while (child != null) {
+            var following = child.getNext();
+            process(child, from, to);
+            child = following;
+        }
+    }
+
+    private int[] getPostProcessorIndexes(Class<?> nodeType) {
+        for (int i = 0; i < nodeTypes.length; i++) {
+            if (nodeTypes[i] == nodeType) {
+                return postProcessorIndexes[i];
+            }
+        }
+        return NONE;
+    }
+
+    private static void addFused(
+            List<PostProcessor> result, List<NodePostProcessor> nodePostProcessors) {
+        if (!nodePostProcessors.isEmpty()) {
+            result.add(new FusedPostProcessor(nodePostProcessors));
+        }
+        nodePostProcessors.clear();
+    }
+}
@@ -0,0 +1,402 @@
+package org.commonmark.internal;
+
+/**
+ * Matches the start and end conditions of HTML blocks (types 1 to 7 in the spec) by scanning the
+ * line directly, instead of with regular expressions. The behavior is the same as the regular
+ * expressions that were used before (see {@code HtmlBlockMatcherTest}), including their ASCII-only
+ * case insensitivity and what {@code \s} and {@code $} match.
+ */
+class HtmlBlockMatcher {
+
+    private static final String[] TYPE_1_TAG_NAMES = {"script", "pre", "style", "textarea"};
+
+    private static final String[] TYPE_6_TAG_NAMES = {
+        "address",
+        "article",
+        "aside",
+        "base",
+        "basefont",
+        "blockquote",
+        "body",
+        "caption",
+        "center",
+        "col",
+        "colgroup",
+        "dd",
+        "details",
+        "dialog",
+        "dir",
+        "div",
+        "dl",
+        "dt",
+        "fieldset",
+        "figcaption",
+        "figure",
+        "footer",
+        "form",
+        "frame",
+        "frameset",
+        "h1",
+        "h2",
+        "h3",
+        "h4",
+        "h5",
+        "h6",
+        "head",
+        "header",
+        "hr",
+        "html",
+        "iframe",
+        "legend",
+        "li",
+        "link",
+        "main",
+        "menu",
+        "menuitem",
+        "nav",
+        "noframes",
+        "ol",
+        "optgroup",
+        "option",
+        "p",
+        "param",
+        "search",
+        "section",
+        "summary",
+        "table",
+        "tbody",
+        "td",
+        "tfoot",
+        "th",
+        "thead",
+        "title",
+        "tr",
+        "track",
+        "ul"
+    };
+
+    // Open addressing hash table of the type 6 tag names, see isType6TagName
+    private static final String[] TYPE_6_TABLE = new String[256];
+
+    static {
+        for (String name : TYPE_6_TAG_NAMES) {
+            int index = hash(name, 0, name.length());
+            while (TYPE_6_TABLE[index] != null) {
+                index = (index + 1) & (TYPE_6_TABLE.length - 1);
+            }
+            TYPE_6_TABLE[index] = name;
+        }
+    }
+
+    /**
+     * @param blockType the type of HTML block (1 to 7)
+     * @param s the line
+     * @param start the index of the {@code <}
+     * @return whether an HTML block of the type starts at the index
+     */
+    static boolean matchesStart(int blockType, CharSequence s, int start) {
+        switch (blockType) {
+            case 1:
+                return matchesType1Start(s, start);
+            case 2:
+                return startsWith(s, start, "<!--");
+            case 3:
+                return startsWith(s, start, "<?");
+            case 4:
+                return startsWith(s, start, "<!")
+                        && start + 2 < s.length()
+                        && s.charAt(start + 2) >= 'A'
+                        && s.charAt(start + 2) <= 'Z';
+            case 5:
+                return startsWith(s, start, "<![CDATA[");
+            case 6:
+                return matchesType6Start(s, start);
+            case 7:
+                return matchesType7Start(s, start);
+            default:
+                throw new IllegalArgumentException("Unknown HTML block type " + blockType);
+        }
+    }
+
+    /**
+     * @param blockType the type of HTML block (1 to 5, the others end at a blank line)
+     * @param s the line
+     * @return whether the line contains the end of an HTML block of the type
+     */
+    static boolean matchesEnd(int blockType, CharSequence s) {
+        switch (blockType) {
+            case 1:
+                return containsType1End(s);
+            case 2:
+                return indexOf(s, "-->") != -1;
+            case 3:
+                return indexOf(s, "?>") != -1;
+            case 4:
+                return indexOf(s, ">") != -1;
+            case 5:
+                return indexOf(s, "]]>") != -1;
+            default:
+                throw new IllegalArgumentException("HTML block type " + blockType + " has no end");
+        }
+    }
+
+    // ^<(?:script|pre|style|textarea)(?:\s|>|$)
+    private static boolean matchesType1Start(CharSequence s, int start) {
+        int nameStart = start + 1;
+        int nameEnd = skipAlphanumeric(s, nameStart);
+        if (!isType1TagName(s, nameStart, nameEnd)) {
+            return false;
+        }
+        return nameEnd < s.length() && (isSpace(s.charAt(nameEnd)) || s.charAt(nameEnd) == '>')
+                || isEnd(s, nameEnd);
+    }
+
+    // </(?:script|pre|style|textarea)> anywhere
+    private static boolean containsType1End(CharSequence s) {
+        int length = s.length();
+        for (int i = 0; i < length - 1; i++) {
+            if (s.charAt(i) == '<' && s.charAt(i + 1) == '/') {
+                int nameStart = i + 2;
+                int nameEnd = skipAlphanumeric(s, nameStart);
+                if (nameEnd < length
+                        && s.charAt(nameEnd) == '>'
+                        && isType1TagName(s, nameStart, nameEnd)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ^</?(?:address|article|...)(?:\s|[/]?[>]|$)
+    private static boolean matchesType6Start(CharSequence s, int start) {
+        int nameStart = start + 1;
+        if (nameStart < s.length() && s.charAt(nameStart) == '/') {
+            nameStart++;
+        }
+        int nameEnd = skipAlphanumeric(s, nameStart);
+        if (!isType6TagName(s, nameStart, nameEnd)) {
+            return false;
+        }
+        int length = s.length();
+        if (nameEnd < length) {
+            char c = s.charAt(nameEnd);
+            if (isSpace(c)
+                    || c == '>'
+                    || (c == '/' && nameEnd + 1 < length && s.charAt(nameEnd + 1) == '>')) {
+                return true;
+            }
+        }
+        return isEnd(s, nameEnd);
+    }
+
+    // ^(?:OPENTAG|CLOSETAG)\s*$
+    private static boolean matchesType7Start(CharSequence s, int start) {
+        int length = s.length();
+        int i = start + 1;
+        boolean closing = i < length && s.charAt(i) == '/';
+        if (closing) {
+            i++;
+        }
+
+        // [A-Za-z][A-Za-z0-9-]*
+        if (i >= length || !isLetter(s.charAt(i))) {
+            return false;
+        }
+        i++;
+        while (i < length && (isAlphanumeric(s.charAt(i)) || s.charAt(i) == '-')) {
+            i++;
+        }
+
+        if (!closing) {
+            // Attributes, possessively: (?:\s+ATTRIBUTENAME(?:\s*=\s*ATTRIBUTEVALUE)?)*+
+            while (true) {
+                int j = skipSpaces(s, i);
+                if (j == i || j >= length || !isAttributeNameStart(s.charAt(j))) {
+                    break;
+                }
+                j++;
+                while (j < length && isAttributeNameContinue(s.charAt(j))) {
+                    j++;
+                }
+                int k = skipSpaces(s, j);
+                if (k < length && s.charAt(k) == '=') {
+                    int valueEnd = attributeValueEnd(s, skipSpaces(s, k + 1));
+                    if (valueEnd != -1) {
+                        j = valueEnd;
+                    }
+                }
+                i = j;
+            }
+        }
+
+        i = skipSpaces(s, i);
+        if (!closing && i < length && s.charAt(i) == '/') {
+            i++;
+        }
+        if (i >= length || s.charAt(i) != '>') {
+            return false;
+        }
+        return isEnd(s, skipSpaces(s, i + 1));
+    }
+
+    /**
+     * @return the end of an unquoted, single-quoted or double-quoted attribute value at the index,
+     *     or -1 if there is none
+     */
+    private static int attributeValueEnd(CharSequence s, int i) {
+        int length = s.length();
+        if (i >= length) {
+            return -1;
+        }
+        char c = s.charAt(i);
+        if (c == '\'' || c == '"') {
+            for (int j = i + 1; j < length; j++) {
+                if (s.charAt(j) == c) {
+                    return j + 1;
+                }
+            }
+            return -1;
+        }
+        // [^"'=<>`\x00-\x20]+
+        int j = i;
+        while (j < length && isUnquotedValueChar(s.charAt(j))) {
+            j++;
+        }
+        return j > i ? j : -1;
+    }
+
+    private static boolean isType1TagName(CharSequence s, int start, int end) {
+        for (String name : TYPE_1_TAG_NAMES) {
+            if (equalsIgnoreCase(s, start, end, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isType6TagName(CharSequence s, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        int index = hash(s, start, end);
+        String name;
+        while ((name = TYPE_6_TABLE[index]) != null) {
+            if (equalsIgnoreCase(s, start, end, name)) {
+                return true;
+            }
+            index = (index + 1) & (TYPE_6_TABLE.length - 1);
+        }
+        return false;
+    }
+
+    private static int hash(CharSequence s, int start, int end) {
+        int hash = end - start;
+        for (int i = start; i < end; i++) {
+            hash = hash * 31 + toLowerCase(s.charAt(i));
+        }
+        return (hash ^ (hash >>> 8)) & (TYPE_6_TABLE.length - 1);
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence s, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (toLowerCase(s.charAt(i)) != lowerCase.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence s, int start, String prefix) {
+        if (s.length() - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence s, String needle) {
+        int last = s.length() - needle.length();
+        char first = needle.charAt(0);
+        for (int i = 0; i <= last; i++) {
+            if (s.charAt(i) == first && startsWith(s, i, needle)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether {@code $} (without {@code MULTILINE}) matches at the index: at the end, or before a
+     * line terminator at the end.
+     */
+    private static boolean isEnd(CharSequence s, int i) {
+        int length = s.length();
+        if (i == length) {
+            return true;
+        }
+        if (i == length - 1) {
+            char c = s.charAt(i);
+            if (c == '\n') {
+                // Not between \r and \n
+                return i == 0 || s.charAt(i - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return i == length - 2 && s.charAt(i) == '\r' && s.charAt(i + 1) == '\n';
+    }
+
+    private static int skipSpaces(CharSequence s, int i) {
+        int length = s.length();
+        while (i < length && isSpace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipAlphanumeric(CharSequence s, int i) {
+        int length = s.length();
+        while (i < length && isAlphanumeric(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // \s, which is ASCII-only by default
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    // [a-zA-Z_:]
+    private static boolean isAttributeNameStart(char c) {
+        return isLetter(c) || c == '_' || c == ':';
+    }
+
+    // [a-zA-Z0-9:._-]
+    private static boolean isAttributeNameContinue(char c) {
+        return isAlphanumeric(c) || c == ':' || c == '.' || c == '_' || c == '-';
+    }
+
+    private static boolean isUnquotedValueChar(char c) {
+        return c > ' ' && c != '"' && c != '\'' && c != '=' && c != '<' && c != '>' && c != '`';
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
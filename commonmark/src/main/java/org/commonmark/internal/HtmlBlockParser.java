@@ -1,6 +1,5 @@
 package org.commonmark.internal;
 
-import java.util.regex.Pattern;
 import org.commonmark.node.Block;
 import org.commonmark.node.HtmlBlock;
 import org.commonmark.node.Paragraph;
@@ -9,70 +8,14 @@ import org.commonmark.parser.block.*;
 
 public class HtmlBlockParser extends AbstractBlockParser {
 
-    private static final String TAGNAME = "[A-Za-z][A-Za-z0-9-]*";
-    private static final String ATTRIBUTENAME = "[a-zA-Z_:][a-zA-Z0-9:._-]*";
-    private static final String UNQUOTEDVALUE = "[^\"'=<>`\\x00-\\x20]+";
-    private static final String SINGLEQUOTEDVALUE = "'[^']*'";
-    private static final String DOUBLEQUOTEDVALUE = "\"[^\"]*\"";
-    private static final String ATTRIBUTEVALUE =
-            "(?:" + UNQUOTEDVALUE + "|" + SINGLEQUOTEDVALUE + "|" + DOUBLEQUOTEDVALUE + ")";
-    private static final String ATTRIBUTEVALUESPEC =
-            "(?:" + "\\s*=" + "\\s*" + ATTRIBUTEVALUE + ")";
-    private static final String ATTRIBUTE =
-            "(?:" + "\\s+" + ATTRIBUTENAME + ATTRIBUTEVALUESPEC + "?)";
-
-    private static final String OPENTAG = "<" + TAGNAME + ATTRIBUTE + "*+" + "\\s*/?>";
-    private static final String CLOSETAG = "</" + TAGNAME + "\\s*[>]";
-
-    private static final Pattern[][] BLOCK_PATTERNS =
-            new Pattern[][] {
-                {null, null}, // not used (no type 0)
-                {
-                    Pattern.compile(
-                            "^<(?:script|pre|style|textarea)(?:\\s|>|$)", Pattern.CASE_INSENSITIVE),
-                    Pattern.compile("</(?:script|pre|style|textarea)>", Pattern.CASE_INSENSITIVE)
-                },
-                {Pattern.compile("^<!--"), Pattern.compile("-->")},
-                {Pattern.compile("^<[?]"), Pattern.compile("\\?>")},
-                {Pattern.compile("^<![A-Z]"), Pattern.compile(">")},
-                {Pattern.compile("^<!\\[CDATA\\["), Pattern.compile("\\]\\]>")},
-                {
-                    Pattern.compile(
-                            "^</?(?:"
-                                    + "address|article|aside|"
-                                    + "base|basefont|blockquote|body|"
-                                    + "caption|center|col|colgroup|"
-                                    + "dd|details|dialog|dir|div|dl|dt|"
-                                    + "fieldset|figcaption|figure|footer|form|frame|frameset|"
-                                    + "h1|h2|h3|h4|h5|h6|head|header|hr|html|"
-                                    + "iframe|"
-                                    + "legend|li|link|"
-                                    + "main|menu|menuitem|"
-                                    + "nav|noframes|"
-                                    + "ol|optgroup|option|"
-                                    + "p|param|"
-                                    + "search|section|summary|"
-                                    + "table|tbody|td|tfoot|th|thead|title|tr|track|"
-                                    + "ul"
-                                    + ")(?:\\s|[/]?[>]|$)",
-                            Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
-                },
-                {
-                    Pattern.compile(
-                            "^(?:" + OPENTAG + '|' + CLOSETAG + ")\\s*$", Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
-                }
-            };
-
     private final HtmlBlock block = new HtmlBlock();
-    private final Pattern closingPattern;
+    private final int blockType;
 
     private boolean finished = false;
     private BlockContent content = new BlockContent();
 
-    private HtmlBlockParser(Pattern closingPattern) {
-        this.closingPattern = closingPattern;
+    private HtmlBlockParser(int blockType) {
+        this.blockType = blockType;
     }
 
     @Override
@@ -87,7 +30,7 @@ public class HtmlBlockParser extends AbstractBlockParser {
         }
 
         // Blank line ends type 6 and type 7 blocks
-        if (state.isBlank() && closingPattern == null) {
+        if (state.isBlank() && blockType >= 6) {
             return BlockContinue.none();
         } else {
             return BlockContinue.atIndex(state.getIndex());
@@ -98,7 +41,7 @@ public class HtmlBlockParser extends AbstractBlockParser {
     public void addLine(SourceLine line) {
         content.add(line.getContent());
 
-        if (closingPattern != null && closingPattern.matcher(line.getContent()).find()) {
+        if (blockType <= 5 && HtmlBlockMatcher.matchesEnd(blockType, line.getContent())) {
             finished = true;
         }
     }
@@ -126,12 +69,9 @@ public class HtmlBlockParser extends AbstractBlockParser {
                                             .canHaveLazyContinuationLines())) {
                         continue;
                     }
-                    Pattern opener = BLOCK_PATTERNS[blockType][0];
-                    Pattern closer = BLOCK_PATTERNS[blockType][1];
-                    boolean matches =
-                            opener.matcher(line.subSequence(nextNonSpace, line.length())).find();
-                    if (matches) {
-                        return BlockStart.of(new HtmlBlockParser(closer)).atIndex(state.getIndex());
+                    if (HtmlBlockMatcher.matchesStart(blockType, line, nextNonSpace)) {
+                        return BlockStart.of(new HtmlBlockParser(blockType))
+                                .atIndex(state.getIndex());
                     }
                 }
             }
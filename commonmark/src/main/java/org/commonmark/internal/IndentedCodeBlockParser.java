@@ -2,6 +2,7 @@ package org.commonmark.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.commonmark.internal.util.CharSequenceView;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Block;
 import org.commonmark.node.IndentedCodeBlock;
@@ -48,7 +49,7 @@ public class IndentedCodeBlockParser extends AbstractBlockParser {
 
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < lastNonBlank + 1; i++) {
-            sb.append(lines.get(i));
+            CharSequenceView.appendTo(sb, lines.get(i));
             sb.append('\n');
         }
 
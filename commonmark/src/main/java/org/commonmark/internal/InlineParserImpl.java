@@ -11,6 +11,7 @@ import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.beta.*;
 import org.commonmark.parser.beta.Scanner;
 import org.commonmark.parser.delimiter.DelimiterProcessor;
+import org.commonmark.text.CharMatcher;
 import org.commonmark.text.Characters;
 
 public class InlineParserImpl implements InlineParser, InlineParserState {
@@ -20,6 +21,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     private final Map<Character, DelimiterProcessor> delimiterProcessors;
     private final List<LinkProcessor> linkProcessors;
     private final BitSet specialCharacters;
+    private final CharMatcher specialCharacterMatcher;
     private final BitSet linkMarkers;
     private final int maxInlineNesting;
 
@@ -33,7 +35,24 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     // Only maintained when limitInlineNesting is set.
     private final Map<Node, Integer> nestingDepths = new IdentityHashMap<>();
 
-    private Map<Character, List<InlineContentParser>> inlineParsers;
+    /**
+     * The inline content parsers, in the same order as their factories. Parsers that are {@link
+     * ReusableInlineContentParser reusable} are kept for all snippets, the others are created again
+     * for each snippet, see {@link #reset}.
+     */
+    private final InlineContentParser[] inlineContentParsers;
+
+    /**
+     * Indexes into {@link #inlineContentParsers} for each trigger character. ASCII characters are
+     * looked up in the array, the others in the map.
+     */
+    private final int[][] asciiInlineContentParserIndexes = new int[128][];
+
+    private final Map<Character, int[]> otherInlineContentParserIndexes = new HashMap<>();
+
+    /** Same as {@link #delimiterProcessors} but for looking up ASCII characters. */
+    private final DelimiterProcessor[] asciiDelimiterProcessors = new DelimiterProcessor[128];
+
     private Scanner scanner;
     private boolean includeSourceSpans;
     private int trailingSpaces;
@@ -44,6 +63,10 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
      */
     private Delimiter lastDelimiter;
 
+    // Size of the delimiter stack, and the maximum since the last takeMaxDelimiters
+    private int delimiters;
+    private int maxDelimiters;
+
     /** Top opening bracket (<code>[</code> or <code>![)</code>). */
     private Bracket lastBracket;
 
@@ -63,6 +86,14 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                         linkMarkers,
                         this.delimiterProcessors.keySet(),
                         this.inlineContentParserFactories);
+        this.specialCharacterMatcher = specialCharacters::get;
+        this.inlineContentParsers = createInlineContentParsers();
+        for (var entry : delimiterProcessors.entrySet()) {
+            char c = entry.getKey();
+            if (c < asciiDelimiterProcessors.length) {
+                asciiDelimiterProcessors[c] = entry.getValue();
+            }
+        }
     }
 
     private List<InlineContentParserFactory> calculateInlineContentParserFactories(
@@ -163,15 +194,40 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         return bitSet;
     }
 
-    private Map<Character, List<InlineContentParser>> createInlineContentParsers() {
-        var map = new HashMap<Character, List<InlineContentParser>>();
-        for (var factory : inlineContentParserFactories) {
-            var parser = factory.create();
+    private InlineContentParser[] createInlineContentParsers() {
+        var parsers = new InlineContentParser[inlineContentParserFactories.size()];
+        var indexes = new HashMap<Character, List<Integer>>();
+        for (int i = 0; i < parsers.length; i++) {
+            var factory = inlineContentParserFactories.get(i);
+            parsers[i] = factory.create();
             for (var c : factory.getTriggerCharacters()) {
-                map.computeIfAbsent(c, k -> new ArrayList<>()).add(parser);
+                indexes.computeIfAbsent(c, k -> new ArrayList<>()).add(i);
             }
         }
-        return map;
+        for (var entry : indexes.entrySet()) {
+            char c = entry.getKey();
+            int[] array = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            if (c < asciiInlineContentParserIndexes.length) {
+                asciiInlineContentParserIndexes[c] = array;
+            } else {
+                otherInlineContentParserIndexes.put(c, array);
+            }
+        }
+        return parsers;
+    }
+
+    private int[] inlineContentParserIndexes(char c) {
+        if (c < asciiInlineContentParserIndexes.length) {
+            return asciiInlineContentParserIndexes[c];
+        }
+        return otherInlineContentParserIndexes.get(c);
+    }
+
+    private DelimiterProcessor delimiterProcessor(char c) {
+        if (c < asciiDelimiterProcessors.length) {
+            return asciiDelimiterProcessors[c];
+        }
+        return delimiterProcessors.get(c);
     }
 
     @Override
@@ -184,28 +240,55 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     public void parse(SourceLines lines, Node block) {
         reset(lines);
 
-        while (true) {
-            var nodes = parseInline();
-            if (nodes == null) {
-                break;
-            }
-            for (Node node : nodes) {
-                block.appendChild(node);
-            }
+        while (parseInline(block)) {
+            // Nodes are appended to the block by parseInline
         }
 
         processDelimiters(null);
         mergeChildTextNodes(block);
+
+        // Don't keep the input or nodes around, as this parser can be reused for other documents
+        this.scanner = null;
+        this.lastBracket = null;
+        if (!nestingDepths.isEmpty()) {
+            nestingDepths.clear();
+        }
     }
 
     void reset(SourceLines lines) {
         this.scanner = Scanner.of(lines);
-        this.includeSourceSpans = !lines.getSourceSpans().isEmpty();
+        this.includeSourceSpans = hasSourceSpans(lines);
         this.trailingSpaces = 0;
         this.lastDelimiter = null;
+        this.delimiters = 0;
         this.lastBracket = null;
         this.nestingDepths.clear();
-        this.inlineParsers = createInlineContentParsers();
+        for (int i = 0; i < inlineContentParsers.length; i++) {
+            var parser = inlineContentParsers[i];
+            if (parser instanceof ReusableInlineContentParser) {
+                ((ReusableInlineContentParser) parser).reset();
+            } else {
+                inlineContentParsers[i] = inlineContentParserFactories.get(i).create();
+            }
+        }
+    }
+
+    /**
+     * @return the maximum size of the delimiter stack since the last call (for metrics)
+     */
+    int takeMaxDelimiters() {
+        int max = maxDelimiters;
+        maxDelimiters = 0;
+        return max;
+    }
+
+    private static boolean hasSourceSpans(SourceLines lines) {
+        for (var line : lines.getLines()) {
+            if (line.getSourceSpan() != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private Text text(SourceLines sourceLines) {
@@ -215,28 +298,30 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     }
 
     /**
-     * Parse the next inline element in subject, advancing our position. On success, return the new
-     * inline node. On failure, return null.
+     * Parse the next inline element in subject, advancing our position, and append the resulting
+     * nodes to the block. Return false if the end was reached.
      */
-    private List<? extends Node> parseInline() {
+    private boolean parseInline(Node block) {
         char c = scanner.peek();
 
         switch (c) {
             case '[':
-                return List.of(parseOpenBracket());
+                block.appendChild(parseOpenBracket());
+                return true;
             case ']':
-                return List.of(parseCloseBracket());
+                block.appendChild(parseCloseBracket());
+                return true;
             case '\n':
-                return List.of(parseLineBreak());
+                block.appendChild(parseLineBreak());
+                return true;
             case Scanner.END:
-                return null;
+                return false;
         }
 
         if (linkMarkers.get(c)) {
             var markerPosition = scanner.position();
-            var nodes = parseLinkMarker();
-            if (nodes != null) {
-                return nodes;
+            if (parseLinkMarker(block)) {
+                return true;
             }
             // Reset and try other things (e.g. inline parsers below)
             scanner.setPosition(markerPosition);
@@ -244,13 +329,15 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
 
         // No inline parser, delimiter or other special handling.
         if (!specialCharacters.get(c)) {
-            return List.of(parseText());
+            block.appendChild(parseText());
+            return true;
         }
 
-        List<InlineContentParser> inlineParsers = this.inlineParsers.get(c);
-        if (inlineParsers != null) {
+        int[] parserIndexes = inlineContentParserIndexes(c);
+        if (parserIndexes != null) {
             Position position = scanner.position();
-            for (InlineContentParser inlineParser : inlineParsers) {
+            for (int parserIndex : parserIndexes) {
+                var inlineParser = inlineContentParsers[parserIndex];
                 ParsedInline parsedInline = inlineParser.tryParse(this);
                 if (parsedInline instanceof ParsedInlineImpl) {
                     ParsedInlineImpl parsedInlineImpl = (ParsedInlineImpl) parsedInline;
@@ -260,7 +347,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                         node.setSourceSpans(
                                 scanner.getSource(position, scanner.position()).getSourceSpans());
                     }
-                    return List.of(node);
+                    block.appendChild(node);
+                    return true;
                 } else {
                     // Reset position
                     scanner.setPosition(position);
@@ -268,24 +356,25 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             }
         }
 
-        DelimiterProcessor delimiterProcessor = delimiterProcessors.get(c);
-        if (delimiterProcessor != null) {
-            List<? extends Node> nodes = parseDelimiters(delimiterProcessor, c);
-            if (nodes != null) {
-                return nodes;
-            }
+        DelimiterProcessor delimiterProcessor = delimiterProcessor(c);
+        if (delimiterProcessor != null && parseDelimiters(delimiterProcessor, c, block)) {
+            return true;
         }
 
         // If we get here, even for a special/delimiter character, we will just treat it as text.
-        return List.of(parseText());
+        block.appendChild(parseText());
+        return true;
     }
 
-    /** Attempt to parse delimiters like emphasis, strong emphasis or custom delimiters. */
-    private List<? extends Node> parseDelimiters(
-            DelimiterProcessor delimiterProcessor, char delimiterChar) {
+    /**
+     * Attempt to parse delimiters like emphasis, strong emphasis or custom delimiters, appending
+     * the nodes for the delimiter characters to the block.
+     */
+    private boolean parseDelimiters(
+            DelimiterProcessor delimiterProcessor, char delimiterChar, Node block) {
         DelimiterData res = scanDelimiters(delimiterProcessor, delimiterChar);
         if (res == null) {
-            return null;
+            return false;
         }
 
         List<Text> characters = res.characters;
@@ -293,11 +382,17 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         // Add entry to stack for this opener
         lastDelimiter =
                 new Delimiter(characters, delimiterChar, res.canOpen, res.canClose, lastDelimiter);
+        if (++delimiters > maxDelimiters) {
+            maxDelimiters = delimiters;
+        }
         if (lastDelimiter.previous != null) {
             lastDelimiter.previous.next = lastDelimiter;
         }
 
-        return characters;
+        for (Text character : characters) {
+            block.appendChild(character);
+        }
+        return true;
     }
 
     /** Add open bracket to delimiter stack and add a text node to block's children. */
@@ -314,8 +409,11 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         return node;
     }
 
-    /** If next character is {@code [}, add a bracket to the stack. Otherwise, return null. */
-    private List<? extends Node> parseLinkMarker() {
+    /**
+     * If next character is {@code [}, add a bracket to the stack and append the nodes to the block.
+     * Otherwise, return false.
+     */
+    private boolean parseLinkMarker(Node block) {
         var markerPosition = scanner.position();
         scanner.next();
         var bracketPosition = scanner.position();
@@ -334,9 +432,11 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                             contentPosition,
                             lastBracket,
                             lastDelimiter));
-            return List.of(bangNode, bracketNode);
+            block.appendChild(bangNode);
+            block.appendChild(bracketNode);
+            return true;
         } else {
-            return null;
+            return false;
         }
     }
 
@@ -692,14 +792,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     private Node parseText() {
         Position start = scanner.position();
         scanner.next();
-        char c;
-        while (true) {
-            c = scanner.peek();
-            if (c == Scanner.END || specialCharacters.get(c)) {
-                break;
-            }
-            scanner.next();
-        }
+        scanner.find(specialCharacterMatcher);
+        char c = scanner.peek();
 
         SourceLines source = scanner.getSource(start, scanner.position());
         String content = source.getContent();
@@ -806,7 +900,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         }
         // move forward, looking for closers, and handling each
         while (closer != null) {
-            var delimiterProcessor = delimiterProcessors.get(closer.delimiterChar);
+            var delimiterProcessor = delimiterProcessor(closer.delimiterChar);
             if (!closer.canClose() || delimiterProcessor == null) {
                 closer = closer.next;
                 continue;
@@ -969,6 +1063,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     }
 
     private void removeDelimiter(Delimiter delim) {
+        delimiters--;
         if (delim.previous != null) {
             delim.previous.next = delim.next;
         }
@@ -10,7 +10,7 @@ import org.commonmark.text.AsciiMatcher;
 import org.commonmark.text.CharMatcher;
 
 /** Attempt to parse an autolink (URL or email in pointy brackets). */
-public class AutolinkInlineParser implements InlineContentParser {
+public class AutolinkInlineParser implements ReusableInlineContentParser {
 
     private static final CharMatcher ANGLE_BRACKETS = AsciiMatcher.builder().c('<').c('>').build();
 
@@ -21,6 +21,11 @@ public class AutolinkInlineParser implements InlineContentParser {
             Pattern.compile(
                     "^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*+$");
 
+    @Override
+    public void reset() {
+        // No state
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
@@ -12,10 +12,15 @@ import org.commonmark.parser.beta.*;
  * break (if the backslash is followed by a newline), or a literal backslash to the block's
  * children.
  */
-public class BackslashInlineParser implements InlineContentParser {
+public class BackslashInlineParser implements ReusableInlineContentParser {
 
     private static final Pattern ESCAPABLE = Pattern.compile('^' + Escaping.ESCAPABLE);
 
+    @Override
+    public void reset() {
+        // No state
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
@@ -12,12 +12,18 @@ import org.commonmark.text.Characters;
  * Attempt to parse backticks, returning either a backtick code span or a literal sequence of
  * backticks.
  */
-public class BackticksInlineParser implements InlineContentParser {
+public class BackticksInlineParser implements ReusableInlineContentParser {
 
     // Keep track of positions of backtick runs to avoid repeated scanning with pathological inputs
     private final Map<Integer, Position> backtickPositions = new HashMap<>();
     private boolean scannedToEnd = false;
 
+    @Override
+    public void reset() {
+        backtickPositions.clear();
+        scannedToEnd = false;
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         var scanner = inlineParserState.scanner();
@@ -7,7 +7,7 @@ import org.commonmark.parser.beta.*;
 import org.commonmark.text.AsciiMatcher;
 
 /** Attempts to parse an HTML entity or numeric character reference. */
-public class EntityInlineParser implements InlineContentParser {
+public class EntityInlineParser implements ReusableInlineContentParser {
 
     private static final AsciiMatcher hex =
             AsciiMatcher.builder().range('0', '9').range('A', 'F').range('a', 'f').build();
@@ -17,6 +17,14 @@ public class EntityInlineParser implements InlineContentParser {
     private static final AsciiMatcher entityContinue =
             entityStart.newBuilder().range('0', '9').build();
 
+    // Name of a named character reference, reused between entities
+    private final StringBuilder name = new StringBuilder();
+
+    @Override
+    public void reset() {
+        name.setLength(0);
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
@@ -29,29 +37,48 @@ public class EntityInlineParser implements InlineContentParser {
             // Numeric
             scanner.next();
             if (scanner.next('x') || scanner.next('X')) {
-                int digits = scanner.match(hex);
-                if (1 <= digits && digits <= 6 && scanner.next(';')) {
-                    return entity(scanner, start);
-                }
+                return numeric(scanner, hex, 16, 6);
             } else {
-                int digits = scanner.match(dec);
-                if (1 <= digits && digits <= 7 && scanner.next(';')) {
-                    return entity(scanner, start);
-                }
+                return numeric(scanner, dec, 10, 7);
             }
         } else if (entityStart.matches(c)) {
-            scanner.match(entityContinue);
+            name.setLength(0);
+            while (entityContinue.matches(c)) {
+                name.append(c);
+                scanner.next();
+                c = scanner.peek();
+            }
             if (scanner.next(';')) {
-                return entity(scanner, start);
+                String value = Html5Entities.named(name, 0, name.length());
+                if (value == null) {
+                    // Not a known entity, keep it as it is
+                    value = scanner.getSource(start, scanner.position()).getContent();
+                }
+                return ParsedInline.of(new Text(value), scanner.position());
             }
         }
 
         return ParsedInline.none();
     }
 
-    private ParsedInline entity(Scanner scanner, Position start) {
-        String text = scanner.getSource(start, scanner.position()).getContent();
-        return ParsedInline.of(new Text(Html5Entities.entityToString(text)), scanner.position());
+    private static ParsedInline numeric(
+            Scanner scanner, AsciiMatcher digitMatcher, int radix, int maxDigits) {
+        int codePoint = 0;
+        int digits = 0;
+        char c = scanner.peek();
+        while (digitMatcher.matches(c)) {
+            if (++digits > maxDigits) {
+                return ParsedInline.none();
+            }
+            codePoint = codePoint * radix + Character.digit(c, radix);
+            scanner.next();
+            c = scanner.peek();
+        }
+        if (digits == 0 || !scanner.next(';')) {
+            return ParsedInline.none();
+        }
+        return ParsedInline.of(
+                new Text(Html5Entities.codePointToString(codePoint)), scanner.position());
     }
 
     public static class Factory implements InlineContentParserFactory {
@@ -6,7 +6,7 @@ import org.commonmark.parser.beta.*;
 import org.commonmark.text.AsciiMatcher;
 
 /** Attempt to parse inline HTML. */
-public class HtmlInlineParser implements InlineContentParser {
+public class HtmlInlineParser implements ReusableInlineContentParser {
 
     private static final AsciiMatcher asciiLetter =
             AsciiMatcher.builder().range('A', 'Z').range('a', 'z').build();
@@ -45,13 +45,21 @@ public class HtmlInlineParser implements InlineContentParser {
     // A scan that ran to the end of the input without finding the terminator it was looking for
     // proves that no later scan in the same inline snippet can find it either (inline parsing only
     // moves forward). Remembering that stops each `<` from scanning the rest of the input again,
-    // which would be quadratic for input like `<!--` repeated many times. A parser is created for
-    // each inline snippet, so these don't need to be reset.
+    // which would be quadratic for input like `<!--` repeated many times. They're cleared for each
+    // inline snippet in reset.
     private boolean noProcessingInstructionEnd;
     private boolean noCommentEnd;
     private boolean noCdataEnd;
     private boolean noDeclarationEnd;
 
+    @Override
+    public void reset() {
+        noProcessingInstructionEnd = false;
+        noCommentEnd = false;
+        noCdataEnd = false;
+        noDeclarationEnd = false;
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
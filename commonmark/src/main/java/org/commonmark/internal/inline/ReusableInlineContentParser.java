@@ -0,0 +1,14 @@
+package org.commonmark.internal.inline;
+
+import org.commonmark.parser.beta.InlineContentParser;
+import org.commonmark.parser.beta.InlineContentParserFactory;
+
+/**
+ * An inline content parser that can be used for more than one inline snippet, instead of creating a
+ * new one for each snippet (see {@link InlineContentParserFactory#create()}).
+ */
+public interface ReusableInlineContentParser extends InlineContentParser {
+
+    /** Called before parsing the next snippet, to clear any state from the previous one. */
+    void reset();
+}
@@ -0,0 +1,96 @@
+package org.commonmark.internal.renderer;
+
+import java.io.IOException;
+import org.commonmark.renderer.html.ChunkSink;
+
+/**
+ * An {@link Appendable} that collects output in a reused buffer and passes it to a {@link
+ * ChunkSink} in chunks. A chunk is passed at the end of a block once it has reached the chunk size
+ * (see {@link #endOfBlock()}). Output of a block that doesn't fit into twice the chunk size is
+ * passed on without waiting for the end of the block, so the buffer never grows beyond that.
+ */
+public class ChunkedOutput implements Appendable {
+
+    private final int chunkSize;
+    private final int capacity;
+    private final ChunkSink sink;
+    private final StringBuilder buffer;
+    private IOException failure;
+
+    public ChunkedOutput(int chunkSize, ChunkSink sink) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive, but was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.capacity = chunkSize > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE - 8 : chunkSize * 2;
+        this.sink = sink;
+        this.buffer = new StringBuilder(Math.min(capacity, 64 * 1024));
+    }
+
+    @Override
+    public ChunkedOutput append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public ChunkedOutput append(CharSequence csq, int start, int end) throws IOException {
+        int i = start;
+        while (end - i > capacity - buffer.length()) {
+            int pieceEnd = i + capacity - buffer.length();
+            // Don't split surrogate pairs between chunks
+            if (pieceEnd > i && Character.isHighSurrogate(csq.charAt(pieceEnd - 1))) {
+                pieceEnd--;
+            }
+            if (pieceEnd == i && buffer.length() > 0) {
+                // No room left for the next char (or pair), so pass on what we have first
+                writeChunk();
+                continue;
+            }
+            buffer.append(csq, i, pieceEnd);
+            i = pieceEnd;
+            writeChunk();
+        }
+        buffer.append(csq, i, end);
+        return this;
+    }
+
+    @Override
+    public ChunkedOutput append(char c) throws IOException {
+        if (buffer.length() >= capacity && !Character.isLowSurrogate(c)) {
+            writeChunk();
+        }
+        buffer.append(c);
+        return this;
+    }
+
+    /** Pass the output to the sink if it has reached the chunk size. */
+    public void endOfBlock() throws IOException {
+        if (buffer.length() >= chunkSize) {
+            writeChunk();
+        }
+    }
+
+    /** Pass the remaining output to the sink. */
+    public void finish() throws IOException {
+        if (buffer.length() > 0) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * @return the exception from the sink if passing a chunk failed
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    private void writeChunk() throws IOException {
+        try {
+            sink.accept(buffer);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+        buffer.setLength(0);
+    }
+}
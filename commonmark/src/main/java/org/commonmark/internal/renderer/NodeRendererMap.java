@@ -1,16 +1,81 @@
 package org.commonmark.internal.renderer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.commonmark.node.Node;
+import org.commonmark.node.*;
 import org.commonmark.renderer.NodeRenderer;
 
+/**
+ * The renderers for node types. Looking up the renderer for a node happens for every node that is
+ * rendered, so it avoids hashing: Core node types are dispatched using {@link Node#accept} to an
+ * array indexed by type, and the types of other nodes (e.g. from extensions) are compared by
+ * identity, as there are usually only a few of them. Nodes whose {@code accept} doesn't call the
+ * visitor are looked up by their class.
+ */
 public class NodeRendererMap {
 
+    // The index in the array is the ID of the node type, see Dispatcher
+    private static final Class<?>[] CORE_NODE_TYPES = {
+        BlockQuote.class,
+        BulletList.class,
+        Code.class,
+        Document.class,
+        Emphasis.class,
+        FencedCodeBlock.class,
+        HardLineBreak.class,
+        Heading.class,
+        ThematicBreak.class,
+        HtmlInline.class,
+        HtmlBlock.class,
+        Image.class,
+        IndentedCodeBlock.class,
+        Link.class,
+        ListItem.class,
+        OrderedList.class,
+        Paragraph.class,
+        SoftLineBreak.class,
+        StrongEmphasis.class,
+        Text.class,
+        LinkReferenceDefinition.class
+    };
+
+    private static final int BLOCK_QUOTE = coreNodeTypeId(BlockQuote.class);
+    private static final int BULLET_LIST = coreNodeTypeId(BulletList.class);
+    private static final int CODE = coreNodeTypeId(Code.class);
+    private static final int DOCUMENT = coreNodeTypeId(Document.class);
+    private static final int EMPHASIS = coreNodeTypeId(Emphasis.class);
+    private static final int FENCED_CODE_BLOCK = coreNodeTypeId(FencedCodeBlock.class);
+    private static final int HARD_LINE_BREAK = coreNodeTypeId(HardLineBreak.class);
+    private static final int HEADING = coreNodeTypeId(Heading.class);
+    private static final int THEMATIC_BREAK = coreNodeTypeId(ThematicBreak.class);
+    private static final int HTML_INLINE = coreNodeTypeId(HtmlInline.class);
+    private static final int HTML_BLOCK = coreNodeTypeId(HtmlBlock.class);
+    private static final int IMAGE = coreNodeTypeId(Image.class);
+    private static final int INDENTED_CODE_BLOCK = coreNodeTypeId(IndentedCodeBlock.class);
+    private static final int LINK = coreNodeTypeId(Link.class);
+    private static final int LIST_ITEM = coreNodeTypeId(ListItem.class);
+    private static final int ORDERED_LIST = coreNodeTypeId(OrderedList.class);
+    private static final int PARAGRAPH = coreNodeTypeId(Paragraph.class);
+    private static final int SOFT_LINE_BREAK = coreNodeTypeId(SoftLineBreak.class);
+    private static final int STRONG_EMPHASIS = coreNodeTypeId(StrongEmphasis.class);
+    private static final int TEXT = coreNodeTypeId(Text.class);
+    private static final int LINK_REFERENCE_DEFINITION =
+            coreNodeTypeId(LinkReferenceDefinition.class);
+
+    // Above this number of other node types, a map is faster than comparing each type
+    private static final int MAX_OTHER_NODE_TYPES = 16;
+
     private final List<NodeRenderer> nodeRenderers = new ArrayList<>();
     private final Map<Class<? extends Node>, NodeRenderer> renderers = new HashMap<>(32);
+    private final NodeRenderer[] coreRenderers = new NodeRenderer[CORE_NODE_TYPES.length];
+    private Class<?>[] otherNodeTypes = new Class<?>[0];
+    private NodeRenderer[] otherRenderers = new NodeRenderer[0];
+    private final Dispatcher dispatcher = new Dispatcher();
+    // Incremented for each node that reached the dispatcher, see render
+    private int dispatched;
 
     /**
      * Set the renderer for each {@link NodeRenderer#getNodeTypes()}, unless there was already a
@@ -20,14 +85,31 @@ public class NodeRendererMap {
         nodeRenderers.add(nodeRenderer);
         for (var nodeType : nodeRenderer.getNodeTypes()) {
             // The first node renderer for a node type "wins".
-            renderers.putIfAbsent(nodeType, nodeRenderer);
+            if (renderers.putIfAbsent(nodeType, nodeRenderer) == null) {
+                int id = coreNodeTypeId(nodeType);
+                if (id != -1) {
+                    coreRenderers[id] = nodeRenderer;
+                } else {
+                    int length = otherNodeTypes.length;
+                    otherNodeTypes = Arrays.copyOf(otherNodeTypes, length + 1);
+                    otherNodeTypes[length] = nodeType;
+                    otherRenderers = Arrays.copyOf(otherRenderers, length + 1);
+                    otherRenderers[length] = nodeRenderer;
+                }
+            }
         }
     }
 
     public void render(Node node) {
-        var nodeRenderer = renderers.get(node.getClass());
-        if (nodeRenderer != null) {
-            nodeRenderer.render(node);
+        int before = dispatched;
+        node.accept(dispatcher);
+        if (dispatched == before) {
+            // The node's accept didn't call back to the visitor (e.g. a custom node that doesn't
+            // override it), so look up the renderer by its class instead.
+            var nodeRenderer = renderers.get(node.getClass());
+            if (nodeRenderer != null) {
+                nodeRenderer.render(node);
+            }
         }
     }
 
@@ -38,4 +120,165 @@ public class NodeRendererMap {
     public void afterRoot(Node node) {
         nodeRenderers.forEach(r -> r.afterRoot(node));
     }
+
+    private void render(int coreNodeTypeId, Node node) {
+        dispatched++;
+        // Subclasses of core node types are not rendered by the renderer for the core type
+        if (node.getClass() == CORE_NODE_TYPES[coreNodeTypeId]) {
+            var nodeRenderer = coreRenderers[coreNodeTypeId];
+            if (nodeRenderer != null) {
+                nodeRenderer.render(node);
+            }
+        } else {
+            renderOther(node);
+        }
+    }
+
+    private void renderOther(Node node) {
+        dispatched++;
+        var nodeRenderer = getOtherRenderer(node.getClass());
+        if (nodeRenderer != null) {
+            nodeRenderer.render(node);
+        }
+    }
+
+    private NodeRenderer getOtherRenderer(Class<?> nodeType) {
+        var types = otherNodeTypes;
+        if (types.length > MAX_OTHER_NODE_TYPES) {
+            return renderers.get(nodeType);
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == nodeType) {
+                return otherRenderers[i];
+            }
+        }
+        return null;
+    }
+
+    private static int coreNodeTypeId(Class<?> nodeType) {
+        for (int i = 0; i < CORE_NODE_TYPES.length; i++) {
+            if (CORE_NODE_TYPES[i] == nodeType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private class Dispatcher implements Visitor {
+
+        @Override
+        public void visit(BlockQuote blockQuote) {
+            render(BLOCK_QUOTE, blockQuote);
+        }
+
+        @Override
+        public void visit(BulletList bulletList) {
+            render(BULLET_LIST, bulletList);
+        }
+
+        @Override
+        public void visit(Code code) {
+            render(CODE, code);
+        }
+
+        @Override
+        public void visit(Document document) {
+            render(DOCUMENT, document);
+        }
+
+        @Override
+        public void visit(Emphasis emphasis) {
+            render(EMPHASIS, emphasis);
+        }
+
+        @Override
+        public void visit(FencedCodeBlock fencedCodeBlock) {
+            render(FENCED_CODE_BLOCK, fencedCodeBlock);
+        }
+
+        @Override
+        public void visit(HardLineBreak hardLineBreak) {
+            render(HARD_LINE_BREAK, hardLineBreak);
+        }
+
+        @Override
+        public void visit(Heading heading) {
+            render(HEADING, heading);
+        }
+
+        @Override
+        public void visit(ThematicBreak thematicBreak) {
+            render(THEMATIC_BREAK, thematicBreak);
+        }
+
+        @Override
+        public void visit(HtmlInline htmlInline) {
+            render(HTML_INLINE, htmlInline);
+        }
+
+        @Override
+        public void visit(HtmlBlock htmlBlock) {
+            render(HTML_BLOCK, htmlBlock);
+        }
+
+        @Override
+        public void visit(Image image) {
+            render(IMAGE, image);
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock indentedCodeBlock) {
+            render(INDENTED_CODE_BLOCK, indentedCodeBlock);
+        }
+
+        @Override
+        public void visit(Link link) {
+            render(LINK, link);
+        }
+
+        @Override
+        public void visit(ListItem listItem) {
+            render(LIST_ITEM, listItem);
+        }
+
+        @Override
+        public void visit(OrderedList orderedList) {
+            render(ORDERED_LIST, orderedList);
+        }
+
+        @Override
+        public void visit(Paragraph paragraph) {
+            render(PARAGRAPH, paragraph);
+        }
+
+        @Override
+        public void visit(SoftLineBreak softLineBreak) {
+            render(SOFT_LINE_BREAK, softLineBreak);
+        }
+
+        @Override
+        public void visit(StrongEmphasis strongEmphasis) {
+            render(STRONG_EMPHASIS, strongEmphasis);
+        }
+
+        @Override
+        public void visit(Text text) {
+            render(TEXT, text);
+        }
+
+        @Override
+        public void visit(LinkReferenceDefinition linkReferenceDefinition) {
+            render(LINK_REFERENCE_DEFINITION, linkReferenceDefinition);
+        }
+
+        @Override
+        public void visit(CustomBlock customBlock) {
+            renderOther(customBlock);
+        }
+
+        @Override
+        public void visit(CustomNode customNode) {
+            renderOther(customNode);
+        }
+    }
 }
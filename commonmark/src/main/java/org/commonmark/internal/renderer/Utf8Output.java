@@ -0,0 +1,166 @@
+package org.commonmark.internal.renderer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * An {@link Appendable} that encodes the appended characters as UTF-8 into a byte buffer, which is
+ * written to an {@link OutputStream} or {@link WritableByteChannel} when it's full and on {@link
+ * #flush()}. This avoids creating a String and encoding it separately.
+ *
+ * <p>Unpaired surrogates are encoded as {@code ?}, same as {@link String#getBytes}.
+ */
+public class Utf8Output implements Appendable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream outputStream;
+    private final WritableByteChannel channel;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer byteBuffer;
+    private int position = 0;
+    // High surrogate of an appended char that still needs its low surrogate, or 0
+    private char highSurrogate = 0;
+    private IOException failure;
+
+    private Utf8Output(OutputStream outputStream, WritableByteChannel channel) {
+        this.outputStream = outputStream;
+        this.channel = channel;
+        this.byteBuffer = channel != null ? ByteBuffer.wrap(buffer) : null;
+    }
+
+    public static Utf8Output of(OutputStream outputStream) {
+        return new Utf8Output(outputStream, null);
+    }
+
+    public static Utf8Output of(WritableByteChannel channel) {
+        return new Utf8Output(null, channel);
+    }
+
+    @Override
+    public Utf8Output append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8Output append(CharSequence csq, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            if (highSurrogate != 0) {
+                encode(csq.charAt(i++));
+                continue;
+            }
+            if (position == buffer.length) {
+                writeBuffer();
+            }
+            // Fast path for ASCII, which is most of the output
+            int asciiEnd = Math.min(end, i + buffer.length - position);
+            while (i < asciiEnd) {
+                char c = csq.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[position++] = (byte) c;
+                i++;
+            }
+            if (i < asciiEnd) {
+                encode(csq.charAt(i++));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8Output append(char c) throws IOException {
+        if (c < 0x80 && highSurrogate == 0) {
+            if (position == buffer.length) {
+                writeBuffer();
+            }
+            buffer[position++] = (byte) c;
+        } else {
+            encode(c);
+        }
+        return this;
+    }
+
+    /**
+     * Write the buffered bytes. Doesn't flush the underlying stream or channel.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            ensureCapacity(1);
+            buffer[position++] = '?';
+        }
+        writeBuffer();
+    }
+
+    /**
+     * @return the exception that writing to the underlying stream or channel failed with, or null
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    private void encode(char c) throws IOException {
+        ensureCapacity(4);
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[position++] = '?';
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        try {
+            if (outputStream != null) {
+                outputStream.write(buffer, 0, position);
+            } else {
+                byteBuffer.clear().limit(position);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package org.commonmark.internal.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A range of a byte array that contains only ASCII, as a {@link CharSequence}. Each byte is one
+ * character, so the input can be parsed directly without decoding it first. Like with {@link
+ * CharSequenceView}, a {@link String} is only created when it's actually needed.
+ */
+public final class AsciiByteSequence implements CharSequence {
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    /**
+     * @param bytes the bytes, which must all be ASCII (see {@link #isAscii})
+     */
+    public AsciiByteSequence(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @return whether the bytes in the range are all ASCII, excluding {@code \0} (which the parser
+     *     would have to replace)
+     */
+    public static boolean isAscii(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            // Bytes of non-ASCII characters are negative
+            if (bytes[i] <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link org.commonmark.text.Characters#findLineBreak}, but checks 8 bytes at a time: A
+     * byte that is equal to {@code \n} or {@code \r} is zero when XORed with it, and {@code (x -
+     * 0x01..) & ~x & 0x80..} has the high bit set for the first zero byte of {@code x} (bytes after
+     * it might be set too, but we only need the first one).
+     */
+    public int findLineBreak(int startIndex) {
+        int i = offset + startIndex;
+        int end = offset + length;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(bytes, i);
+            long lf = word ^ (ONES * '\n');
+            long cr = word ^ (ONES * '\r');
+            long found = ((lf - ONES) & ~lf | (cr - ONES) & ~cr) & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3) - offset;
+            }
+        }
+        for (; i < end; i++) {
+            if (bytes[i] == '\n' || bytes[i] == '\r') {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (char) bytes[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new AsciiByteSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        // For ASCII this is a plain copy of the bytes (strings of these characters are stored as
+        // one byte per character)
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
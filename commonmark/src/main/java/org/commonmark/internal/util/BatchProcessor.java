@@ -0,0 +1,131 @@
+package org.commonmark.internal.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Processes a batch of inputs with workers that keep their state from one input to the next, and
+ * optionally uses an executor to run multiple workers at the same time. Results are returned in the
+ * order of the inputs.
+ *
+ * <p>Like parsing inlines concurrently in {@code DocumentParser}, workers claim chunks of inputs
+ * until there are none left, and the current thread works on chunks too. It then only waits for
+ * chunks that a worker has already claimed, so this can't deadlock even if the executor is busy.
+ */
+public class BatchProcessor {
+
+    // Claiming inputs one by one would mean contention for small inputs
+    private static final int MAX_CHUNK_SIZE = 16;
+
+    /** Processes inputs on one thread, one after the other. */
+    public interface Worker<T, R> {
+
+        R process(T input);
+
+        /** Called after the last input of the worker, unless processing failed. */
+        default void finish() {}
+    }
+
+    /**
+     * @param inputs the inputs to process
+     * @param workerFactory creates a worker, which happens on the thread that it then runs on
+     * @param executor the executor to run additional workers on, or {@code null} to use the current
+     *     thread only
+     * @param parallelism maximum number of threads (including the current one) to use
+     * @return the results, in the order of the inputs
+     */
+    public static <T, R> List<R> process(
+            List<? extends T> inputs,
+            Supplier<? extends Worker<T, R>> workerFactory,
+            Executor executor,
+            int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1");
+        }
+        int size = inputs.size();
+        @SuppressWarnings("unchecked")
+        R[] results = (R[]) new Object[size];
+        if (executor == null || parallelism == 1 || size <= 1) {
+            Worker<T, R> worker = workerFactory.get();
+            for (int i = 0; i < size; i++) {
+                results[i] = worker.process(inputs.get(i));
+            }
+            worker.finish();
+            return Arrays.asList(results);
+        }
+
+        int chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, size / (parallelism * 4)));
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        int workers = Math.min(parallelism, chunks);
+        var nextChunk = new AtomicInteger();
+        var remainingChunks = new CountDownLatch(chunks);
+        var failure = new AtomicReference<Throwable>();
+
+        Runnable runnable =
+                () -> {
+                    Worker<T, R> worker = null;
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        try {
+                            if (failure.get() == null) {
+                                if (worker == null) {
+                                    worker = workerFactory.get();
+                                }
+                                int start = chunk * chunkSize;
+                                int end = Math.min(start + chunkSize, size);
+                                for (int i = start; i < end; i++) {
+                                    results[i] = worker.process(inputs.get(i));
+                                }
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            remainingChunks.countDown();
+                        }
+                    }
+                    if (worker != null && failure.get() == null) {
+                        worker.finish();
+                    }
+                };
+
+        for (int i = 1; i < workers; i++) {
+            try {
+                executor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                // The current thread will do the remaining work.
+                break;
+            }
+        }
+        runnable.run();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                remainingChunks.await();
+                break;
+            } catch (InterruptedException e) {
+                // The other workers still write to the results, so we can't stop waiting.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        var t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new IllegalStateException(t);
+        }
+        return Arrays.asList(results);
+    }
+}
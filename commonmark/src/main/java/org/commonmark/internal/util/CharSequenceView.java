@@ -0,0 +1,120 @@
+package org.commonmark.internal.util;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * A view of a range of another {@link CharSequence}, without copying the characters. This is used
+ * for the lines of the input (and parts of them), so that a {@link String} is only created when
+ * it's actually needed, e.g. for the literal of a node.
+ *
+ * <p>Note that the view keeps a reference to the whole underlying sequence.
+ */
+public final class CharSequenceView implements CharSequence {
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    private CharSequenceView(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return a view of the characters of {@code source} from {@code start} (inclusive) to {@code
+     *     end} (exclusive)
+     */
+    public static CharSequence of(CharSequence source, int start, int end) {
+        Objects.checkFromToIndex(start, end, source.length());
+        if (source instanceof CharSequenceView) {
+            var view = (CharSequenceView) source;
+            return new CharSequenceView(view.source, view.start + start, view.start + end);
+        }
+        return new CharSequenceView(source, start, end);
+    }
+
+    /**
+     * Append the characters of {@code s} to {@code sb}. Same as {@link StringBuilder#append(
+     * CharSequence)}, but copies the characters of a view in bulk if the underlying sequence allows
+     * it (e.g. a {@link String} or a {@link CharBuffer} with an array).
+     */
+    public static void appendTo(StringBuilder sb, CharSequence s) {
+        if (s instanceof CharSequenceView) {
+            var view = (CharSequenceView) s;
+            if (view.source instanceof CharBuffer && ((CharBuffer) view.source).hasArray()) {
+                var buffer = (CharBuffer) view.source;
+                int offset = buffer.arrayOffset() + buffer.position();
+                sb.append(buffer.array(), offset + view.start, view.end - view.start);
+            } else {
+                sb.append(view.source, view.start, view.end);
+            }
+        } else {
+            sb.append(s);
+        }
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, end - start);
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, this.end - this.start);
+        return new CharSequenceView(source, this.start + start, this.start + end);
+    }
+
+    /**
+     * A view is equal to another view with the same characters, but not to a {@link String} (as a
+     * String can't be equal to a view). Use {@link CharSequence#compare} to compare it to other
+     * sequences.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CharSequenceView)) {
+            return false;
+        }
+        var other = (CharSequenceView) o;
+        int length = end - start;
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(start + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Same as the hash code of the equivalent {@link String}. */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + source.charAt(i);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        if (source instanceof CharBuffer && ((CharBuffer) source).hasArray()) {
+            var buffer = (CharBuffer) source;
+            int offset = buffer.arrayOffset() + buffer.position();
+            return new String(buffer.array(), offset + start, end - start);
+        }
+        return source.subSequence(start, end).toString();
+    }
+}
@@ -1,73 +1,140 @@
 package org.commonmark.internal.util;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * HTML5 named character references and numeric character references. The named ones are in a sorted
+ * table that is generated from {@code entities.txt} (see {@link Html5EntityData}), and are looked
+ * up by binary search on the input, without creating strings for names.
+ */
 public class Html5Entities {
 
-    private static final Map<String, String> NAMED_CHARACTER_REFERENCES = readEntities();
-    private static final String ENTITY_PATH = "/org/commonmark/internal/util/entities.txt";
+    private static final String NAMES = Html5EntityData.NAMES;
+    private static final String VALUES = Html5EntityData.VALUES;
+
+    // Start of each name in NAMES, with an additional entry for the end
+    private static final int[] NAME_STARTS = starts(NAMES, ';');
+    // Start of each value in VALUES, with an additional entry for the end
+    private static final int[] VALUE_STARTS = starts(VALUES, '\0');
+    // Values as strings, created when they're first used
+    private static final String[] VALUE_STRINGS = new String[NAME_STARTS.length - 1];
 
     public static String entityToString(String input) {
         if (!input.startsWith("&") || !input.endsWith(";")) {
             return input;
         }
 
-        String value = input.substring(1, input.length() - 1);
-        if (value.startsWith("#")) {
-            value = value.substring(1);
-            int base = 10;
-            if (value.startsWith("x") || value.startsWith("X")) {
-                value = value.substring(1);
-                base = 16;
+        int end = input.length() - 1;
+        if (input.startsWith("#", 1)) {
+            int codePoint = parseNumeric(input, 2, end);
+            return codePoint != -1 ? codePointToString(codePoint) : "\uFFFD";
+        } else {
+            String s = named(input, 1, end);
+            return s != null ? s : input;
+        }
+    }
+
+    /**
+     * Look up a named character reference.
+     *
+     * @param s the input containing the name
+     * @param start the start of the name (after {@code &})
+     * @param end the end of the name (before {@code ;})
+     * @return the characters for the name, or null if there's no character reference with the name
+     */
+    public static String named(CharSequence s, int start, int end) {
+        int low = 0;
+        int high = VALUE_STRINGS.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, s, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return value(mid);
             }
+        }
+        return null;
+    }
+
+    /**
+     * @return the characters for the code point of a numeric character reference, with the
+     *     replacement character for 0 or invalid code points
+     */
+    public static String codePointToString(int codePoint) {
+        if (codePoint == 0 || !Character.isValidCodePoint(codePoint)) {
+            return "\uFFFD";
+        }
+        return new String(Character.toChars(codePoint));
+    }
 
-            try {
-                int codePoint = Integer.parseInt(value, base);
-                if (codePoint == 0) {
-                    return "\uFFFD";
-                }
-                return new String(Character.toChars(codePoint));
-            } catch (IllegalArgumentException e) {
-                return "\uFFFD";
+    /**
+     * Parse the digits of a numeric character reference such as {@code 35} or {@code x22}.
+     *
+     * @return the code point (which may be invalid if it's too big), or -1 if there are no digits
+     *     or invalid ones
+     */
+    private static int parseNumeric(CharSequence s, int start, int end) {
+        int radix = 10;
+        if (start < end && (s.charAt(start) == 'x' || s.charAt(start) == 'X')) {
+            radix = 16;
+            start++;
+        }
+        if (start == end) {
+            return -1;
+        }
+        int codePoint = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit == -1) {
+                return -1;
             }
-        } else {
-            String s = NAMED_CHARACTER_REFERENCES.get(value);
-            if (s != null) {
-                return s;
-            } else {
-                return input;
+            // Stop before it overflows, it's invalid anyway
+            if (codePoint <= Character.MAX_CODE_POINT) {
+                codePoint = codePoint * radix + digit;
+            }
+        }
+        return codePoint;
+    }
+
+    private static int compareName(int index, CharSequence s, int start, int end) {
+        int nameStart = NAME_STARTS[index];
+        int nameLength = NAME_STARTS[index + 1] - 1 - nameStart;
+        int length = end - start;
+        int n = Math.min(nameLength, length);
+        for (int i = 0; i < n; i++) {
+            int cmp = NAMES.charAt(nameStart + i) - s.charAt(start + i);
+            if (cmp != 0) {
+                return cmp;
             }
         }
+        return nameLength - length;
+    }
+
+    private static String value(int index) {
+        String value = VALUE_STRINGS[index];
+        if (value == null) {
+            value = VALUES.substring(VALUE_STARTS[index], VALUE_STARTS[index + 1] - 1);
+            // Strings are immutable, so racing on this is fine
+            VALUE_STRINGS[index] = value;
+        }
+        return value;
     }
 
-    private static Map<String, String> readEntities() {
-        Map<String, String> entities = new HashMap<>();
-        InputStream stream = Html5Entities.class.getResourceAsStream(ENTITY_PATH);
-        Charset charset = StandardCharsets.UTF_8;
-        try (BufferedReader bufferedReader =
-                new BufferedReader(new InputStreamReader(stream, charset))) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    continue;
-                }
-                int equal = line.indexOf("=");
-                String key = line.substring(0, equal);
-                String value = line.substring(equal + 1);
-                entities.put(key, value);
+    private static int[] starts(String s, char separator) {
+        int count = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == separator) {
+                count++;
+            }
+        }
+        int[] starts = new int[count + 1];
+        int index = 1;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == separator) {
+                starts[index++] = i + 1;
             }
-        } catch (IOException e) {
-            throw new IllegalStateException(
-                    "Failed reading data for HTML named character references", e);
         }
-        entities.put("NewLine", "\n");
-        return entities;
+        return starts;
     }
 }
@@ -0,0 +1,605 @@
+package org.commonmark.internal.util;
+
+// Generated from entities.txt by Html5EntityDataGenerator, do not edit.
+class Html5EntityData {
+
+    /** The names of the entities, sorted, each followed by {@code ;}. */
+    static final String NAMES =
+            "AElig;AMP;Aacute;Abreve;Acirc;Acy;Afr;Agrave;Alpha;Amacr;And;Aogon;Aopf;"
+                    + "ApplyFunction;Aring;Ascr;Assign;Atilde;Auml;Backslash;Barv;Barwed;Bcy;Be"
+                    + "cause;Bernoullis;Beta;Bfr;Bopf;Breve;Bscr;Bumpeq;CHcy;COPY;Cacute;Cap;Ca"
+                    + "pitalDifferentialD;Cayleys;Ccaron;Ccedil;Ccirc;Cconint;Cdot;Cedilla;Cent"
+                    + "erDot;Cfr;Chi;CircleDot;CircleMinus;CirclePlus;CircleTimes;ClockwiseCont"
+                    + "ourIntegral;CloseCurlyDoubleQuote;CloseCurlyQuote;Colon;Colone;Congruent"
+                    + ";Conint;ContourIntegral;Copf;Coproduct;CounterClockwiseContourIntegral;C"
+                    + "ross;Cscr;Cup;CupCap;DD;DDotrahd;DJcy;DScy;DZcy;Dagger;Darr;Dashv;Dcaron"
+                    + ";Dcy;Del;Delta;Dfr;DiacriticalAcute;DiacriticalDot;DiacriticalDoubleAcut"
+                    + "e;DiacriticalGrave;DiacriticalTilde;Diamond;DifferentialD;Dopf;Dot;DotDo"
+                    + "t;DotEqual;DoubleContourIntegral;DoubleDot;DoubleDownArrow;DoubleLeftArr"
+                    + "ow;DoubleLeftRightArrow;DoubleLeftTee;DoubleLongLeftArrow;DoubleLongLeft"
+                    + "RightArrow;DoubleLongRightArrow;DoubleRightArrow;DoubleRightTee;DoubleUp"
+                    + "Arrow;DoubleUpDownArrow;DoubleVerticalBar;DownArrow;DownArrowBar;DownArr"
+                    + "owUpArrow;DownBreve;DownLeftRightVector;DownLeftTeeVector;DownLeftVector"
+                    + ";DownLeftVectorBar;DownRightTeeVector;DownRightVector;DownRightVectorBar"
+                    + ";DownTee;DownTeeArrow;Downarrow;Dscr;Dstrok;ENG;ETH;Eacute;Ecaron;Ecirc;"
+                    + "Ecy;Edot;Efr;Egrave;Element;Emacr;EmptySmallSquare;EmptyVerySmallSquare;"
+                    + "Eogon;Eopf;Epsilon;Equal;EqualTilde;Equilibrium;Escr;Esim;Eta;Euml;Exist"
+                    + "s;ExponentialE;Fcy;Ffr;FilledSmallSquare;FilledVerySmallSquare;Fopf;ForA"
+                    + "ll;Fouriertrf;Fscr;GJcy;GT;Gamma;Gammad;Gbreve;Gcedil;Gcirc;Gcy;Gdot;Gfr"
+                    + ";Gg;Gopf;GreaterEqual;GreaterEqualLess;GreaterFullEqual;GreaterGreater;G"
+                    + "reaterLess;GreaterSlantEqual;GreaterTilde;Gscr;Gt;HARDcy;Hacek;Hat;Hcirc"
+                    + ";Hfr;HilbertSpace;Hopf;HorizontalLine;Hscr;Hstrok;HumpDownHump;HumpEqual"
+                    + ";IEcy;IJlig;IOcy;Iacute;Icirc;Icy;Idot;Ifr;Igrave;Im;Imacr;ImaginaryI;Im"
+                    + "plies;Int;Integral;Intersection;InvisibleComma;InvisibleTimes;Iogon;Iopf"
+                    + ";Iota;Iscr;Itilde;Iukcy;Iuml;Jcirc;Jcy;Jfr;Jopf;Jscr;Jsercy;Jukcy;KHcy;K"
+                    + "Jcy;Kappa;Kcedil;Kcy;Kfr;Kopf;Kscr;LJcy;LT;Lacute;Lambda;Lang;Laplacetrf"
+                    + ";Larr;Lcaron;Lcedil;Lcy;LeftAngleBracket;LeftArrow;LeftArrowBar;LeftArro"
+                    + "wRightArrow;LeftCeiling;LeftDoubleBracket;LeftDownTeeVector;LeftDownVect"
+                    + "or;LeftDownVectorBar;LeftFloor;LeftRightArrow;LeftRightVector;LeftTee;Le"
+                    + "ftTeeArrow;LeftTeeVector;LeftTriangle;LeftTriangleBar;LeftTriangleEqual;"
+                    + "LeftUpDownVector;LeftUpTeeVector;LeftUpVector;LeftUpVectorBar;LeftVector"
+                    + ";LeftVectorBar;Leftarrow;Leftrightarrow;LessEqualGreater;LessFullEqual;L"
+                    + "essGreater;LessLess;LessSlantEqual;LessTilde;Lfr;Ll;Lleftarrow;Lmidot;Lo"
+                    + "ngLeftArrow;LongLeftRightArrow;LongRightArrow;Longleftarrow;Longleftrigh"
+                    + "tarrow;Longrightarrow;Lopf;LowerLeftArrow;LowerRightArrow;Lscr;Lsh;Lstro"
+                    + "k;Lt;Map;Mcy;MediumSpace;Mellintrf;Mfr;MinusPlus;Mopf;Mscr;Mu;NJcy;Nacut"
+                    + "e;Ncaron;Ncedil;Ncy;NegativeMediumSpace;NegativeThickSpace;NegativeThinS"
+                    + "pace;NegativeVeryThinSpace;NestedGreaterGreater;NestedLessLess;NewLine;N"
+                    + "fr;NoBreak;NonBreakingSpace;Nopf;Not;NotCongruent;NotCupCap;NotDoubleVer"
+                    + "ticalBar;NotElement;NotEqual;NotEqualTilde;NotExists;NotGreater;NotGreat"
+                    + "erEqual;NotGreaterFullEqual;NotGreaterGreater;NotGreaterLess;NotGreaterS"
+                    + "lantEqual;NotGreaterTilde;NotHumpDownHump;NotHumpEqual;NotLeftTriangle;N"
+                    + "otLeftTriangleBar;NotLeftTriangleEqual;NotLess;NotLessEqual;NotLessGreat"
+                    + "er;NotLessLess;NotLessSlantEqual;NotLessTilde;NotNestedGreaterGreater;No"
+                    + "tNestedLessLess;NotPrecedes;NotPrecedesEqual;NotPrecedesSlantEqual;NotRe"
+                    + "verseElement;NotRightTriangle;NotRightTriangleBar;NotRightTriangleEqual;"
+                    + "NotSquareSubset;NotSquareSubsetEqual;NotSquareSuperset;NotSquareSuperset"
+                    + "Equal;NotSubset;NotSubsetEqual;NotSucceeds;NotSucceedsEqual;NotSucceedsS"
+                    + "lantEqual;NotSucceedsTilde;NotSuperset;NotSupersetEqual;NotTilde;NotTild"
+                    + "eEqual;NotTildeFullEqual;NotTildeTilde;NotVerticalBar;Nscr;Ntilde;Nu;OEl"
+                    + "ig;Oacute;Ocirc;Ocy;Odblac;Ofr;Ograve;Omacr;Omega;Omicron;Oopf;OpenCurly"
+                    + "DoubleQuote;OpenCurlyQuote;Or;Oscr;Oslash;Otilde;Otimes;Ouml;OverBar;Ove"
+                    + "rBrace;OverBracket;OverParenthesis;PartialD;Pcy;Pfr;Phi;Pi;PlusMinus;Poi"
+                    + "ncareplane;Popf;Pr;Precedes;PrecedesEqual;PrecedesSlantEqual;PrecedesTil"
+                    + "de;Prime;Product;Proportion;Proportional;Pscr;Psi;QUOT;Qfr;Qopf;Qscr;RBa"
+                    + "rr;REG;Racute;Rang;Rarr;Rarrtl;Rcaron;Rcedil;Rcy;Re;ReverseElement;Rever"
+                    + "seEquilibrium;ReverseUpEquilibrium;Rfr;Rho;RightAngleBracket;RightArrow;"
+                    + "RightArrowBar;RightArrowLeftArrow;RightCeiling;RightDoubleBracket;RightD"
+                    + "ownTeeVector;RightDownVector;RightDownVectorBar;RightFloor;RightTee;Righ"
+                    + "tTeeArrow;RightTeeVector;RightTriangle;RightTriangleBar;RightTriangleEqu"
+                    + "al;RightUpDownVector;RightUpTeeVector;RightUpVector;RightUpVectorBar;Rig"
+                    + "htVector;RightVectorBar;Rightarrow;Ropf;RoundImplies;Rrightarrow;Rscr;Rs"
+                    + "h;RuleDelayed;SHCHcy;SHcy;SOFTcy;Sacute;Sc;Scaron;Scedil;Scirc;Scy;Sfr;S"
+                    + "hortDownArrow;ShortLeftArrow;ShortRightArrow;ShortUpArrow;Sigma;SmallCir"
+                    + "cle;Sopf;Sqrt;Square;SquareIntersection;SquareSubset;SquareSubsetEqual;S"
+                    + "quareSuperset;SquareSupersetEqual;SquareUnion;Sscr;Star;Sub;Subset;Subse"
+                    + "tEqual;Succeeds;SucceedsEqual;SucceedsSlantEqual;SucceedsTilde;SuchThat;"
+                    + "Sum;Sup;Superset;SupersetEqual;Supset;THORN;TRADE;TSHcy;TScy;Tab;Tau;Tca"
+                    + "ron;Tcedil;Tcy;Tfr;Therefore;Theta;ThickSpace;ThinSpace;Tilde;TildeEqual"
+                    + ";TildeFullEqual;TildeTilde;Topf;TripleDot;Tscr;Tstrok;Uacute;Uarr;Uarroc"
+                    + "ir;Ubrcy;Ubreve;Ucirc;Ucy;Udblac;Ufr;Ugrave;Umacr;UnderBar;UnderBrace;Un"
+                    + "derBracket;UnderParenthesis;Union;UnionPlus;Uogon;Uopf;UpArrow;UpArrowBa"
+                    + "r;UpArrowDownArrow;UpDownArrow;UpEquilibrium;UpTee;UpTeeArrow;Uparrow;Up"
+                    + "downarrow;UpperLeftArrow;UpperRightArrow;Upsi;Upsilon;Uring;Uscr;Utilde;"
+                    + "Uuml;VDash;Vbar;Vcy;Vdash;Vdashl;Vee;Verbar;Vert;VerticalBar;VerticalLin"
+                    + "e;VerticalSeparator;VerticalTilde;VeryThinSpace;Vfr;Vopf;Vscr;Vvdash;Wci"
+                    + "rc;Wedge;Wfr;Wopf;Wscr;Xfr;Xi;Xopf;Xscr;YAcy;YIcy;YUcy;Yacute;Ycirc;Ycy;"
+                    + "Yfr;Yopf;Yscr;Yuml;ZHcy;Zacute;Zcaron;Zcy;Zdot;ZeroWidthSpace;Zeta;Zfr;Z"
+                    + "opf;Zscr;aacute;abreve;ac;acE;acd;acirc;acute;acy;aelig;af;afr;agrave;al"
+                    + "efsym;aleph;alpha;amacr;amalg;amp;and;andand;andd;andslope;andv;ang;ange"
+                    + ";angle;angmsd;angmsdaa;angmsdab;angmsdac;angmsdad;angmsdae;angmsdaf;angm"
+                    + "sdag;angmsdah;angrt;angrtvb;angrtvbd;angsph;angst;angzarr;aogon;aopf;ap;"
+                    + "apE;apacir;ape;apid;apos;approx;approxeq;aring;ascr;ast;asymp;asympeq;at"
+                    + "ilde;auml;awconint;awint;bNot;backcong;backepsilon;backprime;backsim;bac"
+                    + "ksimeq;barvee;barwed;barwedge;bbrk;bbrktbrk;bcong;bcy;bdquo;becaus;becau"
+                    + "se;bemptyv;bepsi;bernou;beta;beth;between;bfr;bigcap;bigcirc;bigcup;bigo"
+                    + "dot;bigoplus;bigotimes;bigsqcup;bigstar;bigtriangledown;bigtriangleup;bi"
+                    + "guplus;bigvee;bigwedge;bkarow;blacklozenge;blacksquare;blacktriangle;bla"
+                    + "cktriangledown;blacktriangleleft;blacktriangleright;blank;blk12;blk14;bl"
+                    + "k34;block;bne;bnequiv;bnot;bopf;bot;bottom;bowtie;boxDL;boxDR;boxDl;boxD"
+                    + "r;boxH;boxHD;boxHU;boxHd;boxHu;boxUL;boxUR;boxUl;boxUr;boxV;boxVH;boxVL;"
+                    + "boxVR;boxVh;boxVl;boxVr;boxbox;boxdL;boxdR;boxdl;boxdr;boxh;boxhD;boxhU;"
+                    + "boxhd;boxhu;boxminus;boxplus;boxtimes;boxuL;boxuR;boxul;boxur;boxv;boxvH"
+                    + ";boxvL;boxvR;boxvh;boxvl;boxvr;bprime;breve;brvbar;bscr;bsemi;bsim;bsime"
+                    + ";bsol;bsolb;bsolhsub;bull;bullet;bump;bumpE;bumpe;bumpeq;cacute;cap;capa"
+                    + "nd;capbrcup;capcap;capcup;capdot;caps;caret;caron;ccaps;ccaron;ccedil;cc"
+                    + "irc;ccups;ccupssm;cdot;cedil;cemptyv;cent;centerdot;cfr;chcy;check;check"
+                    + "mark;chi;cir;cirE;circ;circeq;circlearrowleft;circlearrowright;circledR;"
+                    + "circledS;circledast;circledcirc;circleddash;cire;cirfnint;cirmid;cirscir"
+                    + ";clubs;clubsuit;colon;colone;coloneq;comma;commat;comp;compfn;complement"
+                    + ";complexes;cong;congdot;conint;copf;coprod;copy;copysr;crarr;cross;cscr;"
+                    + "csub;csube;csup;csupe;ctdot;cudarrl;cudarrr;cuepr;cuesc;cularr;cularrp;c"
+                    + "up;cupbrcap;cupcap;cupcup;cupdot;cupor;cups;curarr;curarrm;curlyeqprec;c"
+                    + "urlyeqsucc;curlyvee;curlywedge;curren;curvearrowleft;curvearrowright;cuv"
+                    + "ee;cuwed;cwconint;cwint;cylcty;dArr;dHar;dagger;daleth;darr;dash;dashv;d"
+                    + "bkarow;dblac;dcaron;dcy;dd;ddagger;ddarr;ddotseq;deg;delta;demptyv;dfish"
+                    + "t;dfr;dharl;dharr;diam;diamond;diamondsuit;diams;die;digamma;disin;div;d"
+                    + "ivide;divideontimes;divonx;djcy;dlcorn;dlcrop;dollar;dopf;dot;doteq;dote"
+                    + "qdot;dotminus;dotplus;dotsquare;doublebarwedge;downarrow;downdownarrows;"
+                    + "downharpoonleft;downharpoonright;drbkarow;drcorn;drcrop;dscr;dscy;dsol;d"
+                    + "strok;dtdot;dtri;dtrif;duarr;duhar;dwangle;dzcy;dzigrarr;eDDot;eDot;eacu"
+                    + "te;easter;ecaron;ecir;ecirc;ecolon;ecy;edot;ee;efDot;efr;eg;egrave;egs;e"
+                    + "gsdot;el;elinters;ell;els;elsdot;emacr;empty;emptyset;emptyv;emsp;emsp13"
+                    + ";emsp14;eng;ensp;eogon;eopf;epar;eparsl;eplus;epsi;epsilon;epsiv;eqcirc;"
+                    + "eqcolon;eqsim;eqslantgtr;eqslantless;equals;equest;equiv;equivDD;eqvpars"
+                    + "l;erDot;erarr;escr;esdot;esim;eta;eth;euml;euro;excl;exist;expectation;e"
+                    + "xponentiale;fallingdotseq;fcy;female;ffilig;fflig;ffllig;ffr;filig;fjlig"
+                    + ";flat;fllig;fltns;fnof;fopf;forall;fork;forkv;fpartint;frac12;frac13;fra"
+                    + "c14;frac15;frac16;frac18;frac23;frac25;frac34;frac35;frac38;frac45;frac5"
+                    + "6;frac58;frac78;frasl;frown;fscr;gE;gEl;gacute;gamma;gammad;gap;gbreve;g"
+                    + "circ;gcy;gdot;ge;gel;geq;geqq;geqslant;ges;gescc;gesdot;gesdoto;gesdotol"
+                    + ";gesl;gesles;gfr;gg;ggg;gimel;gjcy;gl;glE;gla;glj;gnE;gnap;gnapprox;gne;"
+                    + "gneq;gneqq;gnsim;gopf;grave;gscr;gsim;gsime;gsiml;gt;gtcc;gtcir;gtdot;gt"
+                    + "lPar;gtquest;gtrapprox;gtrarr;gtrdot;gtreqless;gtreqqless;gtrless;gtrsim"
+                    + ";gvertneqq;gvnE;hArr;hairsp;half;hamilt;hardcy;harr;harrcir;harrw;hbar;h"
+                    + "circ;hearts;heartsuit;hellip;hercon;hfr;hksearow;hkswarow;hoarr;homtht;h"
+                    + "ookleftarrow;hookrightarrow;hopf;horbar;hscr;hslash;hstrok;hybull;hyphen"
+                    + ";iacute;ic;icirc;icy;iecy;iexcl;iff;ifr;igrave;ii;iiiint;iiint;iinfin;ii"
+                    + "ota;ijlig;imacr;image;imagline;imagpart;imath;imof;imped;in;incare;infin"
+                    + ";infintie;inodot;int;intcal;integers;intercal;intlarhk;intprod;iocy;iogo"
+                    + "n;iopf;iota;iprod;iquest;iscr;isin;isinE;isindot;isins;isinsv;isinv;it;i"
+                    + "tilde;iukcy;iuml;jcirc;jcy;jfr;jmath;jopf;jscr;jsercy;jukcy;kappa;kappav"
+                    + ";kcedil;kcy;kfr;kgreen;khcy;kjcy;kopf;kscr;lAarr;lArr;lAtail;lBarr;lE;lE"
+                    + "g;lHar;lacute;laemptyv;lagran;lambda;lang;langd;langle;lap;laquo;larr;la"
+                    + "rrb;larrbfs;larrfs;larrhk;larrlp;larrpl;larrsim;larrtl;lat;latail;late;l"
+                    + "ates;lbarr;lbbrk;lbrace;lbrack;lbrke;lbrksld;lbrkslu;lcaron;lcedil;lceil"
+                    + ";lcub;lcy;ldca;ldquo;ldquor;ldrdhar;ldrushar;ldsh;le;leftarrow;leftarrow"
+                    + "tail;leftharpoondown;leftharpoonup;leftleftarrows;leftrightarrow;leftrig"
+                    + "htarrows;leftrightharpoons;leftrightsquigarrow;leftthreetimes;leg;leq;le"
+                    + "qq;leqslant;les;lescc;lesdot;lesdoto;lesdotor;lesg;lesges;lessapprox;les"
+                    + "sdot;lesseqgtr;lesseqqgtr;lessgtr;lesssim;lfisht;lfloor;lfr;lg;lgE;lhard"
+                    + ";lharu;lharul;lhblk;ljcy;ll;llarr;llcorner;llhard;lltri;lmidot;lmoust;lm"
+                    + "oustache;lnE;lnap;lnapprox;lne;lneq;lneqq;lnsim;loang;loarr;lobrk;longle"
+                    + "ftarrow;longleftrightarrow;longmapsto;longrightarrow;looparrowleft;loopa"
+                    + "rrowright;lopar;lopf;loplus;lotimes;lowast;lowbar;loz;lozenge;lozf;lpar;"
+                    + "lparlt;lrarr;lrcorner;lrhar;lrhard;lrm;lrtri;lsaquo;lscr;lsh;lsim;lsime;"
+                    + "lsimg;lsqb;lsquo;lsquor;lstrok;lt;ltcc;ltcir;ltdot;lthree;ltimes;ltlarr;"
+                    + "ltquest;ltrPar;ltri;ltrie;ltrif;lurdshar;luruhar;lvertneqq;lvnE;mDDot;ma"
+                    + "cr;male;malt;maltese;map;mapsto;mapstodown;mapstoleft;mapstoup;marker;mc"
+                    + "omma;mcy;mdash;measuredangle;mfr;mho;micro;mid;midast;midcir;middot;minu"
+                    + "s;minusb;minusd;minusdu;mlcp;mldr;mnplus;models;mopf;mp;mscr;mstpos;mu;m"
+                    + "ultimap;mumap;nGg;nGt;nGtv;nLeftarrow;nLeftrightarrow;nLl;nLt;nLtv;nRigh"
+                    + "tarrow;nVDash;nVdash;nabla;nacute;nang;nap;napE;napid;napos;napprox;natu"
+                    + "r;natural;naturals;nbsp;nbump;nbumpe;ncap;ncaron;ncedil;ncong;ncongdot;n"
+                    + "cup;ncy;ndash;ne;neArr;nearhk;nearr;nearrow;nedot;nequiv;nesear;nesim;ne"
+                    + "xist;nexists;nfr;ngE;nge;ngeq;ngeqq;ngeqslant;nges;ngsim;ngt;ngtr;nhArr;"
+                    + "nharr;nhpar;ni;nis;nisd;niv;njcy;nlArr;nlE;nlarr;nldr;nle;nleftarrow;nle"
+                    + "ftrightarrow;nleq;nleqq;nleqslant;nles;nless;nlsim;nlt;nltri;nltrie;nmid"
+                    + ";nopf;not;notin;notinE;notindot;notinva;notinvb;notinvc;notni;notniva;no"
+                    + "tnivb;notnivc;npar;nparallel;nparsl;npart;npolint;npr;nprcue;npre;nprec;"
+                    + "npreceq;nrArr;nrarr;nrarrc;nrarrw;nrightarrow;nrtri;nrtrie;nsc;nsccue;ns"
+                    + "ce;nscr;nshortmid;nshortparallel;nsim;nsime;nsimeq;nsmid;nspar;nsqsube;n"
+                    + "sqsupe;nsub;nsubE;nsube;nsubset;nsubseteq;nsubseteqq;nsucc;nsucceq;nsup;"
+                    + "nsupE;nsupe;nsupset;nsupseteq;nsupseteqq;ntgl;ntilde;ntlg;ntriangleleft;"
+                    + "ntrianglelefteq;ntriangleright;ntrianglerighteq;nu;num;numero;numsp;nvDa"
+                    + "sh;nvHarr;nvap;nvdash;nvge;nvgt;nvinfin;nvlArr;nvle;nvlt;nvltrie;nvrArr;"
+                    + "nvrtrie;nvsim;nwArr;nwarhk;nwarr;nwarrow;nwnear;oS;oacute;oast;ocir;ocir"
+                    + "c;ocy;odash;odblac;odiv;odot;odsold;oelig;ofcir;ofr;ogon;ograve;ogt;ohba"
+                    + "r;ohm;oint;olarr;olcir;olcross;oline;olt;omacr;omega;omicron;omid;ominus"
+                    + ";oopf;opar;operp;oplus;or;orarr;ord;order;orderof;ordf;ordm;origof;oror;"
+                    + "orslope;orv;oscr;oslash;osol;otilde;otimes;otimesas;ouml;ovbar;par;para;"
+                    + "parallel;parsim;parsl;part;pcy;percnt;period;permil;perp;pertenk;pfr;phi"
+                    + ";phiv;phmmat;phone;pi;pitchfork;piv;planck;planckh;plankv;plus;plusacir;"
+                    + "plusb;pluscir;plusdo;plusdu;pluse;plusmn;plussim;plustwo;pm;pointint;pop"
+                    + "f;pound;pr;prE;prap;prcue;pre;prec;precapprox;preccurlyeq;preceq;precnap"
+                    + "prox;precneqq;precnsim;precsim;prime;primes;prnE;prnap;prnsim;prod;profa"
+                    + "lar;profline;profsurf;prop;propto;prsim;prurel;pscr;psi;puncsp;qfr;qint;"
+                    + "qopf;qprime;qscr;quaternions;quatint;quest;questeq;quot;rAarr;rArr;rAtai"
+                    + "l;rBarr;rHar;race;racute;radic;raemptyv;rang;rangd;range;rangle;raquo;ra"
+                    + "rr;rarrap;rarrb;rarrbfs;rarrc;rarrfs;rarrhk;rarrlp;rarrpl;rarrsim;rarrtl"
+                    + ";rarrw;ratail;ratio;rationals;rbarr;rbbrk;rbrace;rbrack;rbrke;rbrksld;rb"
+                    + "rkslu;rcaron;rcedil;rceil;rcub;rcy;rdca;rdldhar;rdquo;rdquor;rdsh;real;r"
+                    + "ealine;realpart;reals;rect;reg;rfisht;rfloor;rfr;rhard;rharu;rharul;rho;"
+                    + "rhov;rightarrow;rightarrowtail;rightharpoondown;rightharpoonup;rightleft"
+                    + "arrows;rightleftharpoons;rightrightarrows;rightsquigarrow;rightthreetime"
+                    + "s;ring;risingdotseq;rlarr;rlhar;rlm;rmoust;rmoustache;rnmid;roang;roarr;"
+                    + "robrk;ropar;ropf;roplus;rotimes;rpar;rpargt;rppolint;rrarr;rsaquo;rscr;r"
+                    + "sh;rsqb;rsquo;rsquor;rthree;rtimes;rtri;rtrie;rtrif;rtriltri;ruluhar;rx;"
+                    + "sacute;sbquo;sc;scE;scap;scaron;sccue;sce;scedil;scirc;scnE;scnap;scnsim"
+                    + ";scpolint;scsim;scy;sdot;sdotb;sdote;seArr;searhk;searr;searrow;sect;sem"
+                    + "i;seswar;setminus;setmn;sext;sfr;sfrown;sharp;shchcy;shcy;shortmid;short"
+                    + "parallel;shy;sigma;sigmaf;sigmav;sim;simdot;sime;simeq;simg;simgE;siml;s"
+                    + "imlE;simne;simplus;simrarr;slarr;smallsetminus;smashp;smeparsl;smid;smil"
+                    + "e;smt;smte;smtes;softcy;sol;solb;solbar;sopf;spades;spadesuit;spar;sqcap"
+                    + ";sqcaps;sqcup;sqcups;sqsub;sqsube;sqsubset;sqsubseteq;sqsup;sqsupe;sqsup"
+                    + "set;sqsupseteq;squ;square;squarf;squf;srarr;sscr;ssetmn;ssmile;sstarf;st"
+                    + "ar;starf;straightepsilon;straightphi;strns;sub;subE;subdot;sube;subedot;"
+                    + "submult;subnE;subne;subplus;subrarr;subset;subseteq;subseteqq;subsetneq;"
+                    + "subsetneqq;subsim;subsub;subsup;succ;succapprox;succcurlyeq;succeq;succn"
+                    + "approx;succneqq;succnsim;succsim;sum;sung;sup;sup1;sup2;sup3;supE;supdot"
+                    + ";supdsub;supe;supedot;suphsol;suphsub;suplarr;supmult;supnE;supne;supplu"
+                    + "s;supset;supseteq;supseteqq;supsetneq;supsetneqq;supsim;supsub;supsup;sw"
+                    + "Arr;swarhk;swarr;swarrow;swnwar;szlig;target;tau;tbrk;tcaron;tcedil;tcy;"
+                    + "tdot;telrec;tfr;there4;therefore;theta;thetasym;thetav;thickapprox;thick"
+                    + "sim;thinsp;thkap;thksim;thorn;tilde;times;timesb;timesbar;timesd;tint;to"
+                    + "ea;top;topbot;topcir;topf;topfork;tosa;tprime;trade;triangle;triangledow"
+                    + "n;triangleleft;trianglelefteq;triangleq;triangleright;trianglerighteq;tr"
+                    + "idot;trie;triminus;triplus;trisb;tritime;trpezium;tscr;tscy;tshcy;tstrok"
+                    + ";twixt;twoheadleftarrow;twoheadrightarrow;uArr;uHar;uacute;uarr;ubrcy;ub"
+                    + "reve;ucirc;ucy;udarr;udblac;udhar;ufisht;ufr;ugrave;uharl;uharr;uhblk;ul"
+                    + "corn;ulcorner;ulcrop;ultri;umacr;uml;uogon;uopf;uparrow;updownarrow;upha"
+                    + "rpoonleft;upharpoonright;uplus;upsi;upsih;upsilon;upuparrows;urcorn;urco"
+                    + "rner;urcrop;uring;urtri;uscr;utdot;utilde;utri;utrif;uuarr;uuml;uwangle;"
+                    + "vArr;vBar;vBarv;vDash;vangrt;varepsilon;varkappa;varnothing;varphi;varpi"
+                    + ";varpropto;varr;varrho;varsigma;varsubsetneq;varsubsetneqq;varsupsetneq;"
+                    + "varsupsetneqq;vartheta;vartriangleleft;vartriangleright;vcy;vdash;vee;ve"
+                    + "ebar;veeeq;vellip;verbar;vert;vfr;vltri;vnsub;vnsup;vopf;vprop;vrtri;vsc"
+                    + "r;vsubnE;vsubne;vsupnE;vsupne;vzigzag;wcirc;wedbar;wedge;wedgeq;weierp;w"
+                    + "fr;wopf;wp;wr;wreath;wscr;xcap;xcirc;xcup;xdtri;xfr;xhArr;xharr;xi;xlArr"
+                    + ";xlarr;xmap;xnis;xodot;xopf;xoplus;xotime;xrArr;xrarr;xscr;xsqcup;xuplus"
+                    + ";xutri;xvee;xwedge;yacute;yacy;ycirc;ycy;yen;yfr;yicy;yopf;yscr;yucy;yum"
+                    + "l;zacute;zcaron;zcy;zdot;zeetrf;zeta;zfr;zhcy;zigrarr;zopf;zscr;zwj;zwnj"
+                    + ";";
+
+    /** The values of the entities in the same order, each followed by NUL. */
+    static final String VALUES =
+            "\u00C6\u0000&\u0000\u00C1\u0000\u0102\u0000\u00C2\u0000\u0410\u0000\uD835"
+                    + "\uDD04\u0000\u00C0\u0000\u0391\u0000\u0100\u0000\u2A53\u0000\u0104\u0000"
+                    + "\uD835\uDD38\u0000\u2061\u0000\u00C5\u0000\uD835\uDC9C\u0000\u2254\u0000"
+                    + "\u00C3\u0000\u00C4\u0000\u2216\u0000\u2AE7\u0000\u2306\u0000\u0411\u0000"
+                    + "\u2235\u0000\u212C\u0000\u0392\u0000\uD835\uDD05\u0000\uD835\uDD39\u0000"
+                    + "\u02D8\u0000\u212C\u0000\u224E\u0000\u0427\u0000\u00A9\u0000\u0106\u0000"
+                    + "\u22D2\u0000\u2145\u0000\u212D\u0000\u010C\u0000\u00C7\u0000\u0108\u0000"
+                    + "\u2230\u0000\u010A\u0000\u00B8\u0000\u00B7\u0000\u212D\u0000\u03A7\u0000"
+                    + "\u2299\u0000\u2296\u0000\u2295\u0000\u2297\u0000\u2232\u0000\u201D\u0000"
+                    + "\u2019\u0000\u2237\u0000\u2A74\u0000\u2261\u0000\u222F\u0000\u222E\u0000"
+                    + "\u2102\u0000\u2210\u0000\u2233\u0000\u2A2F\u0000\uD835\uDC9E\u0000\u22D3"
+                    + "\u0000\u224D\u0000\u2145\u0000\u2911\u0000\u0402\u0000\u0405\u0000\u040F"
+                    + "\u0000\u2021\u0000\u21A1\u0000\u2AE4\u0000\u010E\u0000\u0414\u0000\u2207"
+                    + "\u0000\u0394\u0000\uD835\uDD07\u0000\u00B4\u0000\u02D9\u0000\u02DD\u0000"
+                    + "`\u0000\u02DC\u0000\u22C4\u0000\u2146\u0000\uD835\uDD3B\u0000\u00A8\u0000"
+                    + "\u20DC\u0000\u2250\u0000\u222F\u0000\u00A8\u0000\u21D3\u0000\u21D0\u0000"
+                    + "\u21D4\u0000\u2AE4\u0000\u27F8\u0000\u27FA\u0000\u27F9\u0000\u21D2\u0000"
+                    + "\u22A8\u0000\u21D1\u0000\u21D5\u0000\u2225\u0000\u2193\u0000\u2913\u0000"
+                    + "\u21F5\u0000\u0311\u0000\u2950\u0000\u295E\u0000\u21BD\u0000\u2956\u0000"
+                    + "\u295F\u0000\u21C1\u0000\u2957\u0000\u22A4\u0000\u21A7\u0000\u21D3\u0000"
+                    + "\uD835\uDC9F\u0000\u0110\u0000\u014A\u0000\u00D0\u0000\u00C9\u0000\u011A"
+                    + "\u0000\u00CA\u0000\u042D\u0000\u0116\u0000\uD835\uDD08\u0000\u00C8\u0000"
+                    + "\u2208\u0000\u0112\u0000\u25FB\u0000\u25AB\u0000\u0118\u0000\uD835\uDD3C"
+                    + "\u0000\u0395\u0000\u2A75\u0000\u2242\u0000\u21CC\u0000\u2130\u0000\u2A73"
+                    + "\u0000\u0397\u0000\u00CB\u0000\u2203\u0000\u2147\u0000\u0424\u0000\uD835"
+                    + "\uDD09\u0000\u25FC\u0000\u25AA\u0000\uD835\uDD3D\u0000\u2200\u0000\u2131"
+                    + "\u0000\u2131\u0000\u0403\u0000>\u0000\u0393\u0000\u03DC\u0000\u011E\u0000"
+                    + "\u0122\u0000\u011C\u0000\u0413\u0000\u0120\u0000\uD835\uDD0A\u0000\u22D9"
+                    + "\u0000\uD835\uDD3E\u0000\u2265\u0000\u22DB\u0000\u2267\u0000\u2AA2\u0000"
+                    + "\u2277\u0000\u2A7E\u0000\u2273\u0000\uD835\uDCA2\u0000\u226B\u0000\u042A"
+                    + "\u0000\u02C7\u0000^\u0000\u0124\u0000\u210C\u0000\u210B\u0000\u210D\u0000"
+                    + "\u2500\u0000\u210B\u0000\u0126\u0000\u224E\u0000\u224F\u0000\u0415\u0000"
+                    + "\u0132\u0000\u0401\u0000\u00CD\u0000\u00CE\u0000\u0418\u0000\u0130\u0000"
+                    + "\u2111\u0000\u00CC\u0000\u2111\u0000\u012A\u0000\u2148\u0000\u21D2\u0000"
+                    + "\u222C\u0000\u222B\u0000\u22C2\u0000\u2063\u0000\u2062\u0000\u012E\u0000"
+                    + "\uD835\uDD40\u0000\u0399\u0000\u2110\u0000\u0128\u0000\u0406\u0000\u00CF"
+                    + "\u0000\u0134\u0000\u0419\u0000\uD835\uDD0D\u0000\uD835\uDD41\u0000\uD835"
+                    + "\uDCA5\u0000\u0408\u0000\u0404\u0000\u0425\u0000\u040C\u0000\u039A\u0000"
+                    + "\u0136\u0000\u041A\u0000\uD835\uDD0E\u0000\uD835\uDD42\u0000\uD835\uDCA6"
+                    + "\u0000\u0409\u0000<\u0000\u0139\u0000\u039B\u0000\u27EA\u0000\u2112\u0000"
+                    + "\u219E\u0000\u013D\u0000\u013B\u0000\u041B\u0000\u27E8\u0000\u2190\u0000"
+                    + "\u21E4\u0000\u21C6\u0000\u2308\u0000\u27E6\u0000\u2961\u0000\u21C3\u0000"
+                    + "\u2959\u0000\u230A\u0000\u2194\u0000\u294E\u0000\u22A3\u0000\u21A4\u0000"
+                    + "\u295A\u0000\u22B2\u0000\u29CF\u0000\u22B4\u0000\u2951\u0000\u2960\u0000"
+                    + "\u21BF\u0000\u2958\u0000\u21BC\u0000\u2952\u0000\u21D0\u0000\u21D4\u0000"
+                    + "\u22DA\u0000\u2266\u0000\u2276\u0000\u2AA1\u0000\u2A7D\u0000\u2272\u0000"
+                    + "\uD835\uDD0F\u0000\u22D8\u0000\u21DA\u0000\u013F\u0000\u27F5\u0000\u27F7"
+                    + "\u0000\u27F6\u0000\u27F8\u0000\u27FA\u0000\u27F9\u0000\uD835\uDD43\u0000"
+                    + "\u2199\u0000\u2198\u0000\u2112\u0000\u21B0\u0000\u0141\u0000\u226A\u0000"
+                    + "\u2905\u0000\u041C\u0000\u205F\u0000\u2133\u0000\uD835\uDD10\u0000\u2213"
+                    + "\u0000\uD835\uDD44\u0000\u2133\u0000\u039C\u0000\u040A\u0000\u0143\u0000"
+                    + "\u0147\u0000\u0145\u0000\u041D\u0000\u200B\u0000\u200B\u0000\u200B\u0000"
+                    + "\u200B\u0000\u226B\u0000\u226A\u0000\n\u0000\uD835\uDD11\u0000\u2060\u0000"
+                    + "\u00A0\u0000\u2115\u0000\u2AEC\u0000\u2262\u0000\u226D\u0000\u2226\u0000"
+                    + "\u2209\u0000\u2260\u0000\u2242\u0338\u0000\u2204\u0000\u226F\u0000\u2271"
+                    + "\u0000\u2267\u0338\u0000\u226B\u0338\u0000\u2279\u0000\u2A7E\u0338\u0000"
+                    + "\u2275\u0000\u224E\u0338\u0000\u224F\u0338\u0000\u22EA\u0000\u29CF\u0338"
+                    + "\u0000\u22EC\u0000\u226E\u0000\u2270\u0000\u2278\u0000\u226A\u0338\u0000"
+                    + "\u2A7D\u0338\u0000\u2274\u0000\u2AA2\u0338\u0000\u2AA1\u0338\u0000\u2280"
+                    + "\u0000\u2AAF\u0338\u0000\u22E0\u0000\u220C\u0000\u22EB\u0000\u29D0\u0338"
+                    + "\u0000\u22ED\u0000\u228F\u0338\u0000\u22E2\u0000\u2290\u0338\u0000\u22E3"
+                    + "\u0000\u2282\u20D2\u0000\u2288\u0000\u2281\u0000\u2AB0\u0338\u0000\u22E1"
+                    + "\u0000\u227F\u0338\u0000\u2283\u20D2\u0000\u2289\u0000\u2241\u0000\u2244"
+                    + "\u0000\u2247\u0000\u2249\u0000\u2224\u0000\uD835\uDCA9\u0000\u00D1\u0000"
+                    + "\u039D\u0000\u0152\u0000\u00D3\u0000\u00D4\u0000\u041E\u0000\u0150\u0000"
+                    + "\uD835\uDD12\u0000\u00D2\u0000\u014C\u0000\u03A9\u0000\u039F\u0000\uD835"
+                    + "\uDD46\u0000\u201C\u0000\u2018\u0000\u2A54\u0000\uD835\uDCAA\u0000\u00D8"
+                    + "\u0000\u00D5\u0000\u2A37\u0000\u00D6\u0000\u203E\u0000\u23DE\u0000\u23B4"
+                    + "\u0000\u23DC\u0000\u2202\u0000\u041F\u0000\uD835\uDD13\u0000\u03A6\u0000"
+                    + "\u03A0\u0000\u00B1\u0000\u210C\u0000\u2119\u0000\u2ABB\u0000\u227A\u0000"
+                    + "\u2AAF\u0000\u227C\u0000\u227E\u0000\u2033\u0000\u220F\u0000\u2237\u0000"
+                    + "\u221D\u0000\uD835\uDCAB\u0000\u03A8\u0000\"\u0000\uD835\uDD14\u0000\u211A"
+                    + "\u0000\uD835\uDCAC\u0000\u2910\u0000\u00AE\u0000\u0154\u0000\u27EB\u0000"
+                    + "\u21A0\u0000\u2916\u0000\u0158\u0000\u0156\u0000\u0420\u0000\u211C\u0000"
+                    + "\u220B\u0000\u21CB\u0000\u296F\u0000\u211C\u0000\u03A1\u0000\u27E9\u0000"
+                    + "\u2192\u0000\u21E5\u0000\u21C4\u0000\u2309\u0000\u27E7\u0000\u295D\u0000"
+                    + "\u21C2\u0000\u2955\u0000\u230B\u0000\u22A2\u0000\u21A6\u0000\u295B\u0000"
+                    + "\u22B3\u0000\u29D0\u0000\u22B5\u0000\u294F\u0000\u295C\u0000\u21BE\u0000"
+                    + "\u2954\u0000\u21C0\u0000\u2953\u0000\u21D2\u0000\u211D\u0000\u2970\u0000"
+                    + "\u21DB\u0000\u211B\u0000\u21B1\u0000\u29F4\u0000\u0429\u0000\u0428\u0000"
+                    + "\u042C\u0000\u015A\u0000\u2ABC\u0000\u0160\u0000\u015E\u0000\u015C\u0000"
+                    + "\u0421\u0000\uD835\uDD16\u0000\u2193\u0000\u2190\u0000\u2192\u0000\u2191"
+                    + "\u0000\u03A3\u0000\u2218\u0000\uD835\uDD4A\u0000\u221A\u0000\u25A1\u0000"
+                    + "\u2293\u0000\u228F\u0000\u2291\u0000\u2290\u0000\u2292\u0000\u2294\u0000"
+                    + "\uD835\uDCAE\u0000\u22C6\u0000\u22D0\u0000\u22D0\u0000\u2286\u0000\u227B"
+                    + "\u0000\u2AB0\u0000\u227D\u0000\u227F\u0000\u220B\u0000\u2211\u0000\u22D1"
+                    + "\u0000\u2283\u0000\u2287\u0000\u22D1\u0000\u00DE\u0000\u2122\u0000\u040B"
+                    + "\u0000\u0426\u0000\t\u0000\u03A4\u0000\u0164\u0000\u0162\u0000\u0422\u0000"
+                    + "\uD835\uDD17\u0000\u2234\u0000\u0398\u0000\u205F\u200A\u0000\u2009\u0000"
+                    + "\u223C\u0000\u2243\u0000\u2245\u0000\u2248\u0000\uD835\uDD4B\u0000\u20DB"
+                    + "\u0000\uD835\uDCAF\u0000\u0166\u0000\u00DA\u0000\u219F\u0000\u2949\u0000"
+                    + "\u040E\u0000\u016C\u0000\u00DB\u0000\u0423\u0000\u0170\u0000\uD835\uDD18"
+                    + "\u0000\u00D9\u0000\u016A\u0000_\u0000\u23DF\u0000\u23B5\u0000\u23DD\u0000"
+                    + "\u22C3\u0000\u228E\u0000\u0172\u0000\uD835\uDD4C\u0000\u2191\u0000\u2912"
+                    + "\u0000\u21C5\u0000\u2195\u0000\u296E\u0000\u22A5\u0000\u21A5\u0000\u21D1"
+                    + "\u0000\u21D5\u0000\u2196\u0000\u2197\u0000\u03D2\u0000\u03A5\u0000\u016E"
+                    + "\u0000\uD835\uDCB0\u0000\u0168\u0000\u00DC\u0000\u22AB\u0000\u2AEB\u0000"
+                    + "\u0412\u0000\u22A9\u0000\u2AE6\u0000\u22C1\u0000\u2016\u0000\u2016\u0000"
+                    + "\u2223\u0000|\u0000\u2758\u0000\u2240\u0000\u200A\u0000\uD835\uDD19\u0000"
+                    + "\uD835\uDD4D\u0000\uD835\uDCB1\u0000\u22AA\u0000\u0174\u0000\u22C0\u0000"
+                    + "\uD835\uDD1A\u0000\uD835\uDD4E\u0000\uD835\uDCB2\u0000\uD835\uDD1B\u0000"
+                    + "\u039E\u0000\uD835\uDD4F\u0000\uD835\uDCB3\u0000\u042F\u0000\u0407\u0000"
+                    + "\u042E\u0000\u00DD\u0000\u0176\u0000\u042B\u0000\uD835\uDD1C\u0000\uD835"
+                    + "\uDD50\u0000\uD835\uDCB4\u0000\u0178\u0000\u0416\u0000\u0179\u0000\u017D"
+                    + "\u0000\u0417\u0000\u017B\u0000\u200B\u0000\u0396\u0000\u2128\u0000\u2124"
+                    + "\u0000\uD835\uDCB5\u0000\u00E1\u0000\u0103\u0000\u223E\u0000\u223E\u0333"
+                    + "\u0000\u223F\u0000\u00E2\u0000\u00B4\u0000\u0430\u0000\u00E6\u0000\u2061"
+                    + "\u0000\uD835\uDD1E\u0000\u00E0\u0000\u2135\u0000\u2135\u0000\u03B1\u0000"
+                    + "\u0101\u0000\u2A3F\u0000&\u0000\u2227\u0000\u2A55\u0000\u2A5C\u0000\u2A58"
+                    + "\u0000\u2A5A\u0000\u2220\u0000\u29A4\u0000\u2220\u0000\u2221\u0000\u29A8"
+                    + "\u0000\u29A9\u0000\u29AA\u0000\u29AB\u0000\u29AC\u0000\u29AD\u0000\u29AE"
+                    + "\u0000\u29AF\u0000\u221F\u0000\u22BE\u0000\u299D\u0000\u2222\u0000\u00C5"
+                    + "\u0000\u237C\u0000\u0105\u0000\uD835\uDD52\u0000\u2248\u0000\u2A70\u0000"
+                    + "\u2A6F\u0000\u224A\u0000\u224B\u0000'\u0000\u2248\u0000\u224A\u0000\u00E5"
+                    + "\u0000\uD835\uDCB6\u0000*\u0000\u2248\u0000\u224D\u0000\u00E3\u0000\u00E4"
+                    + "\u0000\u2233\u0000\u2A11\u0000\u2AED\u0000\u224C\u0000\u03F6\u0000\u2035"
+                    + "\u0000\u223D\u0000\u22CD\u0000\u22BD\u0000\u2305\u0000\u2305\u0000\u23B5"
+                    + "\u0000\u23B6\u0000\u224C\u0000\u0431\u0000\u201E\u0000\u2235\u0000\u2235"
+                    + "\u0000\u29B0\u0000\u03F6\u0000\u212C\u0000\u03B2\u0000\u2136\u0000\u226C"
+                    + "\u0000\uD835\uDD1F\u0000\u22C2\u0000\u25EF\u0000\u22C3\u0000\u2A00\u0000"
+                    + "\u2A01\u0000\u2A02\u0000\u2A06\u0000\u2605\u0000\u25BD\u0000\u25B3\u0000"
+                    + "\u2A04\u0000\u22C1\u0000\u22C0\u0000\u290D\u0000\u29EB\u0000\u25AA\u0000"
+                    + "\u25B4\u0000\u25BE\u0000\u25C2\u0000\u25B8\u0000\u2423\u0000\u2592\u0000"
+                    + "\u2591\u0000\u2593\u0000\u2588\u0000=\u20E5\u0000\u2261\u20E5\u0000\u2310"
+                    + "\u0000\uD835\uDD53\u0000\u22A5\u0000\u22A5\u0000\u22C8\u0000\u2557\u0000"
+                    + "\u2554\u0000\u2556\u0000\u2553\u0000\u2550\u0000\u2566\u0000\u2569\u0000"
+                    + "\u2564\u0000\u2567\u0000\u255D\u0000\u255A\u0000\u255C\u0000\u2559\u0000"
+                    + "\u2551\u0000\u256C\u0000\u2563\u0000\u2560\u0000\u256B\u0000\u2562\u0000"
+                    + "\u255F\u0000\u29C9\u0000\u2555\u0000\u2552\u0000\u2510\u0000\u250C\u0000"
+                    + "\u2500\u0000\u2565\u0000\u2568\u0000\u252C\u0000\u2534\u0000\u229F\u0000"
+                    + "\u229E\u0000\u22A0\u0000\u255B\u0000\u2558\u0000\u2518\u0000\u2514\u0000"
+                    + "\u2502\u0000\u256A\u0000\u2561\u0000\u255E\u0000\u253C\u0000\u2524\u0000"
+                    + "\u251C\u0000\u2035\u0000\u02D8\u0000\u00A6\u0000\uD835\uDCB7\u0000\u204F"
+                    + "\u0000\u223D\u0000\u22CD\u0000\\\u0000\u29C5\u0000\u27C8\u0000\u2022\u0000"
+                    + "\u2022\u0000\u224E\u0000\u2AAE\u0000\u224F\u0000\u224F\u0000\u0107\u0000"
+                    + "\u2229\u0000\u2A44\u0000\u2A49\u0000\u2A4B\u0000\u2A47\u0000\u2A40\u0000"
+                    + "\u2229\uFE00\u0000\u2041\u0000\u02C7\u0000\u2A4D\u0000\u010D\u0000\u00E7"
+                    + "\u0000\u0109\u0000\u2A4C\u0000\u2A50\u0000\u010B\u0000\u00B8\u0000\u29B2"
+                    + "\u0000\u00A2\u0000\u00B7\u0000\uD835\uDD20\u0000\u0447\u0000\u2713\u0000"
+                    + "\u2713\u0000\u03C7\u0000\u25CB\u0000\u29C3\u0000\u02C6\u0000\u2257\u0000"
+                    + "\u21BA\u0000\u21BB\u0000\u00AE\u0000\u24C8\u0000\u229B\u0000\u229A\u0000"
+                    + "\u229D\u0000\u2257\u0000\u2A10\u0000\u2AEF\u0000\u29C2\u0000\u2663\u0000"
+                    + "\u2663\u0000:\u0000\u2254\u0000\u2254\u0000,\u0000@\u0000\u2201\u0000\u2218"
+                    + "\u0000\u2201\u0000\u2102\u0000\u2245\u0000\u2A6D\u0000\u222E\u0000\uD835"
+                    + "\uDD54\u0000\u2210\u0000\u00A9\u0000\u2117\u0000\u21B5\u0000\u2717\u0000"
+                    + "\uD835\uDCB8\u0000\u2ACF\u0000\u2AD1\u0000\u2AD0\u0000\u2AD2\u0000\u22EF"
+                    + "\u0000\u2938\u0000\u2935\u0000\u22DE\u0000\u22DF\u0000\u21B6\u0000\u293D"
+                    + "\u0000\u222A\u0000\u2A48\u0000\u2A46\u0000\u2A4A\u0000\u228D\u0000\u2A45"
+                    + "\u0000\u222A\uFE00\u0000\u21B7\u0000\u293C\u0000\u22DE\u0000\u22DF\u0000"
+                    + "\u22CE\u0000\u22CF\u0000\u00A4\u0000\u21B6\u0000\u21B7\u0000\u22CE\u0000"
+                    + "\u22CF\u0000\u2232\u0000\u2231\u0000\u232D\u0000\u21D3\u0000\u2965\u0000"
+                    + "\u2020\u0000\u2138\u0000\u2193\u0000\u2010\u0000\u22A3\u0000\u290F\u0000"
+                    + "\u02DD\u0000\u010F\u0000\u0434\u0000\u2146\u0000\u2021\u0000\u21CA\u0000"
+                    + "\u2A77\u0000\u00B0\u0000\u03B4\u0000\u29B1\u0000\u297F\u0000\uD835\uDD21"
+                    + "\u0000\u21C3\u0000\u21C2\u0000\u22C4\u0000\u22C4\u0000\u2666\u0000\u2666"
+                    + "\u0000\u00A8\u0000\u03DD\u0000\u22F2\u0000\u00F7\u0000\u00F7\u0000\u22C7"
+                    + "\u0000\u22C7\u0000\u0452\u0000\u231E\u0000\u230D\u0000$\u0000\uD835\uDD55"
+                    + "\u0000\u02D9\u0000\u2250\u0000\u2251\u0000\u2238\u0000\u2214\u0000\u22A1"
+                    + "\u0000\u2306\u0000\u2193\u0000\u21CA\u0000\u21C3\u0000\u21C2\u0000\u2910"
+                    + "\u0000\u231F\u0000\u230C\u0000\uD835\uDCB9\u0000\u0455\u0000\u29F6\u0000"
+                    + "\u0111\u0000\u22F1\u0000\u25BF\u0000\u25BE\u0000\u21F5\u0000\u296F\u0000"
+                    + "\u29A6\u0000\u045F\u0000\u27FF\u0000\u2A77\u0000\u2251\u0000\u00E9\u0000"
+                    + "\u2A6E\u0000\u011B\u0000\u2256\u0000\u00EA\u0000\u2255\u0000\u044D\u0000"
+                    + "\u0117\u0000\u2147\u0000\u2252\u0000\uD835\uDD22\u0000\u2A9A\u0000\u00E8"
+                    + "\u0000\u2A96\u0000\u2A98\u0000\u2A99\u0000\u23E7\u0000\u2113\u0000\u2A95"
+                    + "\u0000\u2A97\u0000\u0113\u0000\u2205\u0000\u2205\u0000\u2205\u0000\u2003"
+                    + "\u0000\u2004\u0000\u2005\u0000\u014B\u0000\u2002\u0000\u0119\u0000\uD835"
+                    + "\uDD56\u0000\u22D5\u0000\u29E3\u0000\u2A71\u0000\u03B5\u0000\u03B5\u0000"
+                    + "\u03F5\u0000\u2256\u0000\u2255\u0000\u2242\u0000\u2A96\u0000\u2A95\u0000"
+                    + "=\u0000\u225F\u0000\u2261\u0000\u2A78\u0000\u29E5\u0000\u2253\u0000\u2971"
+                    + "\u0000\u212F\u0000\u2250\u0000\u2242\u0000\u03B7\u0000\u00F0\u0000\u00EB"
+                    + "\u0000\u20AC\u0000!\u0000\u2203\u0000\u2130\u0000\u2147\u0000\u2252\u0000"
+                    + "\u0444\u0000\u2640\u0000\uFB03\u0000\uFB00\u0000\uFB04\u0000\uD835\uDD23"
+                    + "\u0000\uFB01\u0000fj\u0000\u266D\u0000\uFB02\u0000\u25B1\u0000\u0192\u0000"
+                    + "\uD835\uDD57\u0000\u2200\u0000\u22D4\u0000\u2AD9\u0000\u2A0D\u0000\u00BD"
+                    + "\u0000\u2153\u0000\u00BC\u0000\u2155\u0000\u2159\u0000\u215B\u0000\u2154"
+                    + "\u0000\u2156\u0000\u00BE\u0000\u2157\u0000\u215C\u0000\u2158\u0000\u215A"
+                    + "\u0000\u215D\u0000\u215E\u0000\u2044\u0000\u2322\u0000\uD835\uDCBB\u0000"
+                    + "\u2267\u0000\u2A8C\u0000\u01F5\u0000\u03B3\u0000\u03DD\u0000\u2A86\u0000"
+                    + "\u011F\u0000\u011D\u0000\u0433\u0000\u0121\u0000\u2265\u0000\u22DB\u0000"
+                    + "\u2265\u0000\u2267\u0000\u2A7E\u0000\u2A7E\u0000\u2AA9\u0000\u2A80\u0000"
+                    + "\u2A82\u0000\u2A84\u0000\u22DB\uFE00\u0000\u2A94\u0000\uD835\uDD24\u0000"
+                    + "\u226B\u0000\u22D9\u0000\u2137\u0000\u0453\u0000\u2277\u0000\u2A92\u0000"
+                    + "\u2AA5\u0000\u2AA4\u0000\u2269\u0000\u2A8A\u0000\u2A8A\u0000\u2A88\u0000"
+                    + "\u2A88\u0000\u2269\u0000\u22E7\u0000\uD835\uDD58\u0000`\u0000\u210A\u0000"
+                    + "\u2273\u0000\u2A8E\u0000\u2A90\u0000>\u0000\u2AA7\u0000\u2A7A\u0000\u22D7"
+                    + "\u0000\u2995\u0000\u2A7C\u0000\u2A86\u0000\u2978\u0000\u22D7\u0000\u22DB"
+                    + "\u0000\u2A8C\u0000\u2277\u0000\u2273\u0000\u2269\uFE00\u0000\u2269\uFE00"
+                    + "\u0000\u21D4\u0000\u200A\u0000\u00BD\u0000\u210B\u0000\u044A\u0000\u2194"
+                    + "\u0000\u2948\u0000\u21AD\u0000\u210F\u0000\u0125\u0000\u2665\u0000\u2665"
+                    + "\u0000\u2026\u0000\u22B9\u0000\uD835\uDD25\u0000\u2925\u0000\u2926\u0000"
+                    + "\u21FF\u0000\u223B\u0000\u21A9\u0000\u21AA\u0000\uD835\uDD59\u0000\u2015"
+                    + "\u0000\uD835\uDCBD\u0000\u210F\u0000\u0127\u0000\u2043\u0000\u2010\u0000"
+                    + "\u00ED\u0000\u2063\u0000\u00EE\u0000\u0438\u0000\u0435\u0000\u00A1\u0000"
+                    + "\u21D4\u0000\uD835\uDD26\u0000\u00EC\u0000\u2148\u0000\u2A0C\u0000\u222D"
+                    + "\u0000\u29DC\u0000\u2129\u0000\u0133\u0000\u012B\u0000\u2111\u0000\u2110"
+                    + "\u0000\u2111\u0000\u0131\u0000\u22B7\u0000\u01B5\u0000\u2208\u0000\u2105"
+                    + "\u0000\u221E\u0000\u29DD\u0000\u0131\u0000\u222B\u0000\u22BA\u0000\u2124"
+                    + "\u0000\u22BA\u0000\u2A17\u0000\u2A3C\u0000\u0451\u0000\u012F\u0000\uD835"
+                    + "\uDD5A\u0000\u03B9\u0000\u2A3C\u0000\u00BF\u0000\uD835\uDCBE\u0000\u2208"
+                    + "\u0000\u22F9\u0000\u22F5\u0000\u22F4\u0000\u22F3\u0000\u2208\u0000\u2062"
+                    + "\u0000\u0129\u0000\u0456\u0000\u00EF\u0000\u0135\u0000\u0439\u0000\uD835"
+                    + "\uDD27\u0000\u0237\u0000\uD835\uDD5B\u0000\uD835\uDCBF\u0000\u0458\u0000"
+                    + "\u0454\u0000\u03BA\u0000\u03F0\u0000\u0137\u0000\u043A\u0000\uD835\uDD28"
+                    + "\u0000\u0138\u0000\u0445\u0000\u045C\u0000\uD835\uDD5C\u0000\uD835\uDCC0"
+                    + "\u0000\u21DA\u0000\u21D0\u0000\u291B\u0000\u290E\u0000\u2266\u0000\u2A8B"
+                    + "\u0000\u2962\u0000\u013A\u0000\u29B4\u0000\u2112\u0000\u03BB\u0000\u27E8"
+                    + "\u0000\u2991\u0000\u27E8\u0000\u2A85\u0000\u00AB\u0000\u2190\u0000\u21E4"
+                    + "\u0000\u291F\u0000\u291D\u0000\u21A9\u0000\u21AB\u0000\u2939\u0000\u2973"
+                    + "\u0000\u21A2\u0000\u2AAB\u0000\u2919\u0000\u2AAD\u0000\u2AAD\uFE00\u0000"
+                    + "\u290C\u0000\u2772\u0000{\u0000[\u0000\u298B\u0000\u298F\u0000\u298D\u0000"
+                    + "\u013E\u0000\u013C\u0000\u2308\u0000{\u0000\u043B\u0000\u2936\u0000\u201C"
+                    + "\u0000\u201E\u0000\u2967\u0000\u294B\u0000\u21B2\u0000\u2264\u0000\u2190"
+                    + "\u0000\u21A2\u0000\u21BD\u0000\u21BC\u0000\u21C7\u0000\u2194\u0000\u21C6"
+                    + "\u0000\u21CB\u0000\u21AD\u0000\u22CB\u0000\u22DA\u0000\u2264\u0000\u2266"
+                    + "\u0000\u2A7D\u0000\u2A7D\u0000\u2AA8\u0000\u2A7F\u0000\u2A81\u0000\u2A83"
+                    + "\u0000\u22DA\uFE00\u0000\u2A93\u0000\u2A85\u0000\u22D6\u0000\u22DA\u0000"
+                    + "\u2A8B\u0000\u2276\u0000\u2272\u0000\u297C\u0000\u230A\u0000\uD835\uDD29"
+                    + "\u0000\u2276\u0000\u2A91\u0000\u21BD\u0000\u21BC\u0000\u296A\u0000\u2584"
+                    + "\u0000\u0459\u0000\u226A\u0000\u21C7\u0000\u231E\u0000\u296B\u0000\u25FA"
+                    + "\u0000\u0140\u0000\u23B0\u0000\u23B0\u0000\u2268\u0000\u2A89\u0000\u2A89"
+                    + "\u0000\u2A87\u0000\u2A87\u0000\u2268\u0000\u22E6\u0000\u27EC\u0000\u21FD"
+                    + "\u0000\u27E6\u0000\u27F5\u0000\u27F7\u0000\u27FC\u0000\u27F6\u0000\u21AB"
+                    + "\u0000\u21AC\u0000\u2985\u0000\uD835\uDD5D\u0000\u2A2D\u0000\u2A34\u0000"
+                    + "\u2217\u0000_\u0000\u25CA\u0000\u25CA\u0000\u29EB\u0000(\u0000\u2993\u0000"
+                    + "\u21C6\u0000\u231F\u0000\u21CB\u0000\u296D\u0000\u200E\u0000\u22BF\u0000"
+                    + "\u2039\u0000\uD835\uDCC1\u0000\u21B0\u0000\u2272\u0000\u2A8D\u0000\u2A8F"
+                    + "\u0000[\u0000\u2018\u0000\u201A\u0000\u0142\u0000<\u0000\u2AA6\u0000\u2A79"
+                    + "\u0000\u22D6\u0000\u22CB\u0000\u22C9\u0000\u2976\u0000\u2A7B\u0000\u2996"
+                    + "\u0000\u25C3\u0000\u22B4\u0000\u25C2\u0000\u294A\u0000\u2966\u0000\u2268"
+                    + "\uFE00\u0000\u2268\uFE00\u0000\u223A\u0000\u00AF\u0000\u2642\u0000\u2720"
+                    + "\u0000\u2720\u0000\u21A6\u0000\u21A6\u0000\u21A7\u0000\u21A4\u0000\u21A5"
+                    + "\u0000\u25AE\u0000\u2A29\u0000\u043C\u0000\u2014\u0000\u2221\u0000\uD835"
+                    + "\uDD2A\u0000\u2127\u0000\u00B5\u0000\u2223\u0000*\u0000\u2AF0\u0000\u00B7"
+                    + "\u0000\u2212\u0000\u229F\u0000\u2238\u0000\u2A2A\u0000\u2ADB\u0000\u2026"
+                    + "\u0000\u2213\u0000\u22A7\u0000\uD835\uDD5E\u0000\u2213\u0000\uD835\uDCC2"
+                    + "\u0000\u223E\u0000\u03BC\u0000\u22B8\u0000\u22B8\u0000\u22D9\u0338\u0000"
+                    + "\u226B\u20D2\u0000\u226B\u0338\u0000\u21CD\u0000\u21CE\u0000\u22D8\u0338"
+                    + "\u0000\u226A\u20D2\u0000\u226A\u0338\u0000\u21CF\u0000\u22AF\u0000\u22AE"
+                    + "\u0000\u2207\u0000\u0144\u0000\u2220\u20D2\u0000\u2249\u0000\u2A70\u0338"
+                    + "\u0000\u224B\u0338\u0000\u0149\u0000\u2249\u0000\u266E\u0000\u266E\u0000"
+                    + "\u2115\u0000\u00A0\u0000\u224E\u0338\u0000\u224F\u0338\u0000\u2A43\u0000"
+                    + "\u0148\u0000\u0146\u0000\u2247\u0000\u2A6D\u0338\u0000\u2A42\u0000\u043D"
+                    + "\u0000\u2013\u0000\u2260\u0000\u21D7\u0000\u2924\u0000\u2197\u0000\u2197"
+                    + "\u0000\u2250\u0338\u0000\u2262\u0000\u2928\u0000\u2242\u0338\u0000\u2204"
+                    + "\u0000\u2204\u0000\uD835\uDD2B\u0000\u2267\u0338\u0000\u2271\u0000\u2271"
+                    + "\u0000\u2267\u0338\u0000\u2A7E\u0338\u0000\u2A7E\u0338\u0000\u2275\u0000"
+                    + "\u226F\u0000\u226F\u0000\u21CE\u0000\u21AE\u0000\u2AF2\u0000\u220B\u0000"
+                    + "\u22FC\u0000\u22FA\u0000\u220B\u0000\u045A\u0000\u21CD\u0000\u2266\u0338"
+                    + "\u0000\u219A\u0000\u2025\u0000\u2270\u0000\u219A\u0000\u21AE\u0000\u2270"
+                    + "\u0000\u2266\u0338\u0000\u2A7D\u0338\u0000\u2A7D\u0338\u0000\u226E\u0000"
+                    + "\u2274\u0000\u226E\u0000\u22EA\u0000\u22EC\u0000\u2224\u0000\uD835\uDD5F"
+                    + "\u0000\u00AC\u0000\u2209\u0000\u22F9\u0338\u0000\u22F5\u0338\u0000\u2209"
+                    + "\u0000\u22F7\u0000\u22F6\u0000\u220C\u0000\u220C\u0000\u22FE\u0000\u22FD"
+                    + "\u0000\u2226\u0000\u2226\u0000\u2AFD\u20E5\u0000\u2202\u0338\u0000\u2A14"
+                    + "\u0000\u2280\u0000\u22E0\u0000\u2AAF\u0338\u0000\u2280\u0000\u2AAF\u0338"
+                    + "\u0000\u21CF\u0000\u219B\u0000\u2933\u0338\u0000\u219D\u0338\u0000\u219B"
+                    + "\u0000\u22EB\u0000\u22ED\u0000\u2281\u0000\u22E1\u0000\u2AB0\u0338\u0000"
+                    + "\uD835\uDCC3\u0000\u2224\u0000\u2226\u0000\u2241\u0000\u2244\u0000\u2244"
+                    + "\u0000\u2224\u0000\u2226\u0000\u22E2\u0000\u22E3\u0000\u2284\u0000\u2AC5"
+                    + "\u0338\u0000\u2288\u0000\u2282\u20D2\u0000\u2288\u0000\u2AC5\u0338\u0000"
+                    + "\u2281\u0000\u2AB0\u0338\u0000\u2285\u0000\u2AC6\u0338\u0000\u2289\u0000"
+                    + "\u2283\u20D2\u0000\u2289\u0000\u2AC6\u0338\u0000\u2279\u0000\u00F1\u0000"
+                    + "\u2278\u0000\u22EA\u0000\u22EC\u0000\u22EB\u0000\u22ED\u0000\u03BD\u0000"
+                    + "#\u0000\u2116\u0000\u2007\u0000\u22AD\u0000\u2904\u0000\u224D\u20D2\u0000"
+                    + "\u22AC\u0000\u2265\u20D2\u0000>\u20D2\u0000\u29DE\u0000\u2902\u0000\u2264"
+                    + "\u20D2\u0000<\u20D2\u0000\u22B4\u20D2\u0000\u2903\u0000\u22B5\u20D2\u0000"
+                    + "\u223C\u20D2\u0000\u21D6\u0000\u2923\u0000\u2196\u0000\u2196\u0000\u2927"
+                    + "\u0000\u24C8\u0000\u00F3\u0000\u229B\u0000\u229A\u0000\u00F4\u0000\u043E"
+                    + "\u0000\u229D\u0000\u0151\u0000\u2A38\u0000\u2299\u0000\u29BC\u0000\u0153"
+                    + "\u0000\u29BF\u0000\uD835\uDD2C\u0000\u02DB\u0000\u00F2\u0000\u29C1\u0000"
+                    + "\u29B5\u0000\u03A9\u0000\u222E\u0000\u21BA\u0000\u29BE\u0000\u29BB\u0000"
+                    + "\u203E\u0000\u29C0\u0000\u014D\u0000\u03C9\u0000\u03BF\u0000\u29B6\u0000"
+                    + "\u2296\u0000\uD835\uDD60\u0000\u29B7\u0000\u29B9\u0000\u2295\u0000\u2228"
+                    + "\u0000\u21BB\u0000\u2A5D\u0000\u2134\u0000\u2134\u0000\u00AA\u0000\u00BA"
+                    + "\u0000\u22B6\u0000\u2A56\u0000\u2A57\u0000\u2A5B\u0000\u2134\u0000\u00F8"
+                    + "\u0000\u2298\u0000\u00F5\u0000\u2297\u0000\u2A36\u0000\u00F6\u0000\u233D"
+                    + "\u0000\u2225\u0000\u00B6\u0000\u2225\u0000\u2AF3\u0000\u2AFD\u0000\u2202"
+                    + "\u0000\u043F\u0000%\u0000.\u0000\u2030\u0000\u22A5\u0000\u2031\u0000\uD835"
+                    + "\uDD2D\u0000\u03C6\u0000\u03D5\u0000\u2133\u0000\u260E\u0000\u03C0\u0000"
+                    + "\u22D4\u0000\u03D6\u0000\u210F\u0000\u210E\u0000\u210F\u0000+\u0000\u2A23"
+                    + "\u0000\u229E\u0000\u2A22\u0000\u2214\u0000\u2A25\u0000\u2A72\u0000\u00B1"
+                    + "\u0000\u2A26\u0000\u2A27\u0000\u00B1\u0000\u2A15\u0000\uD835\uDD61\u0000"
+                    + "\u00A3\u0000\u227A\u0000\u2AB3\u0000\u2AB7\u0000\u227C\u0000\u2AAF\u0000"
+                    + "\u227A\u0000\u2AB7\u0000\u227C\u0000\u2AAF\u0000\u2AB9\u0000\u2AB5\u0000"
+                    + "\u22E8\u0000\u227E\u0000\u2032\u0000\u2119\u0000\u2AB5\u0000\u2AB9\u0000"
+                    + "\u22E8\u0000\u220F\u0000\u232E\u0000\u2312\u0000\u2313\u0000\u221D\u0000"
+                    + "\u221D\u0000\u227E\u0000\u22B0\u0000\uD835\uDCC5\u0000\u03C8\u0000\u2008"
+                    + "\u0000\uD835\uDD2E\u0000\u2A0C\u0000\uD835\uDD62\u0000\u2057\u0000\uD835"
+                    + "\uDCC6\u0000\u210D\u0000\u2A16\u0000?\u0000\u225F\u0000\"\u0000\u21DB\u0000"
+                    + "\u21D2\u0000\u291C\u0000\u290F\u0000\u2964\u0000\u223D\u0331\u0000\u0155"
+                    + "\u0000\u221A\u0000\u29B3\u0000\u27E9\u0000\u2992\u0000\u29A5\u0000\u27E9"
+                    + "\u0000\u00BB\u0000\u2192\u0000\u2975\u0000\u21E5\u0000\u2920\u0000\u2933"
+                    + "\u0000\u291E\u0000\u21AA\u0000\u21AC\u0000\u2945\u0000\u2974\u0000\u21A3"
+                    + "\u0000\u219D\u0000\u291A\u0000\u2236\u0000\u211A\u0000\u290D\u0000\u2773"
+                    + "\u0000}\u0000]\u0000\u298C\u0000\u298E\u0000\u2990\u0000\u0159\u0000\u0157"
+                    + "\u0000\u2309\u0000}\u0000\u0440\u0000\u2937\u0000\u2969\u0000\u201D\u0000"
+                    + "\u201D\u0000\u21B3\u0000\u211C\u0000\u211B\u0000\u211C\u0000\u211D\u0000"
+                    + "\u25AD\u0000\u00AE\u0000\u297D\u0000\u230B\u0000\uD835\uDD2F\u0000\u21C1"
+                    + "\u0000\u21C0\u0000\u296C\u0000\u03C1\u0000\u03F1\u0000\u2192\u0000\u21A3"
+                    + "\u0000\u21C1\u0000\u21C0\u0000\u21C4\u0000\u21CC\u0000\u21C9\u0000\u219D"
+                    + "\u0000\u22CC\u0000\u02DA\u0000\u2253\u0000\u21C4\u0000\u21CC\u0000\u200F"
+                    + "\u0000\u23B1\u0000\u23B1\u0000\u2AEE\u0000\u27ED\u0000\u21FE\u0000\u27E7"
+                    + "\u0000\u2986\u0000\uD835\uDD63\u0000\u2A2E\u0000\u2A35\u0000)\u0000\u2994"
+                    + "\u0000\u2A12\u0000\u21C9\u0000\u203A\u0000\uD835\uDCC7\u0000\u21B1\u0000"
+                    + "]\u0000\u2019\u0000\u2019\u0000\u22CC\u0000\u22CA\u0000\u25B9\u0000\u22B5"
+                    + "\u0000\u25B8\u0000\u29CE\u0000\u2968\u0000\u211E\u0000\u015B\u0000\u201A"
+                    + "\u0000\u227B\u0000\u2AB4\u0000\u2AB8\u0000\u0161\u0000\u227D\u0000\u2AB0"
+                    + "\u0000\u015F\u0000\u015D\u0000\u2AB6\u0000\u2ABA\u0000\u22E9\u0000\u2A13"
+                    + "\u0000\u227F\u0000\u0441\u0000\u22C5\u0000\u22A1\u0000\u2A66\u0000\u21D8"
+                    + "\u0000\u2925\u0000\u2198\u0000\u2198\u0000\u00A7\u0000;\u0000\u2929\u0000"
+                    + "\u2216\u0000\u2216\u0000\u2736\u0000\uD835\uDD30\u0000\u2322\u0000\u266F"
+                    + "\u0000\u0449\u0000\u0448\u0000\u2223\u0000\u2225\u0000\u00AD\u0000\u03C3"
+                    + "\u0000\u03C2\u0000\u03C2\u0000\u223C\u0000\u2A6A\u0000\u2243\u0000\u2243"
+                    + "\u0000\u2A9E\u0000\u2AA0\u0000\u2A9D\u0000\u2A9F\u0000\u2246\u0000\u2A24"
+                    + "\u0000\u2972\u0000\u2190\u0000\u2216\u0000\u2A33\u0000\u29E4\u0000\u2223"
+                    + "\u0000\u2323\u0000\u2AAA\u0000\u2AAC\u0000\u2AAC\uFE00\u0000\u044C\u0000"
+                    + "/\u0000\u29C4\u0000\u233F\u0000\uD835\uDD64\u0000\u2660\u0000\u2660\u0000"
+                    + "\u2225\u0000\u2293\u0000\u2293\uFE00\u0000\u2294\u0000\u2294\uFE00\u0000"
+                    + "\u228F\u0000\u2291\u0000\u228F\u0000\u2291\u0000\u2290\u0000\u2292\u0000"
+                    + "\u2290\u0000\u2292\u0000\u25A1\u0000\u25A1\u0000\u25AA\u0000\u25AA\u0000"
+                    + "\u2192\u0000\uD835\uDCC8\u0000\u2216\u0000\u2323\u0000\u22C6\u0000\u2606"
+                    + "\u0000\u2605\u0000\u03F5\u0000\u03D5\u0000\u00AF\u0000\u2282\u0000\u2AC5"
+                    + "\u0000\u2ABD\u0000\u2286\u0000\u2AC3\u0000\u2AC1\u0000\u2ACB\u0000\u228A"
+                    + "\u0000\u2ABF\u0000\u2979\u0000\u2282\u0000\u2286\u0000\u2AC5\u0000\u228A"
+                    + "\u0000\u2ACB\u0000\u2AC7\u0000\u2AD5\u0000\u2AD3\u0000\u227B\u0000\u2AB8"
+                    + "\u0000\u227D\u0000\u2AB0\u0000\u2ABA\u0000\u2AB6\u0000\u22E9\u0000\u227F"
+                    + "\u0000\u2211\u0000\u266A\u0000\u2283\u0000\u00B9\u0000\u00B2\u0000\u00B3"
+                    + "\u0000\u2AC6\u0000\u2ABE\u0000\u2AD8\u0000\u2287\u0000\u2AC4\u0000\u27C9"
+                    + "\u0000\u2AD7\u0000\u297B\u0000\u2AC2\u0000\u2ACC\u0000\u228B\u0000\u2AC0"
+                    + "\u0000\u2283\u0000\u2287\u0000\u2AC6\u0000\u228B\u0000\u2ACC\u0000\u2AC8"
+                    + "\u0000\u2AD4\u0000\u2AD6\u0000\u21D9\u0000\u2926\u0000\u2199\u0000\u2199"
+                    + "\u0000\u292A\u0000\u00DF\u0000\u2316\u0000\u03C4\u0000\u23B4\u0000\u0165"
+                    + "\u0000\u0163\u0000\u0442\u0000\u20DB\u0000\u2315\u0000\uD835\uDD31\u0000"
+                    + "\u2234\u0000\u2234\u0000\u03B8\u0000\u03D1\u0000\u03D1\u0000\u2248\u0000"
+                    + "\u223C\u0000\u2009\u0000\u2248\u0000\u223C\u0000\u00FE\u0000\u02DC\u0000"
+                    + "\u00D7\u0000\u22A0\u0000\u2A31\u0000\u2A30\u0000\u222D\u0000\u2928\u0000"
+                    + "\u22A4\u0000\u2336\u0000\u2AF1\u0000\uD835\uDD65\u0000\u2ADA\u0000\u2929"
+                    + "\u0000\u2034\u0000\u2122\u0000\u25B5\u0000\u25BF\u0000\u25C3\u0000\u22B4"
+                    + "\u0000\u225C\u0000\u25B9\u0000\u22B5\u0000\u25EC\u0000\u225C\u0000\u2A3A"
+                    + "\u0000\u2A39\u0000\u29CD\u0000\u2A3B\u0000\u23E2\u0000\uD835\uDCC9\u0000"
+                    + "\u0446\u0000\u045B\u0000\u0167\u0000\u226C\u0000\u219E\u0000\u21A0\u0000"
+                    + "\u21D1\u0000\u2963\u0000\u00FA\u0000\u2191\u0000\u045E\u0000\u016D\u0000"
+                    + "\u00FB\u0000\u0443\u0000\u21C5\u0000\u0171\u0000\u296E\u0000\u297E\u0000"
+                    + "\uD835\uDD32\u0000\u00F9\u0000\u21BF\u0000\u21BE\u0000\u2580\u0000\u231C"
+                    + "\u0000\u231C\u0000\u230F\u0000\u25F8\u0000\u016B\u0000\u00A8\u0000\u0173"
+                    + "\u0000\uD835\uDD66\u0000\u2191\u0000\u2195\u0000\u21BF\u0000\u21BE\u0000"
+                    + "\u228E\u0000\u03C5\u0000\u03D2\u0000\u03C5\u0000\u21C8\u0000\u231D\u0000"
+                    + "\u231D\u0000\u230E\u0000\u016F\u0000\u25F9\u0000\uD835\uDCCA\u0000\u22F0"
+                    + "\u0000\u0169\u0000\u25B5\u0000\u25B4\u0000\u21C8\u0000\u00FC\u0000\u29A7"
+                    + "\u0000\u21D5\u0000\u2AE8\u0000\u2AE9\u0000\u22A8\u0000\u299C\u0000\u03F5"
+                    + "\u0000\u03F0\u0000\u2205\u0000\u03D5\u0000\u03D6\u0000\u221D\u0000\u2195"
+                    + "\u0000\u03F1\u0000\u03C2\u0000\u228A\uFE00\u0000\u2ACB\uFE00\u0000\u228B"
+                    + "\uFE00\u0000\u2ACC\uFE00\u0000\u03D1\u0000\u22B2\u0000\u22B3\u0000\u0432"
+                    + "\u0000\u22A2\u0000\u2228\u0000\u22BB\u0000\u225A\u0000\u22EE\u0000|\u0000"
+                    + "|\u0000\uD835\uDD33\u0000\u22B2\u0000\u2282\u20D2\u0000\u2283\u20D2\u0000"
+                    + "\uD835\uDD67\u0000\u221D\u0000\u22B3\u0000\uD835\uDCCB\u0000\u2ACB\uFE00"
+                    + "\u0000\u228A\uFE00\u0000\u2ACC\uFE00\u0000\u228B\uFE00\u0000\u299A\u0000"
+                    + "\u0175\u0000\u2A5F\u0000\u2227\u0000\u2259\u0000\u2118\u0000\uD835\uDD34"
+                    + "\u0000\uD835\uDD68\u0000\u2118\u0000\u2240\u0000\u2240\u0000\uD835\uDCCC"
+                    + "\u0000\u22C2\u0000\u25EF\u0000\u22C3\u0000\u25BD\u0000\uD835\uDD35\u0000"
+                    + "\u27FA\u0000\u27F7\u0000\u03BE\u0000\u27F8\u0000\u27F5\u0000\u27FC\u0000"
+                    + "\u22FB\u0000\u2A00\u0000\uD835\uDD69\u0000\u2A01\u0000\u2A02\u0000\u27F9"
+                    + "\u0000\u27F6\u0000\uD835\uDCCD\u0000\u2A06\u0000\u2A04\u0000\u25B3\u0000"
+                    + "\u22C1\u0000\u22C0\u0000\u00FD\u0000\u044F\u0000\u0177\u0000\u044B\u0000"
+                    + "\u00A5\u0000\uD835\uDD36\u0000\u0457\u0000\uD835\uDD6A\u0000\uD835\uDCCE"
+                    + "\u0000\u044E\u0000\u00FF\u0000\u017A\u0000\u017E\u0000\u0437\u0000\u017C"
+                    + "\u0000\u2128\u0000\u03B6\u0000\uD835\uDD37\u0000\u0436\u0000\u21DD\u0000"
+                    + "\uD835\uDD6B\u0000\uD835\uDCCF\u0000\u200D\u0000\u200C\u0000";
+}
@@ -0,0 +1,54 @@
+package org.commonmark.internal.util;
+
+import org.commonmark.text.Characters;
+
+/**
+ * Finds the line breaks of an input from start to end, with the same result as {@link
+ * Characters#findLineBreak} but faster than checking one char at a time where possible:
+ *
+ * <ul>
+ *   <li>For a {@link String}, {@code \n} and {@code \r} are searched for separately with {@link
+ *       String#indexOf(int, int)} (which the JVM vectorizes). The position of the next one of each
+ *       is remembered, so that the input is only searched once for each, even if it has no {@code
+ *       \r} at all.
+ *   <li>For an {@link AsciiByteSequence}, 8 bytes are checked at a time (see {@link
+ *       AsciiByteSequence#findLineBreak}).
+ * </ul>
+ */
+public final class LineBreakFinder {
+
+    private final CharSequence input;
+    private final String string;
+    // Index of the next \n and \r at or after the last start, -1 if there are none, or -2 if not
+    // searched yet
+    private int nextLf = -2;
+    private int nextCr = -2;
+
+    public LineBreakFinder(CharSequence input) {
+        this.input = input;
+        this.string = input instanceof String ? (String) input : null;
+    }
+
+    /**
+     * @param startIndex the index to start at, which must not be smaller than for the last call
+     * @return the index of the next {@code \n} or {@code \r}, or -1
+     */
+    public int find(int startIndex) {
+        if (string == null) {
+            if (input instanceof AsciiByteSequence) {
+                return ((AsciiByteSequence) input).findLineBreak(startIndex);
+            }
+            return Characters.findLineBreak(input, startIndex);
+        }
+        if (nextLf != -1 && nextLf < startIndex) {
+            nextLf = string.indexOf('\n', startIndex);
+        }
+        if (nextCr != -1 && nextCr < startIndex) {
+            nextCr = string.indexOf('\r', startIndex);
+        }
+        if (nextLf == -1 || nextCr == -1) {
+            return Math.max(nextLf, nextCr);
+        }
+        return Math.min(nextLf, nextCr);
+    }
+}
@@ -0,0 +1,101 @@
+package org.commonmark.internal.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.commonmark.node.Node;
+import org.commonmark.node.SourceSpan;
+
+/**
+ * Stores the source spans of the nodes of a document in one int array, instead of a list and an
+ * object per span for each node. The nodes get an immutable list that reads from the store and
+ * creates {@link SourceSpan} objects when they are accessed.
+ */
+public class SourceSpanStore {
+
+    private static final int FIELDS = 4;
+
+    private int[] spans = new int[64];
+    private int length = 0;
+
+    /**
+     * Move the source spans of all nodes of the tree to a new store.
+     *
+     * @param root the root of the tree
+     */
+    public static void pack(Node root) {
+        var store = new SourceSpanStore();
+        // Iterative pre-order walk, as documents can be nested deeply
+        Node node = root;
+        while (node != null) {
+            var sourceSpans = node.getSourceSpans();
+            if (!sourceSpans.isEmpty() && !(sourceSpans instanceof Spans)) {
+                node.setSourceSpans(store.add(sourceSpans));
+            }
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+            } else {
+                while (node != root && node.getNext() == null) {
+                    node = node.getParent();
+                }
+                node = node == root ? null : node.getNext();
+            }
+        }
+        store.trim();
+    }
+
+    /**
+     * @return whether the list is from a store, meaning it's immutable and doesn't need to be
+     *     copied
+     */
+    public static boolean isPacked(List<SourceSpan> sourceSpans) {
+        return sourceSpans instanceof Spans;
+    }
+
+    private List<SourceSpan> add(List<SourceSpan> sourceSpans) {
+        int start = length / FIELDS;
+        int required = length + sourceSpans.size() * FIELDS;
+        if (required > spans.length) {
+            spans = Arrays.copyOf(spans, Math.max(spans.length * 2, required));
+        }
+        for (var sourceSpan : sourceSpans) {
+            spans[length++] = sourceSpan.getLineIndex();
+            spans[length++] = sourceSpan.getColumnIndex();
+            spans[length++] = sourceSpan.getInputIndex();
+            spans[length++] = sourceSpan.getLength();
+        }
+        return new Spans(this, start, sourceSpans.size());
+    }
+
+    private void trim() {
+        spans = Arrays.copyOf(spans, length);
+    }
+
+    private static class Spans extends AbstractList<SourceSpan> implements RandomAccess {
+
+        private final SourceSpanStore store;
+        private final int start;
+        private final int size;
+
+        Spans(SourceSpanStore store, int start, int size) {
+            this.store = store;
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public SourceSpan get(int index) {
+            Objects.checkIndex(index, size);
+            int i = (start + index) * FIELDS;
+            var spans = store.spans;
+            return SourceSpan.of(spans[i], spans[i + 1], spans[i + 2], spans[i + 3]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
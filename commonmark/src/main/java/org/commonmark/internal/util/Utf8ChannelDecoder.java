@@ -0,0 +1,114 @@
+package org.commonmark.internal.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the rest of a file channel and decodes it as UTF-8. Smaller files are read into a buffer
+ * that is reused for the next file, and decoded into a {@link String} (which is the fastest way to
+ * decode and to access the characters then). Large files are memory-mapped and decoded into a
+ * {@link CharBuffer}, so that neither their bytes nor their characters need to be copied again.
+ * Malformed input is replaced with {@code U+FFFD} (same as {@link java.io.InputStreamReader}), and
+ * a byte order mark at the start is skipped.
+ *
+ * <p>The decoded characters are not reused, as the lines of a document are views of them (see
+ * {@link CharSequenceView}), which nodes might keep.
+ */
+public class Utf8ChannelDecoder {
+
+    // Below this, reading into a buffer is cheaper than setting up a mapping
+    private static final int MAP_THRESHOLD = 1024 * 1024;
+    private static final int MIN_BUFFER_SIZE = 8192;
+    // Same as the maximum array size of the JDK
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private final CharsetDecoder decoder =
+            StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private ByteBuffer buffer;
+
+    /**
+     * @param channel the channel to read from its current position to the end
+     * @return the decoded characters, either a {@link String} or a {@link CharBuffer} with an array
+     *     and position 0
+     * @throws IOException if reading fails or the file is too large
+     */
+    public CharSequence decode(FileChannel channel) throws IOException {
+        long position = channel.position();
+        long size = Math.max(channel.size() - position, 0);
+        if (size > MAX_SIZE) {
+            throw new IOException("File is too large to parse: " + size + " bytes");
+        }
+        if (size >= MAP_THRESHOLD) {
+            var bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            channel.position(position + size);
+            return decode(bytes);
+        }
+        var bytes = read(channel, (int) size);
+        int start = hasBom(bytes) ? 3 : 0;
+        var s = new String(bytes.array(), start, bytes.limit() - start, StandardCharsets.UTF_8);
+        bytes.clear();
+        return s;
+    }
+
+    /** Read until the end of the channel, which might be more than the expected size. */
+    private ByteBuffer read(FileChannel channel, int expectedSize) throws IOException {
+        // One more than expected, so that the end is detected without growing the buffer
+        int capacity = Math.max(expectedSize + 1, MIN_BUFFER_SIZE);
+        if (buffer == null || buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocate(capacity);
+        }
+        while (channel.read(buffer) != -1) {
+            if (!buffer.hasRemaining()) {
+                if (buffer.capacity() >= MAX_SIZE) {
+                    throw new IOException("File is too large to parse");
+                }
+                var grown = ByteBuffer.allocate((int) Math.min(buffer.capacity() * 2L, MAX_SIZE));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+        var bytes = buffer;
+        if (buffer.capacity() > MAP_THRESHOLD * 2) {
+            // Don't keep a buffer that is larger than needed for the next file
+            buffer = null;
+        }
+        return bytes.flip();
+    }
+
+    private CharBuffer decode(ByteBuffer bytes) throws CharacterCodingException {
+        if (hasBom(bytes)) {
+            bytes.position(3);
+        }
+        // A UTF-8 byte never decodes to more than one char, and malformed input is replaced with
+        // one char for at least one byte.
+        var chars = CharBuffer.allocate(bytes.remaining());
+        decoder.reset();
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        return chars.flip();
+    }
+
+    private static boolean hasBom(ByteBuffer bytes) {
+        return bytes.limit() >= 3
+                && bytes.get(0) == (byte) 0xEF
+                && bytes.get(1) == (byte) 0xBB
+                && bytes.get(2) == (byte) 0xBF;
+    }
+}
@@ -0,0 +1,624 @@
+package org.commonmark.node;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.commonmark.internal.util.CharSequenceView;
+
+/**
+ * A read-only copy of a document that uses much less memory than the tree of {@link Node}s, for
+ * keeping many parsed documents in memory. Example:
+ *
+ * <pre><code>
+ * CompactDocument compact = CompactDocument.of(parser.parse(input));
+ * // later
+ * String html = renderer.render(compact.toDocument());
+ * </code></pre>
+ *
+ * Instead of an object per node, the structure of the tree is stored in a few arrays of ints
+ * (indexed by node in document order), and the text of all nodes (literals, destinations, etc) is
+ * stored in one shared string. It can be read using a {@link Cursor}, or converted back to nodes
+ * using {@link #toDocument()}.
+ *
+ * <p>Only core node types are supported (see {@link Kind}), and {@link Node#getSourceSpans() source
+ * spans} are not included.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class CompactDocument {
+
+    /** The types of nodes, see the node class with the same name for each. */
+    public enum Kind {
+        DOCUMENT(0),
+        BLOCK_QUOTE(0),
+        BULLET_LIST(3),
+        CODE(2),
+        EMPHASIS(2),
+        FENCED_CODE_BLOCK(9),
+        HARD_LINE_BREAK(0),
+        HEADING(1),
+        THEMATIC_BREAK(2),
+        HTML_INLINE(2),
+        HTML_BLOCK(2),
+        IMAGE(4),
+        INDENTED_CODE_BLOCK(2),
+        LINK(4),
+        LIST_ITEM(2),
+        ORDERED_LIST(4),
+        PARAGRAPH(0),
+        SOFT_LINE_BREAK(0),
+        STRONG_EMPHASIS(2),
+        TEXT(2),
+        LINK_REFERENCE_DEFINITION(6);
+
+        private static final Kind[] VALUES = values();
+
+        // Number of ints of data for the attributes of the node, see Builder for the layout. A
+        // string takes two ints (start and length), a nullable Integer uses NULL for null.
+        private final int dataLength;
+
+        Kind(int dataLength) {
+            this.dataLength = dataLength;
+        }
+    }
+
+    private static final int NONE = -1;
+    private static final int NULL = Integer.MIN_VALUE;
+
+    private final byte[] kinds;
+    private final int[] parents;
+    private final int[] nextSiblings;
+    private final int[] dataStarts;
+    private final int[] data;
+    private final String text;
+
+    private CompactDocument(
+            byte[] kinds,
+            int[] parents,
+            int[] nextSiblings,
+            int[] dataStarts,
+            int[] data,
+            String text) {
+        this.kinds = kinds;
+        this.parents = parents;
+        this.nextSiblings = nextSiblings;
+        this.dataStarts = dataStarts;
+        this.data = data;
+        this.text = text;
+    }
+
+    /**
+     * Create a compact copy of the document. The document is not changed.
+     *
+     * @param document the root node to copy, usually a {@link Document}
+     * @return the compact document
+     * @throws IllegalArgumentException if the document contains a node that isn't one of the
+     *     supported {@link Kind kinds} (e.g. from an extension)
+     */
+    public static CompactDocument of(Node document) {
+        Objects.requireNonNull(document, "document must not be null");
+        return new Builder().build(document);
+    }
+
+    /**
+     * @return the number of nodes, including the root
+     */
+    public int getNodeCount() {
+        return kinds.length;
+    }
+
+    /**
+     * @return a new cursor positioned at the root node
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Convert back to a tree of nodes, e.g. for rendering. This creates new nodes for each call.
+     *
+     * @return the root node
+     */
+    public Node toDocument() {
+        var nodes = new Node[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            var node = createNode(i);
+            nodes[i] = node;
+            if (parents[i] != NONE) {
+                nodes[parents[i]].appendChild(node);
+            }
+        }
+        return nodes[0];
+    }
+
+    private Node createNode(int index) {
+        int d = dataStarts[index];
+        switch (Kind.VALUES[kinds[index]]) {
+            case DOCUMENT:
+                return new Document();
+            case BLOCK_QUOTE:
+                return new BlockQuote();
+            case BULLET_LIST:
+                var bulletList = new BulletList();
+                bulletList.setMarker(string(d));
+                bulletList.setTight(data[d + 2] != 0);
+                return bulletList;
+            case CODE:
+                return new Code(string(d));
+            case EMPHASIS:
+                return new Emphasis(string(d));
+            case FENCED_CODE_BLOCK:
+                var fencedCodeBlock = new FencedCodeBlock();
+                fencedCodeBlock.setFenceCharacter(string(d));
+                fencedCodeBlock.setOpeningFenceLength(integer(d + 2));
+                fencedCodeBlock.setClosingFenceLength(integer(d + 3));
+                fencedCodeBlock.setFenceIndent(data[d + 4]);
+                fencedCodeBlock.setInfo(string(d + 5));
+                fencedCodeBlock.setLiteral(string(d + 7));
+                return fencedCodeBlock;
+            case HARD_LINE_BREAK:
+                return new HardLineBreak();
+            case HEADING:
+                var heading = new Heading();
+                heading.setLevel(data[d]);
+                return heading;
+            case THEMATIC_BREAK:
+                var thematicBreak = new ThematicBreak();
+                thematicBreak.setLiteral(string(d));
+                return thematicBreak;
+            case HTML_INLINE:
+                var htmlInline = new HtmlInline();
+                htmlInline.setLiteral(string(d));
+                return htmlInline;
+            case HTML_BLOCK:
+                var htmlBlock = new HtmlBlock();
+                htmlBlock.setLiteral(string(d));
+                return htmlBlock;
+            case IMAGE:
+                return new Image(string(d), string(d + 2));
+            case INDENTED_CODE_BLOCK:
+                var indentedCodeBlock = new IndentedCodeBlock();
+                indentedCodeBlock.setLiteral(string(d));
+                return indentedCodeBlock;
+            case LINK:
+                return new Link(string(d), string(d + 2));
+            case LIST_ITEM:
+                var listItem = new ListItem();
+                listItem.setMarkerIndent(integer(d));
+                listItem.setContentIndent(integer(d + 1));
+                return listItem;
+            case ORDERED_LIST:
+                var orderedList = new OrderedList();
+                orderedList.setMarkerDelimiter(string(d));
+                orderedList.setMarkerStartNumber(integer(d + 2));
+                orderedList.setTight(data[d + 3] != 0);
+                return orderedList;
+            case PARAGRAPH:
+                return new Paragraph();
+            case SOFT_LINE_BREAK:
+                return new SoftLineBreak();
+            case STRONG_EMPHASIS:
+                return new StrongEmphasis(string(d));
+            case TEXT:
+                return new Text(string(d));
+            case LINK_REFERENCE_DEFINITION:
+                return new LinkReferenceDefinition(string(d), string(d + 2), string(d + 4));
+            default:
+                throw new IllegalStateException("Unknown kind " + kinds[index]);
+        }
+    }
+
+    private String string(int dataIndex) {
+        int start = data[dataIndex];
+        return start != NONE ? text.substring(start, start + data[dataIndex + 1]) : null;
+    }
+
+    private CharSequence charSequence(int dataIndex) {
+        int start = data[dataIndex];
+        return start != NONE ? CharSequenceView.of(text, start, start + data[dataIndex + 1]) : null;
+    }
+
+    private Integer integer(int dataIndex) {
+        int value = data[dataIndex];
+        return value != NULL ? value : null;
+    }
+
+    /**
+     * A position in a {@link CompactDocument} for reading it without creating nodes. Starts at the
+     * root node and can be moved around the tree, similar to the methods of {@link Node}. Example
+     * of a depth-first walk:
+     *
+     * <pre><code>
+     * Cursor cursor = compactDocument.cursor();
+     * do {
+     *     // visit node at cursor
+     *     if (!cursor.firstChild()) {
+     *         while (!cursor.next() &amp;&amp; cursor.parent()) {
+     *         }
+     *     }
+     * } while (cursor.getIndex() != 0);
+     * </code></pre>
+     *
+     * <p>A cursor is not thread-safe, but multiple cursors can be used for the same document.
+     */
+    public final class Cursor {
+
+        private int index = 0;
+
+        private Cursor() {}
+
+        /**
+         * @return the index of the current node, in document order (the root is 0)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the kind of the current node
+         */
+        public Kind getKind() {
+            return Kind.VALUES[kinds[index]];
+        }
+
+        /**
+         * Move to the first child of the current node, if it has one.
+         *
+         * @return true if moved, false otherwise
+         */
+        public boolean firstChild() {
+            int child = index + 1;
+            if (child < kinds.length && parents[child] == index) {
+                index = child;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Move to the next sibling of the current node, if it has one.
+         *
+         * @return true if moved, false otherwise
+         */
+        public boolean next() {
+            int next = nextSiblings[index];
+            if (next != NONE) {
+                index = next;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Move to the parent of the current node, unless it's the root.
+         *
+         * @return true if moved, false otherwise
+         */
+        public boolean parent() {
+            int parent = parents[index];
+            if (parent != NONE) {
+                index = parent;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return the literal of the current node (for the kinds of nodes that have one, e.g. text
+         *     or code), or null
+         */
+        public CharSequence getLiteral() {
+            int d = dataStarts[index];
+            switch (getKind()) {
+                case CODE:
+                case THEMATIC_BREAK:
+                case HTML_INLINE:
+                case HTML_BLOCK:
+                case INDENTED_CODE_BLOCK:
+                case TEXT:
+                    return charSequence(d);
+                case FENCED_CODE_BLOCK:
+                    return charSequence(d + 7);
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * @return the destination of the current link, image or link reference definition, or null
+         */
+        public String getDestination() {
+            int d = dataStarts[index];
+            switch (getKind()) {
+                case LINK:
+                case IMAGE:
+                    return string(d);
+                case LINK_REFERENCE_DEFINITION:
+                    return string(d + 2);
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * @return the title of the current link, image or link reference definition, or null
+         */
+        public String getTitle() {
+            int d = dataStarts[index];
+            switch (getKind()) {
+                case LINK:
+                case IMAGE:
+                    return string(d + 2);
+                case LINK_REFERENCE_DEFINITION:
+                    return string(d + 4);
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * @return the info string of the current fenced code block, or null
+         */
+        public String getInfo() {
+            return getKind() == Kind.FENCED_CODE_BLOCK ? string(dataStarts[index] + 5) : null;
+        }
+
+        /**
+         * @return the level of the current heading, or 0 if it's not a heading
+         */
+        public int getLevel() {
+            return getKind() == Kind.HEADING ? data[dataStarts[index]] : 0;
+        }
+
+        /**
+         * @return whether the current node is a tight list
+         */
+        public boolean isTight() {
+            switch (getKind()) {
+                case BULLET_LIST:
+                    return data[dataStarts[index] + 2] != 0;
+                case ORDERED_LIST:
+                    return data[dataStarts[index] + 3] != 0;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * @return a new node for the current node and its descendants, see {@link #toDocument()}
+         */
+        public Node toNode() {
+            int end = index + 1;
+            while (end < kinds.length && isDescendant(end, index)) {
+                end++;
+            }
+            var nodes = new Node[end - index];
+            for (int i = index; i < end; i++) {
+                var node = createNode(i);
+                nodes[i - index] = node;
+                if (i != index) {
+                    nodes[parents[i] - index].appendChild(node);
+                }
+            }
+            return nodes[0];
+        }
+
+        private boolean isDescendant(int node, int ancestor) {
+            for (int p = parents[node]; p != NONE && p >= ancestor; p = parents[p]) {
+                if (p == ancestor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Builder {
+
+        private final StringBuilder text = new StringBuilder();
+        private byte[] kinds = new byte[64];
+        private int[] parents = new int[64];
+        private int[] nextSiblings = new int[64];
+        private int[] dataStarts = new int[64];
+        private int[] data = new int[128];
+        private int count = 0;
+        private int dataLength = 0;
+
+        CompactDocument build(Node root) {
+            // Iterative pre-order walk, as documents can be nested deeply
+            int parent = NONE;
+            int previous = NONE;
+            Node node = root;
+            while (node != null) {
+                int index = add(node, parent);
+                if (previous != NONE) {
+                    nextSiblings[previous] = index;
+                }
+                if (node.getFirstChild() != null) {
+                    parent = index;
+                    previous = NONE;
+                    node = node.getFirstChild();
+                } else {
+                    previous = index;
+                    while (node != root && node.getNext() == null) {
+                        node = node.getParent();
+                        previous = parent;
+                        parent = parents[parent];
+                    }
+                    node = node == root ? null : node.getNext();
+                }
+            }
+            return new CompactDocument(
+                    Arrays.copyOf(kinds, count),
+                    Arrays.copyOf(parents, count),
+                    Arrays.copyOf(nextSiblings, count),
+                    Arrays.copyOf(dataStarts, count),
+                    Arrays.copyOf(data, dataLength),
+                    text.toString());
+        }
+
+        private int add(Node node, int parent) {
+            var kind = kind(node);
+            if (count == kinds.length) {
+                int capacity = count * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+                dataStarts = Arrays.copyOf(dataStarts, capacity);
+            }
+            if (dataLength + kind.dataLength > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + kind.dataLength));
+            }
+            int index = count++;
+            kinds[index] = (byte) kind.ordinal();
+            parents[index] = parent;
+            nextSiblings[index] = NONE;
+            dataStarts[index] = dataLength;
+            addData(node, kind);
+            return index;
+        }
+
+        private void addData(Node node, Kind kind) {
+            switch (kind) {
+                case BULLET_LIST:
+                    var bulletList = (BulletList) node;
+                    addString(bulletList.getMarker());
+                    addInt(bulletList.isTight() ? 1 : 0);
+                    break;
+                case CODE:
+                    addString(((Code) node).getLiteral());
+                    break;
+                case EMPHASIS:
+                    addString(((Emphasis) node).getOpeningDelimiter());
+                    break;
+                case FENCED_CODE_BLOCK:
+                    var fencedCodeBlock = (FencedCodeBlock) node;
+                    addString(fencedCodeBlock.getFenceCharacter());
+                    addInteger(fencedCodeBlock.getOpeningFenceLength());
+                    addInteger(fencedCodeBlock.getClosingFenceLength());
+                    addInt(fencedCodeBlock.getFenceIndent());
+                    addString(fencedCodeBlock.getInfo());
+                    addString(fencedCodeBlock.getLiteral());
+                    break;
+                case HEADING:
+                    addInt(((Heading) node).getLevel());
+                    break;
+                case THEMATIC_BREAK:
+                    addString(((ThematicBreak) node).getLiteral());
+                    break;
+                case HTML_INLINE:
+                    addString(((HtmlInline) node).getLiteral());
+                    break;
+                case HTML_BLOCK:
+                    addString(((HtmlBlock) node).getLiteral());
+                    break;
+                case IMAGE:
+                    var image = (Image) node;
+                    addString(image.getDestination());
+                    addString(image.getTitle());
+                    break;
+                case INDENTED_CODE_BLOCK:
+                    addString(((IndentedCodeBlock) node).getLiteral());
+                    break;
+                case LINK:
+                    var link = (Link) node;
+                    addString(link.getDestination());
+                    addString(link.getTitle());
+                    break;
+                case LIST_ITEM:
+                    var listItem = (ListItem) node;
+                    addInteger(listItem.getMarkerIndent());
+                    addInteger(listItem.getContentIndent());
+                    break;
+                case ORDERED_LIST:
+                    var orderedList = (OrderedList) node;
+                    addString(orderedList.getMarkerDelimiter());
+                    addInteger(orderedList.getMarkerStartNumber());
+                    addInt(orderedList.isTight() ? 1 : 0);
+                    break;
+                case STRONG_EMPHASIS:
+                    addString(((StrongEmphasis) node).getOpeningDelimiter());
+                    break;
+                case TEXT:
+                    addString(((Text) node).getLiteral());
+                    break;
+                case LINK_REFERENCE_DEFINITION:
+                    var definition = (LinkReferenceDefinition) node;
+                    addString(definition.getLabel());
+                    addString(definition.getDestination());
+                    addString(definition.getTitle());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void addString(String s) {
+            if (s == null) {
+                addInt(NONE);
+                addInt(0);
+            } else {
+                addInt(text.length());
+                addInt(s.length());
+                text.append(s);
+            }
+        }
+
+        private void addInteger(Integer value) {
+            addInt(value != null ? value : NULL);
+        }
+
+        private void addInt(int value) {
+            data[dataLength++] = value;
+        }
+
+        private static Kind kind(Node node) {
+            // Exact classes, as subclasses could have other state
+            var nodeClass = node.getClass();
+            if (nodeClass == Document.class) {
+                return Kind.DOCUMENT;
+            } else if (nodeClass == BlockQuote.class) {
+                return Kind.BLOCK_QUOTE;
+            } else if (nodeClass == BulletList.class) {
+                return Kind.BULLET_LIST;
+            } else if (nodeClass == Code.class) {
+                return Kind.CODE;
+            } else if (nodeClass == Emphasis.class) {
+                return Kind.EMPHASIS;
+            } else if (nodeClass == FencedCodeBlock.class) {
+                return Kind.FENCED_CODE_BLOCK;
+            } else if (nodeClass == HardLineBreak.class) {
+                return Kind.HARD_LINE_BREAK;
+            } else if (nodeClass == Heading.class) {
+                return Kind.HEADING;
+            } else if (nodeClass == ThematicBreak.class) {
+                return Kind.THEMATIC_BREAK;
+            } else if (nodeClass == HtmlInline.class) {
+                return Kind.HTML_INLINE;
+            } else if (nodeClass == HtmlBlock.class) {
+                return Kind.HTML_BLOCK;
+            } else if (nodeClass == Image.class) {
+                return Kind.IMAGE;
+            } else if (nodeClass == IndentedCodeBlock.class) {
+                return Kind.INDENTED_CODE_BLOCK;
+            } else if (nodeClass == Link.class) {
+                return Kind.LINK;
+            } else if (nodeClass == ListItem.class) {
+                return Kind.LIST_ITEM;
+            } else if (nodeClass == OrderedList.class) {
+                return Kind.ORDERED_LIST;
+            } else if (nodeClass == Paragraph.class) {
+                return Kind.PARAGRAPH;
+            } else if (nodeClass == SoftLineBreak.class) {
+                return Kind.SOFT_LINE_BREAK;
+            } else if (nodeClass == StrongEmphasis.class) {
+                return Kind.STRONG_EMPHASIS;
+            } else if (nodeClass == Text.class) {
+                return Kind.TEXT;
+            } else if (nodeClass == LinkReferenceDefinition.class) {
+                return Kind.LINK_REFERENCE_DEFINITION;
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported node type " + nodeClass.getName() + " for CompactDocument");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.commonmark.node;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.commonmark.internal.util.SourceSpanStore;
 
 /**
  * The base class of all CommonMark AST nodes ({@link Block} and inlines).
@@ -120,7 +121,13 @@ public abstract class Node {
      * @since 0.16.0
      */
     public List<SourceSpan> getSourceSpans() {
-        return sourceSpans != null ? Collections.unmodifiableList(sourceSpans) : List.of();
+        if (sourceSpans == null) {
+            return List.of();
+        }
+        // Packed source spans are immutable already
+        return SourceSpanStore.isPacked(sourceSpans)
+                ? sourceSpans
+                : Collections.unmodifiableList(sourceSpans);
     }
 
     /**
@@ -132,6 +139,8 @@ public abstract class Node {
     public void setSourceSpans(List<SourceSpan> sourceSpans) {
         if (sourceSpans.isEmpty()) {
             this.sourceSpans = null;
+        } else if (SourceSpanStore.isPacked(sourceSpans)) {
+            this.sourceSpans = sourceSpans;
         } else {
             this.sourceSpans = new ArrayList<>(sourceSpans);
         }
@@ -146,6 +155,8 @@ public abstract class Node {
     public void addSourceSpan(SourceSpan sourceSpan) {
         if (sourceSpans == null) {
             this.sourceSpans = new ArrayList<>();
+        } else if (SourceSpanStore.isPacked(sourceSpans)) {
+            this.sourceSpans = new ArrayList<>(sourceSpans);
         }
         this.sourceSpans.add(sourceSpan);
     }
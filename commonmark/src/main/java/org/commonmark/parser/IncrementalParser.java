@@ -0,0 +1,348 @@
+package org.commonmark.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.commonmark.internal.Definitions;
+import org.commonmark.node.Node;
+import org.commonmark.node.SourceSpan;
+
+/**
+ * Parses a document and then keeps it up to date with edits of the input, e.g. for an editor.
+ * Instead of parsing the whole input again for each edit, only the top-level blocks affected by an
+ * edit are parsed again and spliced into the previous document. Example:
+ *
+ * <pre><code>
+ * Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS).build();
+ * IncrementalParser incrementalParser = new IncrementalParser(parser);
+ * Node document = incrementalParser.parse("# Heading\n\nParagraph");
+ * // Replace "Paragraph" with "Text"
+ * document = incrementalParser.edit(11, 9, "Text");
+ * </code></pre>
+ *
+ * The top-level blocks are found using their {@link Node#getSourceSpans() source spans}, which is
+ * why the parser needs to be configured to include them. The result is the same as parsing the
+ * edited input from scratch. When that can't be guaranteed, a full parse is done instead. That's
+ * the case when an edit could change which blocks follow it (e.g. when it opens a fenced code
+ * block), when it adds or removes a definition (e.g. a link reference definition, which can be used
+ * anywhere in the document), or when a top-level node doesn't have source spans.
+ *
+ * <p>Note that the returned document is modified by later calls to {@link #edit}, so it shouldn't
+ * be modified by the caller in the meantime. Post-processors are only applied to the reparsed
+ * blocks, so they need to be local to the blocks they process (which is true for all extensions of
+ * this library).
+ *
+ * <p>This class is not thread-safe.
+ */
+public class IncrementalParser {
+
+    private final Parser parser;
+
+    private String input;
+    private Node document;
+    private Definitions definitions;
+
+    /**
+     * Nodes that are used as definitions, to detect when a definition would be removed by reparsing
+     * the blocks they're in. Null if a definition isn't a node, meaning we can't tell.
+     */
+    private Set<Object> definitionNodes;
+
+    /**
+     * @param parser the parser to use, needs to include source spans, see {@link
+     *     Parser.Builder#includeSourceSpans}
+     */
+    public IncrementalParser(Parser parser) {
+        Objects.requireNonNull(parser, "parser must not be null");
+        if (parser.getIncludeSourceSpans() == IncludeSourceSpans.NONE) {
+            throw new IllegalArgumentException(
+                    "parser needs to be configured to include source spans");
+        }
+        this.parser = parser;
+    }
+
+    /**
+     * Parse the specified input text into a tree of nodes, see {@link Parser#parse}. This also
+     * becomes the input that {@link #edit} applies to.
+     *
+     * @param input the text to parse - must not be null
+     * @return the root node
+     */
+    public Node parse(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+        var documentParser = parser.createDocumentParser();
+        var document = parser.postProcess(documentParser.parse(input));
+        setState(input, document, documentParser.getDefinitions());
+        return document;
+    }
+
+    /**
+     * Apply an edit to the current input, and update the document for it.
+     *
+     * @param offset the index in the current input where the edit starts
+     * @param removedLength how many characters are removed at {@code offset}
+     * @param replacement the text to insert at {@code offset} - must not be null
+     * @return the root node for the edited input, the same one that {@link #parse} returned if it
+     *     could be updated or a new one otherwise
+     * @throws IllegalStateException if {@link #parse} hasn't been called yet
+     */
+    public Node edit(int offset, int removedLength, String replacement) {
+        Objects.requireNonNull(replacement, "replacement must not be null");
+        if (input == null) {
+            throw new IllegalStateException("parse needs to be called before edit");
+        }
+        if (offset < 0 || removedLength < 0 || offset + removedLength > input.length()) {
+            throw new IndexOutOfBoundsException(
+                    "Edit at " + offset + " with length " + removedLength + " is out of bounds");
+        }
+
+        var newInput =
+                input.substring(0, offset) + replacement + input.substring(offset + removedLength);
+        if (!reparse(newInput, offset, removedLength, replacement.length())) {
+            parse(newInput);
+        }
+        return document;
+    }
+
+    /**
+     * @return the current input, with all edits applied
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * @return the current document
+     */
+    public Node getDocument() {
+        return document;
+    }
+
+    /**
+     * Try to reparse only the top-level blocks that are affected by the edit, returning false if a
+     * full parse is needed instead.
+     */
+    private boolean reparse(String newInput, int offset, int removedLength, int insertedLength) {
+        var blocks = new ArrayList<Node>();
+        for (var node = document.getFirstChild(); node != null; node = node.getNext()) {
+            if (node.getSourceSpans().isEmpty()) {
+                return false;
+            }
+            blocks.add(node);
+        }
+
+        // The lines that the edit touches (in the old input)
+        int editStart = lineStart(input, offset);
+        int editEnd = lineEnd(input, offset + removedLength);
+
+        // The blocks that are completely before the edit are [0, before), the ones completely after
+        // it are [after, size).
+        int before = 0;
+        while (before < blocks.size() && end(blocks.get(before)) < editStart) {
+            before++;
+        }
+        int after = before;
+        while (after < blocks.size() && start(blocks.get(after)) <= editEnd) {
+            after++;
+        }
+
+        // Also reparse the block before the edit, as the edit could make it continue (e.g. a
+        // paragraph with lazy continuation lines). Text before that block is unchanged, so that
+        // block starts the same way as before.
+        int first = Math.max(before - 1, 0);
+        int regionStart = first < before ? start(blocks.get(first)) : 0;
+        int regionLineIndex =
+                first < before ? blocks.get(first).getSourceSpans().get(0).getLineIndex() : 0;
+
+        // Also reparse the block after the edit. If it's parsed to the same block as before, the
+        // edit didn't affect the blocks after it, as they start in the same state. That doesn't
+        // work for the last block, as there might be trailing lines (e.g. blank lines in an
+        // unclosed fenced code block) that belong to it but are not part of its source spans.
+        boolean checkLast = after + 1 < blocks.size();
+        int last = checkLast ? after + 1 : blocks.size();
+        int oldRegionEnd = checkLast ? end(blocks.get(after)) : input.length();
+        int delta = insertedLength - removedLength;
+        int newRegionEnd = oldRegionEnd + delta;
+
+        for (int i = first; i < last; i++) {
+            if (containsDefinition(blocks.get(i))) {
+                return false;
+            }
+        }
+
+        var documentParser = parser.createDocumentParser();
+        var regionDocument =
+                parser.postProcess(
+                        documentParser.parse(
+                                newInput.substring(regionStart, newRegionEnd),
+                                regionLineIndex,
+                                regionStart,
+                                definitions));
+        if (documentParser.hasParsedDefinitions()) {
+            return false;
+        }
+
+        if (checkLast) {
+            var oldLast = blocks.get(last - 1);
+            var newLast = regionDocument.getLastChild();
+            if (newLast == null
+                    || newLast.getClass() != oldLast.getClass()
+                    || newLast.getSourceSpans().isEmpty()
+                    || start(newLast) != start(oldLast) + delta
+                    || end(newLast) != newRegionEnd) {
+                return false;
+            }
+        }
+
+        int lineDelta =
+                countLines(newInput, regionStart, newRegionEnd)
+                        - countLines(input, regionStart, oldRegionEnd);
+
+        // Splice the new blocks in place of the old ones
+        Node insertBefore = last < blocks.size() ? blocks.get(last) : null;
+        for (int i = first; i < last; i++) {
+            blocks.get(i).unlink();
+        }
+        Node node = regionDocument.getFirstChild();
+        while (node != null) {
+            var next = node.getNext();
+            if (insertBefore != null) {
+                insertBefore.insertBefore(node);
+            } else {
+                document.appendChild(node);
+            }
+            node = next;
+        }
+
+        // The blocks after that are unchanged, but their positions moved
+        if (delta != 0 || lineDelta != 0) {
+            for (int i = last; i < blocks.size(); i++) {
+                shiftSourceSpans(blocks.get(i), lineDelta, delta);
+            }
+        }
+
+        this.input = newInput;
+        return true;
+    }
+
+    private void setState(String input, Node document, Definitions definitions) {
+        this.input = input;
+        this.document = document;
+        this.definitions = definitions;
+
+        Set<Object> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var definitionMap : definitions.getDefinitionMaps()) {
+            for (var definition : definitionMap.values()) {
+                if (!(definition instanceof Node)) {
+                    this.definitionNodes = null;
+                    return;
+                }
+                nodes.add(definition);
+            }
+        }
+        this.definitionNodes = nodes;
+    }
+
+    private boolean containsDefinition(Node block) {
+        if (definitionNodes == null) {
+            return true;
+        }
+        if (definitionNodes.isEmpty()) {
+            return false;
+        }
+        // Iterative pre-order walk, as blocks can be nested deeply
+        Node node = block;
+        while (node != null) {
+            if (definitionNodes.contains(node)) {
+                return true;
+            }
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+            } else {
+                while (node != block && node.getNext() == null) {
+                    node = node.getParent();
+                }
+                node = node == block ? null : node.getNext();
+            }
+        }
+        return false;
+    }
+
+    private static void shiftSourceSpans(Node block, int lineDelta, int inputIndexDelta) {
+        Node node = block;
+        while (node != null) {
+            var sourceSpans = node.getSourceSpans();
+            if (!sourceSpans.isEmpty()) {
+                var shifted = new ArrayList<SourceSpan>(sourceSpans.size());
+                for (var span : sourceSpans) {
+                    shifted.add(
+                            SourceSpan.of(
+                                    span.getLineIndex() + lineDelta,
+                                    span.getColumnIndex(),
+                                    span.getInputIndex() + inputIndexDelta,
+                                    span.getLength()));
+                }
+                node.setSourceSpans(shifted);
+            }
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+            } else {
+                while (node != block && node.getNext() == null) {
+                    node = node.getParent();
+                }
+                node = node == block ? null : node.getNext();
+            }
+        }
+    }
+
+    /** Index where the first line of the node starts */
+    private static int start(Node node) {
+        var span = node.getSourceSpans().get(0);
+        return span.getInputIndex() - span.getColumnIndex();
+    }
+
+    /** Index where the last line of the node ends (excluding the line terminator) */
+    private static int end(Node node) {
+        List<SourceSpan> spans = node.getSourceSpans();
+        var span = spans.get(spans.size() - 1);
+        return span.getInputIndex() + span.getLength();
+    }
+
+    private static int lineStart(String s, int index) {
+        int i = index;
+        while (i > 0) {
+            char c = s.charAt(i - 1);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            i--;
+        }
+        return i;
+    }
+
+    private static int lineEnd(String s, int index) {
+        int i = index;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int countLines(String s, int start, int end) {
+        int lines = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 >= s.length() || s.charAt(i + 1) != '\n'))) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
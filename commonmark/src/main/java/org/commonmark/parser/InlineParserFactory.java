@@ -5,7 +5,7 @@ public interface InlineParserFactory {
 
     /**
      * Create an {@link InlineParser} to use for parsing inlines. This is called once per parsed
-     * document.
+     * document, or once per worker thread if {@link Parser.Builder#inlineParallelism} is used.
      */
     InlineParser create(InlineParserContext inlineParserContext);
 }
@@ -0,0 +1,41 @@
+package org.commonmark.parser;
+
+import java.util.List;
+import java.util.Set;
+import org.commonmark.internal.FusedPostProcessor;
+import org.commonmark.node.Node;
+
+/**
+ * A post-processor that processes nodes of certain types, instead of walking the tree itself.
+ * Consecutive node post-processors that are added to a {@link Parser.Builder} are combined, so that
+ * the tree is only traversed once for all of them, instead of once per post-processor.
+ *
+ * <p>The combined traversal gives the same result as running the post-processors one after another,
+ * each walking the whole tree in document order (a node before its children). So a post-processor
+ * is only called with a node once the post-processors before it have processed the node and all its
+ * descendants (but following nodes might not have been processed yet). It may change the node and
+ * its descendants, and replace the node with other nodes (by inserting siblings and unlinking the
+ * node). It must not change other parts of the tree. Nodes that replace the node are then processed
+ * by the remaining post-processors only.
+ */
+public interface NodePostProcessor extends PostProcessor {
+
+    /**
+     * @return the types of nodes that this post-processor processes (exact classes, not including
+     *     subclasses)
+     */
+    Set<Class<? extends Node>> getNodeTypes();
+
+    /**
+     * Process a node of one of the {@link #getNodeTypes() types}.
+     *
+     * @param node the node to process
+     */
+    void processNode(Node node);
+
+    /** Process all nodes of the tree, see {@link #processNode}. */
+    @Override
+    default Node process(Node node) {
+        return new FusedPostProcessor(List.of(this)).process(node);
+    }
+}
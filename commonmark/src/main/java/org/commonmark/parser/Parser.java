@@ -2,12 +2,20 @@ package org.commonmark.parser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.commonmark.Extension;
 import org.commonmark.internal.Definitions;
 import org.commonmark.internal.DocumentParser;
+import org.commonmark.internal.FusedPostProcessor;
 import org.commonmark.internal.InlineParserContextImpl;
 import org.commonmark.internal.InlineParserImpl;
+import org.commonmark.internal.util.BatchProcessor;
+import org.commonmark.internal.util.SourceSpanStore;
 import org.commonmark.node.*;
 import org.commonmark.parser.beta.InlineContentParserFactory;
 import org.commonmark.parser.beta.LinkInfo;
@@ -36,22 +44,46 @@ public class Parser {
     private final InlineParserFactory inlineParserFactory;
     private final List<PostProcessor> postProcessors;
     private final IncludeSourceSpans includeSourceSpans;
+    private final boolean compactSourceSpans;
     private final int maxOpenBlockParsers;
     private final int maxInlineNesting;
+    private final Executor inlineParserExecutor;
+    private final int inlineParallelism;
+    private final Executor blockParserExecutor;
+    private final int blockParallelism;
+    private final ParserMetrics metrics;
+    // Whether the metrics want node counts, which are only counted if needed
+    private final boolean countNodes;
+
+    /** Parser state that is kept for the next parse on the same thread, or null if disabled. */
+    private final ThreadLocal<DocumentParser> reusableDocumentParsers;
 
     private Parser(Builder builder) {
         this.blockParserFactories =
                 DocumentParser.calculateBlockParserFactories(
                         builder.blockParserFactories, builder.enabledBlockTypes);
         this.inlineParserFactory = builder.getInlineParserFactory();
-        this.postProcessors = builder.postProcessors;
+        // With metrics, each post-processor is run on its own so that it can be timed
+        this.postProcessors =
+                builder.metrics != null
+                        ? List.copyOf(builder.postProcessors)
+                        : FusedPostProcessor.fuse(builder.postProcessors);
         this.inlineContentParserFactories = builder.inlineContentParserFactories;
         this.delimiterProcessors = builder.delimiterProcessors;
         this.linkProcessors = builder.linkProcessors;
         this.linkMarkers = builder.linkMarkers;
         this.includeSourceSpans = builder.includeSourceSpans;
+        this.compactSourceSpans =
+                builder.compactSourceSpans && builder.includeSourceSpans != IncludeSourceSpans.NONE;
         this.maxOpenBlockParsers = builder.maxOpenBlockParsers;
         this.maxInlineNesting = builder.maxInlineNesting;
+        this.inlineParserExecutor = builder.inlineParserExecutor;
+        this.inlineParallelism = builder.inlineParallelism;
+        this.blockParserExecutor = builder.blockParserExecutor;
+        this.blockParallelism = builder.blockParallelism;
+        this.metrics = builder.metrics;
+        this.countNodes = metrics != null && overridesNodeCounts(metrics);
+        this.reusableDocumentParsers = builder.reuseParserState ? new ThreadLocal<>() : null;
 
         // Try to construct an inline parser. Invalid configuration might result in an exception,
         // which we want to detect as soon as possible.
@@ -78,15 +110,17 @@ public class Parser {
     /**
      * Parse the specified input text into a tree of nodes.
      *
-     * <p>This method is thread-safe (a new parser state is used for each invocation).
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
      *
      * @param input the text to parse - must not be null
      * @return the root node
      */
     public Node parse(String input) {
         Objects.requireNonNull(input, "input must not be null");
-        DocumentParser documentParser = createDocumentParser();
+        DocumentParser documentParser = acquireDocumentParser();
         Node document = documentParser.parse(input);
+        releaseDocumentParser(documentParser);
         return postProcess(document);
     }
 
@@ -106,7 +140,8 @@ public class Parser {
      * the reader to this library. There's existing classes that do that, e.g. see {@code
      * BOMInputStream} in Commons IO.
      *
-     * <p>This method is thread-safe (a new parser state is used for each invocation).
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
      *
      * @param input the reader to parse - must not be null
      * @return the root node
@@ -114,12 +149,203 @@ public class Parser {
      */
     public Node parseReader(Reader input) throws IOException {
         Objects.requireNonNull(input, "input must not be null");
-        DocumentParser documentParser = createDocumentParser();
+        DocumentParser documentParser = acquireDocumentParser();
         Node document = documentParser.parse(input);
+        releaseDocumentParser(documentParser);
+        return postProcess(document);
+    }
+
+    /**
+     * Parse UTF-8 encoded input into a tree of nodes. The result is the same as parsing {@code new
+     * String(input, offset, length, StandardCharsets.UTF_8)}, but input that is all ASCII is parsed
+     * without decoding it first.
+     *
+     * <p>The array is not copied, so it must not be modified while parsing.
+     *
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
+     *
+     * @param input the UTF-8 bytes to parse - must not be null
+     * @param offset the index of the first byte to parse
+     * @param length the number of bytes to parse
+     * @return the root node
+     */
+    public Node parse(byte[] input, int offset, int length) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.checkFromIndexSize(offset, length, input.length);
+        DocumentParser documentParser = acquireDocumentParser();
+        Node document = documentParser.parse(input, offset, length);
+        releaseDocumentParser(documentParser);
         return postProcess(document);
     }
 
-    private DocumentParser createDocumentParser() {
+    /**
+     * Parse the specified file into a tree of nodes. The file is decoded as UTF-8, with malformed
+     * input replaced by {@code U+FFFD}. A byte order mark (BOM) at the start is skipped, so the
+     * input indexes of source spans are relative to the text after it.
+     *
+     * <p>Compared to reading the file into a string first, the file is decoded once and its lines
+     * are parsed without copying them. Large files are memory-mapped instead of read.
+     *
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
+     *
+     * @param path the file to parse - must not be null
+     * @return the root node
+     * @throws IOException when reading the file fails
+     */
+    public Node parseFile(Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return parseFile(channel);
+        }
+    }
+
+    /**
+     * Parse the content of a file channel from its current position to the end, see {@link
+     * #parseFile(Path)}. The caller is responsible for closing the channel.
+     *
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
+     *
+     * @param channel the channel to parse - must not be null
+     * @return the root node
+     * @throws IOException when reading the channel fails
+     */
+    public Node parseFile(FileChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "channel must not be null");
+        DocumentParser documentParser = acquireDocumentParser();
+        Node document = documentParser.parse(channel);
+        releaseDocumentParser(documentParser);
+        return postProcess(document);
+    }
+
+    /**
+     * Parse the specified reader block by block, passing each top-level node to the consumer as
+     * soon as it's complete. Unlike {@link #parseReader}, the whole document is never in memory at
+     * once, which makes this useful for converting very large inputs. The caller is responsible for
+     * closing the reader.
+     *
+     * <pre><code>
+     * parser.parseBlocks(reader, node -&gt; renderer.render(node, writer));
+     * </code></pre>
+     *
+     * The nodes are the children that the {@link Document} would have with {@link #parseReader}
+     * (e.g. paragraphs, lists and link reference definitions), in document order. They are already
+     * unlinked from their parent, and post-processors have been applied to each of them.
+     *
+     * <p>Note that the inline content of a block is parsed when the block is complete, so only
+     * definitions (e.g. link reference definitions) that come <em>before</em> the block can be used
+     * by it. References to definitions later in the input are left as text. Also note that
+     * extensions that need to see the whole document when rendering (e.g. footnotes) don't work
+     * with this.
+     *
+     * <p>This method is thread-safe (each invocation uses its own parser state, see {@link
+     * Builder#reuseParserState}).
+     *
+     * @param input the reader to parse - must not be null
+     * @param nodeConsumer the consumer for top-level nodes - must not be null
+     * @throws IOException when reading throws an exception
+     * @see #parseReader
+     */
+    public void parseBlocks(Reader input, Consumer<? super Node> nodeConsumer) throws IOException {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(nodeConsumer, "nodeConsumer must not be null");
+        DocumentParser documentParser = acquireDocumentParser();
+        documentParser.parse(input, node -> nodeConsumer.accept(postProcess(node)));
+        releaseDocumentParser(documentParser);
+    }
+
+    /**
+     * Parse a batch of inputs, e.g. many small documents such as comments. This is the same as
+     * calling {@link #parse} for each of them, but the parser state is reused for the whole batch
+     * (regardless of {@link Builder#reuseParserState}), which makes parsing small inputs cheaper.
+     *
+     * <p>This method is thread-safe.
+     *
+     * @param inputs the texts to parse - must not be null, and not contain null
+     * @return the root nodes, in the order of the inputs
+     */
+    public List<Node> parseAll(List<String> inputs) {
+        return parseAll(inputs, null, 1);
+    }
+
+    /**
+     * Parse a batch of inputs like {@link #parseAll(List)}, but use the given executor to parse
+     * multiple inputs at the same time.
+     *
+     * <p>The calling thread takes part in the work, and the given executor is used to run up to
+     * {@code parallelism - 1} additional workers, each of which parses a part of the batch with its
+     * own parser state. Note that post-processors and custom parsing extensions are used from
+     * multiple threads at the same time (as they already are when a parser is shared between
+     * threads).
+     *
+     * @param inputs the texts to parse - must not be null, and not contain null
+     * @param executor the executor to run additional workers on, or {@code null} to parse on the
+     *     calling thread only
+     * @param parallelism maximum number of threads (including the calling one) to use, must be 1 or
+     *     greater
+     * @return the root nodes, in the order of the inputs
+     */
+    public List<Node> parseAll(List<String> inputs, Executor executor, int parallelism) {
+        Objects.requireNonNull(inputs, "inputs must not be null");
+        for (String input : inputs) {
+            Objects.requireNonNull(input, "input must not be null");
+        }
+        return BatchProcessor.process(
+                inputs,
+                () ->
+                        new BatchProcessor.Worker<String, Node>() {
+                            private final DocumentParser documentParser = acquireDocumentParser();
+
+                            @Override
+                            public Node process(String input) {
+                                Node document = documentParser.parse(input);
+                                documentParser.reset();
+                                return postProcess(document);
+                            }
+
+                            @Override
+                            public void finish() {
+                                releaseDocumentParser(documentParser);
+                            }
+                        },
+                executor,
+                parallelism);
+    }
+
+    IncludeSourceSpans getIncludeSourceSpans() {
+        return includeSourceSpans;
+    }
+
+    /**
+     * Get the parser state for one parse, see {@link Builder#reuseParserState}. The state is taken
+     * out of the thread-local while it's in use, so that a nested parse on the same thread (e.g.
+     * from a post-processor) gets its own.
+     */
+    private DocumentParser acquireDocumentParser() {
+        if (reusableDocumentParsers != null) {
+            var documentParser = reusableDocumentParsers.get();
+            if (documentParser != null) {
+                reusableDocumentParsers.set(null);
+                return documentParser;
+            }
+        }
+        return createDocumentParser();
+    }
+
+    /**
+     * Keep the parser state for the next parse on this thread, if enabled. Not called if parsing
+     * failed with an exception, in which case the state is dropped.
+     */
+    private void releaseDocumentParser(DocumentParser documentParser) {
+        if (reusableDocumentParsers != null) {
+            documentParser.reset();
+            reusableDocumentParsers.set(documentParser);
+        }
+    }
+
+    DocumentParser createDocumentParser() {
         return new DocumentParser(
                 blockParserFactories,
                 inlineParserFactory,
@@ -129,16 +355,61 @@ public class Parser {
                 linkMarkers,
                 includeSourceSpans,
                 maxOpenBlockParsers,
-                maxInlineNesting);
+                maxInlineNesting,
+                inlineParserExecutor,
+                inlineParallelism,
+                blockParserExecutor,
+                blockParallelism,
+                metrics);
     }
 
-    private Node postProcess(Node document) {
+    Node postProcess(Node document) {
         for (PostProcessor postProcessor : postProcessors) {
-            document = postProcessor.process(document);
+            if (metrics == null) {
+                document = postProcessor.process(document);
+            } else {
+                long start = System.nanoTime();
+                Node result = postProcessor.process(document);
+                metrics.postProcessed(document, postProcessor, System.nanoTime() - start);
+                document = result;
+            }
+        }
+        if (compactSourceSpans) {
+            SourceSpanStore.pack(document);
+        }
+        if (countNodes) {
+            metrics.nodeCounts(document, countNodes(document));
         }
         return document;
     }
 
+    private static boolean overridesNodeCounts(ParserMetrics metrics) {
+        try {
+            var method = metrics.getClass().getMethod("nodeCounts", Node.class, Map.class);
+            return method.getDeclaringClass() != ParserMetrics.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static Map<Class<? extends Node>, Integer> countNodes(Node root) {
+        var counts = new HashMap<Class<? extends Node>, Integer>();
+        // Depth-first without recursion, as documents can be deeply nested
+        Node node = root;
+        while (node != null) {
+            counts.merge(node.getClass(), 1, Integer::sum);
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+            } else {
+                while (node != root && node.getNext() == null) {
+                    node = node.getParent();
+                }
+                node = node != root ? node.getNext() : null;
+            }
+        }
+        return counts;
+    }
+
     /** Builder for configuring a {@link Parser}. */
     public static class Builder {
         private final List<BlockParserFactory> blockParserFactories = new ArrayList<>();
@@ -154,6 +425,13 @@ public class Parser {
         private IncludeSourceSpans includeSourceSpans = IncludeSourceSpans.NONE;
         private int maxOpenBlockParsers = 100;
         private int maxInlineNesting = 100;
+        private Executor inlineParserExecutor;
+        private int inlineParallelism = 1;
+        private Executor blockParserExecutor;
+        private int blockParallelism = 1;
+        private boolean reuseParserState = false;
+        private boolean compactSourceSpans = false;
+        private ParserMetrics metrics;
 
         /**
          * @return the configured {@link Parser}
@@ -228,6 +506,26 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Whether to store the source spans of a parsed document compactly, see {@link
+         * #includeSourceSpans}. Instead of a list and an object per span for each node, the spans
+         * of all nodes of a document are stored in one array, and the span objects are created when
+         * they are accessed using {@link Node#getSourceSpans()}. This reduces the memory used by a
+         * document with source spans a lot, but makes accessing them a bit slower.
+         *
+         * <p>The spans are packed after post-processing. Changing the spans of a node later (e.g.
+         * using {@link Node#addSourceSpan}) copies them to a list for that node.
+         *
+         * <p>By default, source spans are not stored compactly.
+         *
+         * @param compactSourceSpans true to store source spans compactly
+         * @return {@code this}
+         */
+        public Builder compactSourceSpans(boolean compactSourceSpans) {
+            this.compactSourceSpans = compactSourceSpans;
+            return this;
+        }
+
         /**
          * Limit how many block parsers may be open at once while parsing.
          *
@@ -283,6 +581,116 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Parse inline content (emphasis, links, etc.) of a document's blocks concurrently. Inline
+         * parsing happens after all blocks of a document have been parsed, and the blocks can then
+         * be processed independently of each other. For large documents, inline parsing is where
+         * most of the time goes, so this can reduce the latency of a single {@link #parse} call.
+         *
+         * <p>The calling thread takes part in the work, and the given executor is used to run up to
+         * {@code parallelism - 1} additional workers. Small documents are parsed on the calling
+         * thread only. The resulting document is the same as without this option.
+         *
+         * <p>Note that each worker creates its own inline parser using the {@link
+         * InlineParserFactory}, and that custom {@link DelimiterProcessor}, {@link
+         * InlineContentParserFactory} and {@link LinkProcessor} implementations are used from
+         * multiple threads at the same time (as they already are when a parser is shared between
+         * threads).
+         *
+         * <p>By default, inline parsing is done on the calling thread.
+         *
+         * @param executor the executor to run additional workers on, or {@code null} to disable
+         * @param parallelism maximum number of threads (including the calling one) to use for one
+         *     document, must be 1 or greater
+         * @return {@code this}
+         */
+        public Builder inlineParallelism(Executor executor, int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be >= 1");
+            }
+            this.inlineParserExecutor = executor;
+            this.inlineParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Parse the blocks of large inputs concurrently. Block parsing goes through the input line
+         * by line, as each line can continue the blocks of the lines before it. To parse parts of
+         * the input at the same time, {@link #parse} splits it at lines that likely start a new
+         * top-level block (e.g. a paragraph at column 0 after a blank line), and parses each part
+         * on its own. The parts are then joined in order. Where the blocks before a part turn out
+         * to continue into it (e.g. a fenced code block containing blank lines), the part is parsed
+         * again after them, so the resulting document is the same as without this option.
+         *
+         * <p>Splitting only pays off for large inputs, smaller ones are parsed on the calling
+         * thread only. When custom block parser factories are used, parts can only be joined where
+         * no block is open, so more parts might need to be parsed again. Combine this with {@link
+         * #inlineParallelism} to also parse the inline content concurrently. This only applies to
+         * {@link #parse}, not to parsing a reader.
+         *
+         * <p>The calling thread takes part in the work, and the given executor is used to run up to
+         * {@code parallelism - 1} additional workers. Note that custom {@link BlockParserFactory}
+         * implementations are used from multiple threads at the same time (as they already are when
+         * a parser is shared between threads).
+         *
+         * <p>By default, blocks are parsed on the calling thread.
+         *
+         * @param executor the executor to run additional workers on, or {@code null} to disable
+         * @param parallelism maximum number of threads (including the calling one) to use for one
+         *     document, must be 1 or greater
+         * @return {@code this}
+         */
+        public Builder blockParallelism(Executor executor, int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be >= 1");
+            }
+            this.blockParserExecutor = executor;
+            this.blockParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Whether to reuse the internal parser state between parse calls instead of creating it for
+         * each call. This makes parsing small inputs cheaper, as the setup of the state (e.g. of
+         * the inline parser) can be a significant part of the cost for them.
+         *
+         * <p>The state is kept per thread (using a {@link ThreadLocal}), so the parser stays
+         * thread-safe. A parse on a thread that is already parsing (e.g. a post-processor that
+         * parses something) uses new state. Note that the state stays referenced by each thread
+         * that used the parser until the parser is garbage collected, which can prevent class
+         * unloading in environments such as application servers.
+         *
+         * <p>Custom inline parsers from {@link #inlineParserFactory} are still created for each
+         * document. The result of parsing is the same as without this option.
+         *
+         * <p>By default, new state is created for each parse call.
+         *
+         * @param reuseParserState true to reuse the state, false to create new state for each call
+         * @return {@code this}
+         */
+        public Builder reuseParserState(boolean reuseParserState) {
+            this.reuseParserState = reuseParserState;
+            return this;
+        }
+
+        /**
+         * Report metrics about parsing each document to the given listener, e.g. how long the
+         * stages of parsing took, see {@link ParserMetrics}.
+         *
+         * <p>Post-processors are run one after the other with metrics, instead of combining {@link
+         * NodePostProcessor}s into a single traversal of the document, so that each of them can be
+         * timed. For {@link #parseBlocks}, only post-processing of the top-level nodes is reported.
+         *
+         * <p>By default, no metrics are collected, which costs nothing.
+         *
+         * @param metrics the listener for the metrics, or {@code null} for none
+         * @return {@code this}
+         */
+        public Builder metrics(ParserMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Add a custom block parser factory.
          *
@@ -372,6 +780,14 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Add a post-processor that is run on the document after parsing. Post-processors are run
+         * in the order they were added. Consecutive {@link NodePostProcessor}s are run in a single
+         * traversal of the document.
+         *
+         * @param postProcessor a post-processor
+         * @return {@code this}
+         */
         public Builder postProcessor(PostProcessor postProcessor) {
             Objects.requireNonNull(postProcessor, "postProcessor must not be null");
             postProcessors.add(postProcessor);
@@ -0,0 +1,75 @@
+package org.commonmark.parser;
+
+import java.util.Map;
+import org.commonmark.node.Document;
+import org.commonmark.node.Node;
+import org.commonmark.parser.block.BlockParserFactory;
+
+/**
+ * Receives metrics about the stages of parsing each document, see {@link
+ * Parser.Builder#metrics(ParserMetrics)}. This can be used to find out which documents (or
+ * extensions) parsing spends its time on.
+ *
+ * <p>The methods are called on the thread that parses the document, in the order of the stages,
+ * after each stage has finished. The document is passed to each of them so that they can be related
+ * to each other (note that a post-processor might parse another document in between). When parsing
+ * multiple documents at the same time, the methods are called concurrently, so implementations need
+ * to be thread-safe.
+ *
+ * <p>All methods do nothing by default, so implementations only need to override the ones they're
+ * interested in.
+ */
+public interface ParserMetrics {
+
+    /**
+     * The block structure of a document has been parsed, including the link reference definitions,
+     * but not the inline content yet.
+     *
+     * @param document the document, without inline content
+     * @param lines the number of lines that were parsed
+     * @param nanos the time it took (for files or bytes, excluding the decoding)
+     */
+    default void blocksParsed(Document document, int lines, long nanos) {}
+
+    /**
+     * How often a block parser factory was tried for starting a block, and how often that started
+     * one. Called after {@link #blocksParsed} for each factory that was tried at least once, in the
+     * order in which they are tried.
+     *
+     * @param document the document, without inline content
+     * @param factory the block parser factory
+     * @param attempts the number of calls of {@link BlockParserFactory#tryStart}
+     * @param starts the number of calls that started a block
+     */
+    default void blockStarts(
+            Document document, BlockParserFactory factory, int attempts, int starts) {}
+
+    /**
+     * The inline content of all blocks of a document has been parsed.
+     *
+     * @param document the document
+     * @param maxDelimiters the maximum number of delimiter runs (e.g. {@code **} for emphasis) that
+     *     were on the delimiter stack at the same time in a block, or 0 if a custom inline parser
+     *     is used
+     * @param nanos the time it took
+     */
+    default void inlinesParsed(Document document, int maxDelimiters, long nanos) {}
+
+    /**
+     * A post-processor has processed a document.
+     *
+     * @param document the node that was passed to the post-processor
+     * @param postProcessor the post-processor
+     * @param nanos the time it took
+     */
+    default void postProcessed(Node document, PostProcessor postProcessor, long nanos) {}
+
+    /**
+     * The number of nodes of each type in the result of parsing, after post-processing. Counting
+     * the nodes takes some time, so this is only done if this method is overridden.
+     *
+     * @param document the parsed document
+     * @param nodeCounts the number of nodes (including the document itself) by their class
+     */
+    default void nodeCounts(Node document, Map<Class<? extends Node>, Integer> nodeCounts) {}
+}
@@ -2,6 +2,7 @@ package org.commonmark.parser;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.commonmark.internal.util.CharSequenceView;
 import org.commonmark.node.SourceSpan;
 
 /**
@@ -42,12 +43,20 @@ public class SourceLines {
     }
 
     public String getContent() {
-        StringBuilder sb = new StringBuilder();
+        if (lines.size() == 1) {
+            // Avoid copying the content twice
+            return lines.get(0).getContent().toString();
+        }
+        int length = Math.max(lines.size() - 1, 0);
+        for (SourceLine line : lines) {
+            length += line.getContent().length();
+        }
+        StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < lines.size(); i++) {
             if (i != 0) {
                 sb.append('\n');
             }
-            sb.append(lines.get(i).getContent());
+            CharSequenceView.appendTo(sb, lines.get(i).getContent());
         }
         return sb.toString();
     }
@@ -17,6 +17,8 @@ public class Scanner {
      */
     public static final char END = '\0';
 
+    private static final SourceLine EMPTY_LINE = SourceLine.of("", null);
+
     // Lines without newlines at the end. The scanner will yield `\n` between lines because they're
     // significant for parsing and the final output. There is no `\n` after the last line.
     private final List<SourceLine> lines;
@@ -27,7 +29,7 @@ public class Scanner {
     private int index;
 
     // Current line or "" if at the end of the lines (using "" instead of null saves a null check)
-    private SourceLine line = SourceLine.of("", null);
+    private SourceLine line = EMPTY_LINE;
     private int lineLength = 0;
 
     Scanner(List<SourceLine> lines, int lineIndex, int index) {
@@ -196,6 +198,15 @@ public class Scanner {
     public int find(char c) {
         int count = 0;
         while (true) {
+            // Scan the rest of the line directly instead of with peek and next for each char
+            CharSequence content = line.getContent();
+            int i = index;
+            while (i < lineLength && content.charAt(i) != c) {
+                i++;
+            }
+            count += i - index;
+            index = i;
+
             char cur = peek();
             if (cur == Scanner.END) {
                 return -1;
@@ -210,6 +221,15 @@ public class Scanner {
     public int find(CharMatcher matcher) {
         int count = 0;
         while (true) {
+            // Same as in find(char)
+            CharSequence content = line.getContent();
+            int i = index;
+            while (i < lineLength && !matcher.matches(content.charAt(i))) {
+                i++;
+            }
+            count += i - index;
+            index = i;
+
             char c = peek();
             if (c == END) {
                 return -1;
@@ -0,0 +1,22 @@
+package org.commonmark.renderer;
+
+import org.commonmark.node.Node;
+
+/**
+ * Receives metrics about rendering each node tree, see e.g. {@link
+ * org.commonmark.renderer.html.HtmlRenderer.Builder#metrics(RendererMetrics)}. This can be used to
+ * find out which documents rendering spends its time on.
+ *
+ * <p>The method is called on the thread that rendered the node, so when rendering multiple nodes at
+ * the same time, implementations need to be thread-safe.
+ */
+public interface RendererMetrics {
+
+    /**
+     * A node (usually a document) has been rendered.
+     *
+     * @param node the root node that was rendered
+     * @param nanos the time it took, including writing to the output
+     */
+    void rendered(Node node, long nanos);
+}
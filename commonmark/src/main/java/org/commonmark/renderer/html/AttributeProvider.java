@@ -1,6 +1,7 @@
 package org.commonmark.renderer.html;
 
 import java.util.Map;
+import java.util.Set;
 import org.commonmark.node.Node;
 
 /** Extension point for adding/changing attributes on HTML tags for a node. */
@@ -24,4 +25,15 @@ public interface AttributeProvider {
      * @param attributes the attributes, with any default attributes already set in the map
      */
     void setAttributes(Node node, String tagName, Map<String, String> attributes);
+
+    /**
+     * The types of nodes that this provider sets attributes for. For other nodes, {@link
+     * #setAttributes} is not called, which allows the renderer to skip copying the attributes when
+     * no provider is interested in a node.
+     *
+     * @return the node types (including their subclasses), or null for all nodes (the default)
+     */
+    default Set<Class<? extends Node>> getNodeTypes() {
+        return null;
+    }
 }
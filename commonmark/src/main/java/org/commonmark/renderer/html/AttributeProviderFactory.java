@@ -10,4 +10,17 @@ public interface AttributeProviderFactory {
      * @return an AttributeProvider
      */
     AttributeProvider create(AttributeProviderContext context);
+
+    /**
+     * Whether the attribute providers created by this factory are stateless, meaning they don't
+     * keep any state from rendering a document (e.g. unique IDs that were already used). Such
+     * attribute providers are reused for rendering other documents when {@link
+     * HtmlRenderer.Builder#reuseRendererState} is enabled, instead of being created for each
+     * document.
+     *
+     * @return true if the attribute providers are stateless, false by default
+     */
+    default boolean isStateless() {
+        return false;
+    }
 }
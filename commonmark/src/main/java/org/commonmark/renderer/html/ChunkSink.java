@@ -0,0 +1,19 @@
+package org.commonmark.renderer.html;
+
+import java.io.IOException;
+
+/**
+ * Receives rendered HTML in chunks, see {@link HtmlRenderer#render(org.commonmark.node.Node, int,
+ * ChunkSink)}.
+ */
+public interface ChunkSink {
+
+    /**
+     * Accept the next chunk of output.
+     *
+     * @param chunk the chunk, which is only valid during the call (the buffer is reused for the
+     *     next chunk), so it needs to be written or copied
+     * @throws IOException if writing the chunk fails, which stops rendering
+     */
+    void accept(CharSequence chunk) throws IOException;
+}
@@ -20,7 +20,8 @@ public interface HtmlNodeRendererContext {
      * @param tagName the HTML tag name that these attributes are for (e.g. {@code h1}, {@code pre},
      *     {@code code}).
      * @param attributes the attributes that were calculated by the renderer
-     * @return the extended attributes with added/updated/removed entries
+     * @return the extended attributes with added/updated/removed entries, which may be the passed
+     *     map itself if there is no attribute provider for the node (so don't modify the result)
      */
     Map<String, String> extendAttributes(Node node, String tagName, Map<String, String> attributes);
 
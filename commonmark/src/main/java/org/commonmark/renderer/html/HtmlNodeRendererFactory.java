@@ -1,5 +1,7 @@
 package org.commonmark.renderer.html;
 
+import java.util.Objects;
+import java.util.function.Function;
 import org.commonmark.renderer.NodeRenderer;
 
 /** Factory for instantiating new node renderers when rendering is done. */
@@ -12,4 +14,40 @@ public interface HtmlNodeRendererFactory {
      * @return a node renderer
      */
     NodeRenderer create(HtmlNodeRendererContext context);
+
+    /**
+     * Whether the node renderers created by this factory are stateless, meaning they don't keep any
+     * state from rendering a document other than what they got from the context when they were
+     * created. Such node renderers are reused for rendering other documents when {@link
+     * HtmlRenderer.Builder#reuseRendererState} is enabled, instead of being created for each
+     * document.
+     *
+     * @return true if the node renderers are stateless, false by default
+     */
+    default boolean isStateless() {
+        return false;
+    }
+
+    /**
+     * Create a factory for node renderers that are {@link #isStateless() stateless}, e.g. {@code
+     * HtmlNodeRendererFactory.stateless(MyNodeRenderer::new)}.
+     *
+     * @param create the function for creating a node renderer
+     * @return a factory that uses the function and declares its node renderers as stateless
+     */
+    static HtmlNodeRendererFactory stateless(
+            Function<HtmlNodeRendererContext, NodeRenderer> create) {
+        Objects.requireNonNull(create, "create must not be null");
+        return new HtmlNodeRendererFactory() {
+            @Override
+            public NodeRenderer create(HtmlNodeRendererContext context) {
+                return create.apply(context);
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+        };
+    }
 }
@@ -1,11 +1,21 @@
 package org.commonmark.renderer.html;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.Executor;
 import org.commonmark.Extension;
+import org.commonmark.internal.renderer.ChunkedOutput;
 import org.commonmark.internal.renderer.NodeRendererMap;
+import org.commonmark.internal.renderer.Utf8Output;
+import org.commonmark.internal.util.BatchProcessor;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.node.*;
+import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.Renderer;
+import org.commonmark.renderer.RendererMetrics;
 
 /**
  * Renders a tree of nodes to HTML.
@@ -27,6 +37,13 @@ public class HtmlRenderer implements Renderer {
     private final UrlSanitizer urlSanitizer;
     private final List<AttributeProviderFactory> attributeProviderFactories;
     private final List<HtmlNodeRendererFactory> nodeRendererFactories;
+    private final ThreadLocal<RendererContext> reusableContexts;
+    private final RendererMetrics metrics;
+    // Whether all node renderers and attribute providers are stateless
+    private final boolean stateless;
+
+    private static final HtmlNodeRendererFactory CORE_NODE_RENDERER_FACTORY =
+            HtmlNodeRendererFactory.stateless(CoreHtmlNodeRenderer::new);
 
     private HtmlRenderer(Builder builder) {
         this.softbreak = builder.softbreak;
@@ -40,7 +57,14 @@ public class HtmlRenderer implements Renderer {
         this.nodeRendererFactories = new ArrayList<>(builder.nodeRendererFactories.size() + 1);
         this.nodeRendererFactories.addAll(builder.nodeRendererFactories);
         // Add as last. This means clients can override the rendering of core nodes if they want.
-        this.nodeRendererFactories.add(CoreHtmlNodeRenderer::new);
+        this.nodeRendererFactories.add(CORE_NODE_RENDERER_FACTORY);
+
+        this.reusableContexts = builder.reuseRendererState ? new ThreadLocal<>() : null;
+        this.metrics = builder.metrics;
+        this.stateless =
+                attributeProviderFactories.stream().allMatch(AttributeProviderFactory::isStateless)
+                        && nodeRendererFactories.stream()
+                                .allMatch(HtmlNodeRendererFactory::isStateless);
     }
 
     /**
@@ -55,10 +79,116 @@ public class HtmlRenderer implements Renderer {
     @Override
     public void render(Node node, Appendable output) {
         Objects.requireNonNull(node, "node must not be null");
-        RendererContext context = new RendererContext(new HtmlWriter(output));
+        render(node, output, null);
+    }
+
+    private void render(Node node, Appendable output, ChunkedOutput chunkedOutput) {
+        RendererContext context = acquireContext(output, chunkedOutput);
+        renderRoot(context, node);
+        releaseContext(context);
+    }
+
+    private void renderRoot(RendererContext context, Node node) {
+        long start = metrics != null ? System.nanoTime() : 0;
         context.beforeRoot(node);
         context.render(node);
         context.afterRoot(node);
+        if (metrics != null) {
+            metrics.rendered(node, System.nanoTime() - start);
+        }
+    }
+
+    private RendererContext acquireContext(Appendable output, ChunkedOutput chunkedOutput) {
+        if (reusableContexts != null) {
+            var context = reusableContexts.get();
+            if (context != null) {
+                reusableContexts.set(null);
+                context.reset(output, chunkedOutput);
+                return context;
+            }
+        }
+        return new RendererContext(output, chunkedOutput);
+    }
+
+    /**
+     * Keep the context for the next render on this thread, if enabled. Not called if rendering
+     * failed with an exception, in which case the context is dropped.
+     */
+    private void releaseContext(RendererContext context) {
+        if (reusableContexts != null) {
+            context.release();
+            reusableContexts.set(context);
+        }
+    }
+
+    /**
+     * Render the tree of nodes to an output stream, encoded as UTF-8. The characters are encoded
+     * into a buffer as they are rendered, without creating a string of the whole output first.
+     *
+     * <p>The output stream is not flushed or closed.
+     *
+     * @param node the root node
+     * @param output output stream for rendering
+     * @throws IOException if writing to the output stream fails
+     */
+    public void render(Node node, OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "output must not be null");
+        render(node, Utf8Output.of(output));
+    }
+
+    /**
+     * Render the tree of nodes to a channel, encoded as UTF-8. Same as {@link #render(Node,
+     * OutputStream)}, but for a channel, which needs to be in blocking mode.
+     *
+     * @param node the root node
+     * @param output channel for rendering
+     * @throws IOException if writing to the channel fails
+     */
+    public void render(Node node, WritableByteChannel output) throws IOException {
+        Objects.requireNonNull(output, "output must not be null");
+        render(node, Utf8Output.of(output));
+    }
+
+    private void render(Node node, Utf8Output output) throws IOException {
+        try {
+            render(node, (Appendable) output);
+        } catch (UncheckedIOException e) {
+            // Throw the original exception, not the wrapped one
+            if (e.getCause() == output.getFailure()) {
+                throw e.getCause();
+            }
+            throw e;
+        }
+        output.flush();
+    }
+
+    /**
+     * Render the tree of nodes in chunks, for output that is too large to keep in memory at once.
+     * The output is collected in a buffer that is passed to the sink at the end of a block once it
+     * has reached the chunk size, and then reused. Blocks that render to more than twice the chunk
+     * size (e.g. large code blocks) are passed on in parts, so the buffer never gets larger than
+     * that.
+     *
+     * @param node the root node
+     * @param chunkSize the number of characters after which a chunk is passed to the sink at the
+     *     end of a block
+     * @param sink the sink for the chunks
+     * @throws IOException if the sink fails
+     */
+    public void render(Node node, int chunkSize, ChunkSink sink) throws IOException {
+        Objects.requireNonNull(node, "node must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        var output = new ChunkedOutput(chunkSize, sink);
+        try {
+            render(node, output, output);
+            output.finish();
+        } catch (UncheckedIOException e) {
+            // Throw the original exception, not the wrapped one
+            if (e.getCause() == output.getFailure()) {
+                throw e.getCause();
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -69,6 +199,72 @@ public class HtmlRenderer implements Renderer {
         return sb.toString();
     }
 
+    /**
+     * Render a batch of nodes, e.g. the documents of many small inputs such as comments. This is
+     * the same as calling {@link #render(Node)} for each of them, but the renderer state is reused
+     * for the whole batch (regardless of {@link Builder#reuseRendererState}), which makes rendering
+     * small documents cheaper. State of node renderers and attribute providers that aren't
+     * stateless is still created for each node.
+     *
+     * <p>This method is thread-safe.
+     *
+     * @param nodes the root nodes to render - must not be null, and not contain null
+     * @return the rendered HTML, in the order of the nodes
+     */
+    public List<String> renderAll(List<? extends Node> nodes) {
+        return renderAll(nodes, null, 1);
+    }
+
+    /**
+     * Render a batch of nodes like {@link #renderAll(List)}, but use the given executor to render
+     * multiple nodes at the same time.
+     *
+     * <p>The calling thread takes part in the work, and the given executor is used to run up to
+     * {@code parallelism - 1} additional workers, each of which renders a part of the batch with
+     * its own renderer state.
+     *
+     * @param nodes the root nodes to render - must not be null, and not contain null
+     * @param executor the executor to run additional workers on, or {@code null} to render on the
+     *     calling thread only
+     * @param parallelism maximum number of threads (including the calling one) to use, must be 1 or
+     *     greater
+     * @return the rendered HTML, in the order of the nodes
+     */
+    public List<String> renderAll(List<? extends Node> nodes, Executor executor, int parallelism) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        for (Node node : nodes) {
+            Objects.requireNonNull(node, "node must not be null");
+        }
+        return BatchProcessor.process(
+                nodes,
+                () ->
+                        new BatchProcessor.Worker<Node, String>() {
+                            private final StringBuilder sb = new StringBuilder();
+                            private RendererContext context;
+
+                            @Override
+                            public String process(Node node) {
+                                sb.setLength(0);
+                                if (context == null) {
+                                    context = acquireContext(sb, null);
+                                } else {
+                                    context.reset(sb, null);
+                                }
+                                renderRoot(context, node);
+                                return sb.toString();
+                            }
+
+                            @Override
+                            public void finish() {
+                                if (context != null) {
+                                    releaseContext(context);
+                                }
+                            }
+                        },
+                executor,
+                parallelism);
+    }
+
     /** Builder for configuring an {@link HtmlRenderer}. See methods for default configuration. */
     public static class Builder {
 
@@ -80,6 +276,8 @@ public class HtmlRenderer implements Renderer {
         private boolean omitSingleParagraphP = false;
         private List<AttributeProviderFactory> attributeProviderFactories = new ArrayList<>();
         private List<HtmlNodeRendererFactory> nodeRendererFactories = new ArrayList<>();
+        private boolean reuseRendererState = false;
+        private RendererMetrics metrics;
 
         /**
          * @return the configured {@link HtmlRenderer}
@@ -178,6 +376,47 @@ public class HtmlRenderer implements Renderer {
             return this;
         }
 
+        /**
+         * Whether to reuse the rendering state (node renderers, attribute providers and the
+         * dispatch of nodes to them) between render calls instead of creating it for each call.
+         * This makes rendering small documents cheaper, as the setup can cost more than the
+         * rendering itself for them.
+         *
+         * <p>Only node renderers and attribute providers whose factories declare them as stateless
+         * (see {@link HtmlNodeRendererFactory#isStateless()} and {@link
+         * AttributeProviderFactory#isStateless()}) are reused; the others are still created for
+         * each call. The state is kept per thread (using a {@link ThreadLocal}), so the renderer
+         * stays thread-safe. A render on a thread that is already rendering uses new state. Note
+         * that the state stays referenced by each thread that used the renderer until the renderer
+         * is garbage collected, which can prevent class unloading in environments such as
+         * application servers.
+         *
+         * <p>By default, new state is created for each render call, so that a renderer doesn't keep
+         * state referenced from threads that used it.
+         *
+         * @param reuseRendererState true to reuse the state, false to create new state for each
+         *     call
+         * @return {@code this}
+         */
+        public Builder reuseRendererState(boolean reuseRendererState) {
+            this.reuseRendererState = reuseRendererState;
+            return this;
+        }
+
+        /**
+         * Report how long rendering each node tree took to the given listener, see {@link
+         * RendererMetrics}.
+         *
+         * <p>By default, no metrics are collected, which costs nothing.
+         *
+         * @param metrics the listener for the metrics, or {@code null} for none
+         * @return {@code this}
+         */
+        public Builder metrics(RendererMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Add a factory for an attribute provider for adding/changing HTML attributes to the
          * rendered tags.
@@ -230,23 +469,66 @@ public class HtmlRenderer implements Renderer {
         void extend(Builder rendererBuilder);
     }
 
+    /**
+     * The state for rendering to one output. Node renderers and attribute providers are created
+     * with the context and write to its {@link HtmlWriter}, so they (and the dispatch of nodes to
+     * them) can't be shared between renders that happen at the same time, only reused for the next
+     * render on the same thread, see {@link Builder#reuseRendererState}.
+     */
     private class RendererContext implements HtmlNodeRendererContext, AttributeProviderContext {
 
         private final HtmlWriter htmlWriter;
-        private final List<AttributeProvider> attributeProviders;
-        private final NodeRendererMap nodeRendererMap = new NodeRendererMap();
+        private final AttributeProvider[] attributeProviders;
+        private final NodeRenderer[] nodeRenderers;
+        // The attribute providers that apply to a node class, see getAttributeProviders
+        private final Map<Class<? extends Node>, AttributeProvider[]> attributeProvidersByType =
+                new HashMap<>();
+        private ChunkedOutput chunkedOutput;
+        private NodeRendererMap nodeRendererMap;
+
+        private RendererContext(Appendable output, ChunkedOutput chunkedOutput) {
+            this.htmlWriter = new HtmlWriter(output);
+            this.chunkedOutput = chunkedOutput;
+            this.attributeProviders = new AttributeProvider[attributeProviderFactories.size()];
+            this.nodeRenderers = new NodeRenderer[nodeRendererFactories.size()];
+            createState(true);
+        }
+
+        /** Prepare for rendering another document to the output. */
+        private void reset(Appendable output, ChunkedOutput chunkedOutput) {
+            htmlWriter.reset(output);
+            this.chunkedOutput = chunkedOutput;
+            if (!stateless) {
+                createState(false);
+            }
+        }
 
-        private RendererContext(HtmlWriter htmlWriter) {
-            this.htmlWriter = htmlWriter;
+        /** Drop references to the output of the last document. */
+        private void release() {
+            htmlWriter.reset(null);
+            this.chunkedOutput = null;
+        }
 
-            attributeProviders = new ArrayList<>(attributeProviderFactories.size());
-            for (var attributeProviderFactory : attributeProviderFactories) {
-                attributeProviders.add(attributeProviderFactory.create(this));
+        /**
+         * Create the attribute providers and node renderers, either all of them or only the
+         * stateful ones (and then the dispatch to them).
+         */
+        private void createState(boolean all) {
+            for (int i = 0; i < attributeProviders.length; i++) {
+                var factory = attributeProviderFactories.get(i);
+                if (all || !factory.isStateless()) {
+                    attributeProviders[i] = factory.create(this);
+                }
             }
+            attributeProvidersByType.clear();
 
-            for (var factory : nodeRendererFactories) {
-                var renderer = factory.create(this);
-                nodeRendererMap.add(renderer);
+            nodeRendererMap = new NodeRendererMap();
+            for (int i = 0; i < nodeRenderers.length; i++) {
+                var factory = nodeRendererFactories.get(i);
+                if (all || !factory.isStateless()) {
+                    nodeRenderers[i] = factory.create(this);
+                }
+                nodeRendererMap.add(nodeRenderers[i]);
             }
         }
 
@@ -282,8 +564,17 @@ public class HtmlRenderer implements Renderer {
         @Override
         public Map<String, String> extendAttributes(
                 Node node, String tagName, Map<String, String> attributes) {
+            if (attributeProviders.length == 0) {
+                return attributes;
+            }
+            AttributeProvider[] providers = getAttributeProviders(node.getClass());
+            if (providers.length == 0) {
+                return attributes;
+            }
             Map<String, String> attrs = new LinkedHashMap<>(attributes);
-            setCustomAttributes(node, tagName, attrs);
+            for (AttributeProvider attributeProvider : providers) {
+                attributeProvider.setAttributes(node, tagName, attrs);
+            }
             return attrs;
         }
 
@@ -300,6 +591,13 @@ public class HtmlRenderer implements Renderer {
         @Override
         public void render(Node node) {
             nodeRendererMap.render(node);
+            if (chunkedOutput != null && node instanceof Block) {
+                try {
+                    chunkedOutput.endOfBlock();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
 
         public void beforeRoot(Node node) {
@@ -310,10 +608,30 @@ public class HtmlRenderer implements Renderer {
             nodeRendererMap.afterRoot(node);
         }
 
-        private void setCustomAttributes(Node node, String tagName, Map<String, String> attrs) {
-            for (AttributeProvider attributeProvider : attributeProviders) {
-                attributeProvider.setAttributes(node, tagName, attrs);
+        private AttributeProvider[] getAttributeProviders(Class<? extends Node> nodeType) {
+            AttributeProvider[] providers = attributeProvidersByType.get(nodeType);
+            if (providers == null) {
+                List<AttributeProvider> list = new ArrayList<>(attributeProviders.length);
+                for (AttributeProvider attributeProvider : attributeProviders) {
+                    Set<Class<? extends Node>> nodeTypes = attributeProvider.getNodeTypes();
+                    if (nodeTypes == null || isAnyAssignableFrom(nodeTypes, nodeType)) {
+                        list.add(attributeProvider);
+                    }
+                }
+                providers = list.toArray(new AttributeProvider[0]);
+                attributeProvidersByType.put(nodeType, providers);
+            }
+            return providers;
+        }
+
+        private boolean isAnyAssignableFrom(
+                Set<Class<? extends Node>> types, Class<? extends Node> nodeType) {
+            for (Class<? extends Node> type : types) {
+                if (type.isAssignableFrom(nodeType)) {
+                    return true;
+                }
             }
+            return false;
         }
     }
 }
@@ -1,6 +1,7 @@
 package org.commonmark.renderer.html;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Objects;
 import org.commonmark.internal.util.Escaping;
@@ -9,12 +10,22 @@ public class HtmlWriter {
 
     private static final Map<String, String> NO_ATTRIBUTES = Map.of();
 
-    private final Appendable buffer;
+    private Appendable buffer;
+    // Whether text can be escaped directly into the buffer, bypassing append(String). Only if
+    // that's not overridden by a subclass.
+    private final boolean escapeDirectly;
     private char lastChar = 0;
 
     public HtmlWriter(Appendable out) {
         Objects.requireNonNull(out, "out must not be null");
         this.buffer = out;
+        this.escapeDirectly = getClass() == HtmlWriter.class;
+    }
+
+    /** Continue writing to another output, for reusing the writer for another document. */
+    void reset(Appendable out) {
+        this.buffer = out;
+        this.lastChar = 0;
     }
 
     public void raw(String s) {
@@ -22,7 +33,7 @@ public class HtmlWriter {
     }
 
     public void text(String text) {
-        append(Escaping.escapeHtml(text));
+        appendEscaped(text);
     }
 
     public void tag(String name) {
@@ -39,10 +50,10 @@ public class HtmlWriter {
         if (attrs != null && !attrs.isEmpty()) {
             for (var attr : attrs.entrySet()) {
                 append(" ");
-                append(Escaping.escapeHtml(attr.getKey()));
+                appendEscaped(attr.getKey());
                 if (attr.getValue() != null) {
                     append("=\"");
-                    append(Escaping.escapeHtml(attr.getValue()));
+                    appendEscaped(attr.getValue());
                     append("\"");
                 }
             }
@@ -64,11 +75,46 @@ public class HtmlWriter {
         try {
             buffer.append(s);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
         int length = s.length();
         if (length != 0) {
             lastChar = s.charAt(length - 1);
         }
     }
+
+    private void appendEscaped(String s) {
+        if (!escapeDirectly) {
+            append(Escaping.escapeHtml(s));
+            return;
+        }
+
+        // Append the runs between characters that need escaping directly instead of building an
+        // escaped string first
+        try {
+            int start = 0;
+            int length = s.length();
+            for (int i = 0; i < length; i++) {
+                String replacement = Escaping.htmlReplacement(s.charAt(i));
+                if (replacement != null) {
+                    buffer.append(s, start, i);
+                    buffer.append(replacement);
+                    start = i + 1;
+                }
+            }
+            if (start == 0) {
+                // Nothing to escape, appending the whole string is a bulk copy
+                buffer.append(s);
+            } else {
+                buffer.append(s, start, length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int length = s.length();
+        if (length != 0) {
+            char last = s.charAt(length - 1);
+            lastChar = Escaping.htmlReplacement(last) != null ? ';' : last;
+        }
+    }
 }
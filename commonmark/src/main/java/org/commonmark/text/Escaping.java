@@ -0,0 +1,274 @@
+package org.commonmark.text;
+
+import org.commonmark.internal.util.Html5Entities;
+
+/**
+ * Functions for escaping and unescaping text for HTML and URLs, as done by the parser and the HTML
+ * renderer. They scan the input once using lookup tables, and return the input itself if nothing
+ * needs to be changed.
+ */
+public class Escaping {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // ASCII punctuation that can be backslash-escaped
+    private static final AsciiMatcher ESCAPABLE =
+            AsciiMatcher.builder().anyOf("!\"#$%&'()*+,./:;<=>?@[\\]^_`{|}~-").build();
+
+    // From RFC 3986 (see "reserved", "unreserved"), characters that don't need to be
+    // percent-encoded in a URL
+    private static final AsciiMatcher URL_SAFE =
+            AsciiMatcher.builder()
+                    .anyOf(":/?#@!$&'()*+,;=-._~")
+                    .range('a', 'z')
+                    .range('A', 'Z')
+                    .range('0', '9')
+                    .build();
+
+    /**
+     * Escape the characters that have a special meaning in HTML ({@code &}, {@code <}, {@code >}
+     * and {@code "}) using entities.
+     *
+     * @param s the text to escape
+     * @return the escaped text
+     */
+    public static String escapeHtml(String s) {
+        StringBuilder sb = null;
+        int start = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            String replacement = htmlReplacement(s.charAt(i));
+            if (replacement != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(length + 16);
+                }
+                sb.append(s, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        if (sb == null) {
+            return s;
+        }
+        return sb.append(s, start, length).toString();
+    }
+
+    /**
+     * Replace backslash escapes and entities (e.g. {@code &amp;} or {@code &#123;}) with the
+     * characters they stand for, as is done for link destinations and titles.
+     *
+     * @param s the text to unescape
+     * @return the unescaped text
+     */
+    public static String unescapeString(String s) {
+        StringBuilder sb = null;
+        int start = 0;
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            int end;
+            if (c == '\\') {
+                end = i + 1 < length && ESCAPABLE.matches(s.charAt(i + 1)) ? i + 2 : -1;
+            } else if (c == '&') {
+                end = entityEnd(s, i);
+            } else {
+                i++;
+                continue;
+            }
+
+            if (end == -1) {
+                i++;
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length);
+            }
+            sb.append(s, start, i);
+            if (c == '\\') {
+                sb.append(s.charAt(i + 1));
+            } else {
+                appendEntity(s, i, end, sb);
+            }
+            start = end;
+            i = end;
+        }
+        if (sb == null) {
+            return s;
+        }
+        return sb.append(s, start, length).toString();
+    }
+
+    /**
+     * Percent-encode the characters of a URL that are not allowed in it, as UTF-8. Existing
+     * percent-encoded characters (e.g. {@code %20}) are kept.
+     *
+     * @param s the URL to encode
+     * @return the encoded URL
+     */
+    public static String percentEncodeUrl(String s) {
+        StringBuilder sb = null;
+        int start = 0;
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (URL_SAFE.matches(c)
+                    || (c == '%'
+                            && i + 2 < length
+                            && isHexDigit(s.charAt(i + 1))
+                            && isHexDigit(s.charAt(i + 2)))) {
+                i += c == '%' ? 3 : 1;
+                continue;
+            }
+
+            if (sb == null) {
+                sb = new StringBuilder(length + 16);
+            }
+            sb.append(s, start, i);
+            if (c == '%') {
+                // Not followed by two hex digits, so it's not percent-encoded already
+                sb.append("%25");
+                i++;
+            } else if (c < 0x80) {
+                appendPercentEncoded(c, sb);
+                i++;
+            } else if (c < 0x800) {
+                appendPercentEncoded(0xC0 | (c >> 6), sb);
+                appendPercentEncoded(0x80 | (c & 0x3F), sb);
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c)
+                        && i + 1 < length
+                        && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+                    appendPercentEncoded(0xF0 | (codePoint >> 18), sb);
+                    appendPercentEncoded(0x80 | ((codePoint >> 12) & 0x3F), sb);
+                    appendPercentEncoded(0x80 | ((codePoint >> 6) & 0x3F), sb);
+                    appendPercentEncoded(0x80 | (codePoint & 0x3F), sb);
+                    i += 2;
+                } else {
+                    // Unpaired surrogate, same as String#getBytes
+                    appendPercentEncoded('?', sb);
+                    i++;
+                }
+            } else {
+                appendPercentEncoded(0xE0 | (c >> 12), sb);
+                appendPercentEncoded(0x80 | ((c >> 6) & 0x3F), sb);
+                appendPercentEncoded(0x80 | (c & 0x3F), sb);
+                i++;
+            }
+            start = i;
+        }
+        if (sb == null) {
+            return s;
+        }
+        return sb.append(s, start, length).toString();
+    }
+
+    /**
+     * @return the entity for the character in HTML, or null if it doesn't need to be escaped
+     */
+    public static String htmlReplacement(char c) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return "&quot;";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Find the end of an entity that starts at {@code start} (with {@code &}), or -1 if there's no
+     * entity there.
+     */
+    private static int entityEnd(String s, int start) {
+        int length = s.length();
+        int i = start + 1;
+        if (i >= length) {
+            return -1;
+        }
+        char c = s.charAt(i);
+        if (c == '#') {
+            i++;
+            boolean hex = i < length && (s.charAt(i) == 'x' || s.charAt(i) == 'X');
+            if (hex) {
+                i++;
+            }
+            int digitsStart = i;
+            int max = hex ? 6 : 7;
+            while (i < length
+                    && i - digitsStart < max
+                    && (hex ? isHexDigit(s.charAt(i)) : isDigit(s.charAt(i)))) {
+                i++;
+            }
+            if (i == digitsStart) {
+                return -1;
+            }
+        } else if (isLetter(c)) {
+            // A letter followed by 1 to 31 letters or digits
+            int nameStart = i;
+            i++;
+            while (i < length
+                    && i - nameStart < 32
+                    && (isLetter(s.charAt(i)) || isDigit(s.charAt(i)))) {
+                i++;
+            }
+            if (i - nameStart < 2) {
+                return -1;
+            }
+        } else {
+            return -1;
+        }
+        return i < length && s.charAt(i) == ';' ? i + 1 : -1;
+    }
+
+    private static void appendEntity(String s, int start, int end, StringBuilder sb) {
+        if (s.charAt(start + 1) != '#') {
+            String value = Html5Entities.named(s, start + 1, end - 1);
+            if (value != null) {
+                sb.append(value);
+            } else {
+                sb.append(s, start, end);
+            }
+            return;
+        }
+
+        int i = start + 2;
+        int radix = 10;
+        if (s.charAt(i) == 'x' || s.charAt(i) == 'X') {
+            radix = 16;
+            i++;
+        }
+        int codePoint = 0;
+        for (; i < end - 1; i++) {
+            codePoint = codePoint * radix + Character.digit(s.charAt(i), radix);
+        }
+        if (codePoint == 0 || !Character.isValidCodePoint(codePoint)) {
+            sb.append('\uFFFD');
+        } else {
+            sb.appendCodePoint(codePoint);
+        }
+    }
+
+    private static void appendPercentEncoded(int b, StringBuilder sb) {
+        sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
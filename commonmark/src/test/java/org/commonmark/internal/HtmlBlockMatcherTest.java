@@ -0,0 +1,134 @@
+package org.commonmark.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.Example;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.jupiter.api.Test;
+
+class HtmlBlockMatcherTest {
+
+    // The regular expressions that HtmlBlockParser used before, to compare against
+    private static final String TAGNAME = "[A-Za-z][A-Za-z0-9-]*";
+    private static final String ATTRIBUTENAME = "[a-zA-Z_:][a-zA-Z0-9:._-]*";
+    private static final String UNQUOTEDVALUE = "[^\"'=<>`\\x00-\\x20]+";
+    private static final String SINGLEQUOTEDVALUE = "'[^']*'";
+    private static final String DOUBLEQUOTEDVALUE = "\"[^\"]*\"";
+    private static final String ATTRIBUTEVALUE =
+            "(?:" + UNQUOTEDVALUE + "|" + SINGLEQUOTEDVALUE + "|" + DOUBLEQUOTEDVALUE + ")";
+    private static final String ATTRIBUTEVALUESPEC =
+            "(?:" + "\\s*=" + "\\s*" + ATTRIBUTEVALUE + ")";
+    private static final String ATTRIBUTE =
+            "(?:" + "\\s+" + ATTRIBUTENAME + ATTRIBUTEVALUESPEC + "?)";
+
+    private static final String OPENTAG = "<" + TAGNAME + ATTRIBUTE + "*+" + "\\s*/?>";
+    private static final String CLOSETAG = "</" + TAGNAME + "\\s*[>]";
+
+    private static final Pattern[][] BLOCK_PATTERNS =
+            new Pattern[][] {
+                {null, null}, // not used (no type 0)
+                {
+                    Pattern.compile(
+                            "^<(?:script|pre|style|textarea)(?:\\s|>|$)", Pattern.CASE_INSENSITIVE),
+                    Pattern.compile("</(?:script|pre|style|textarea)>", Pattern.CASE_INSENSITIVE)
+                },
+                {Pattern.compile("^<!--"), Pattern.compile("-->")},
+                {Pattern.compile("^<[?]"), Pattern.compile("\\?>")},
+                {Pattern.compile("^<![A-Z]"), Pattern.compile(">")},
+                {Pattern.compile("^<!\\[CDATA\\["), Pattern.compile("\\]\\]>")},
+                {
+                    Pattern.compile(
+                            "^</?(?:"
+                                    + "address|article|aside|"
+                                    + "base|basefont|blockquote|body|"
+                                    + "caption|center|col|colgroup|"
+                                    + "dd|details|dialog|dir|div|dl|dt|"
+                                    + "fieldset|figcaption|figure|footer|form|frame|frameset|"
+                                    + "h1|h2|h3|h4|h5|h6|head|header|hr|html|"
+                                    + "iframe|"
+                                    + "legend|li|link|"
+                                    + "main|menu|menuitem|"
+                                    + "nav|noframes|"
+                                    + "ol|optgroup|option|"
+                                    + "p|param|"
+                                    + "search|section|summary|"
+                                    + "table|tbody|td|tfoot|th|thead|title|tr|track|"
+                                    + "ul"
+                                    + ")(?:\\s|[/]?[>]|$)",
+                            Pattern.CASE_INSENSITIVE),
+                    null
+                },
+                {
+                    Pattern.compile(
+                            "^(?:" + OPENTAG + '|' + CLOSETAG + ")\\s*$", Pattern.CASE_INSENSITIVE),
+                    null
+                }
+            };
+
+    @Test
+    void sameAsRegexForSpec() {
+        List<String> lines = new ArrayList<>();
+        lines.addAll(TestResources.readAsString(TestResources.getSpec()).lines().toList());
+        for (Example example : ExampleReader.readExamples(TestResources.getSpec())) {
+            lines.addAll(example.getSource().lines().toList());
+        }
+        for (String line : lines) {
+            assertSameAsRegex(line);
+        }
+    }
+
+    @Test
+    void sameAsRegexForRandomInput() {
+        // Separated by commas, which aren't interesting for the matching
+        String[] parts =
+                ("<,</,>,/>,/, ,\t,\u000B,\r,\n,\u2028,\u0085,=,',\",`,a,B,-,_,:,.,1,!,?,[,],--,"
+                                + "<!--,-->,?>,]]>,<![CDATA[,DOCTYPE,div,DIV,colgroup,col,h1,p,pre,"
+                                + "Script,style,textarea,x=y,x='y',x=\"y\",\u00e9,\u212a")
+                        .split(",");
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(random.nextBoolean() ? "<" : "</");
+            int count = random.nextInt(8);
+            for (int j = 0; j < count; j++) {
+                sb.append(parts[random.nextInt(parts.length)]);
+            }
+            assertSameAsRegex(sb.toString());
+        }
+    }
+
+    @Test
+    void tagNames() {
+        assertThat(HtmlBlockMatcher.matchesStart(6, "<DiV>", 0)).isTrue();
+        assertThat(HtmlBlockMatcher.matchesStart(6, "</colgroup>", 0)).isTrue();
+        assertThat(HtmlBlockMatcher.matchesStart(6, "<colgroupx>", 0)).isFalse();
+        assertThat(HtmlBlockMatcher.matchesStart(6, "<divx>", 0)).isFalse();
+        assertThat(HtmlBlockMatcher.matchesStart(6, "<\u212Aa>", 0)).isFalse();
+        assertThat(HtmlBlockMatcher.matchesStart(1, "<PRE", 0)).isTrue();
+        assertThat(HtmlBlockMatcher.matchesEnd(1, "foo</Script>")).isTrue();
+        assertThat(HtmlBlockMatcher.matchesEnd(1, "foo</Script >")).isFalse();
+    }
+
+    private static void assertSameAsRegex(String line) {
+        for (int start = line.indexOf('<'); start != -1; start = line.indexOf('<', start + 1)) {
+            CharSequence rest = line.subSequence(start, line.length());
+            for (int blockType = 1; blockType <= 7; blockType++) {
+                boolean expected = BLOCK_PATTERNS[blockType][0].matcher(rest).find();
+                assertThat(HtmlBlockMatcher.matchesStart(blockType, line, start))
+                        .as("type %d start at %d of \"%s\"", blockType, start, line)
+                        .isEqualTo(expected);
+            }
+        }
+        for (int blockType = 1; blockType <= 5; blockType++) {
+            boolean expected = BLOCK_PATTERNS[blockType][1].matcher(line).find();
+            assertThat(HtmlBlockMatcher.matchesEnd(blockType, line))
+                    .as("type %d end of \"%s\"", blockType, line)
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.commonmark.internal.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChunkedOutputTest {
+
+    @Test
+    void testSurrogatePairWithOneCharLeft() throws IOException {
+        var chunks = new ArrayList<String>();
+        var output = new ChunkedOutput(1, chunk -> chunks.add(chunk.toString()));
+
+        output.append("a");
+        output.append("😀");
+        output.finish();
+
+        assertThat(chunks).containsExactly("a", "😀");
+    }
+
+    @Test
+    void testSurrogatePairs() throws IOException {
+        for (int chunkSize = 1; chunkSize < 6; chunkSize++) {
+            for (int prefix = 0; prefix < 6; prefix++) {
+                var chunks = new ArrayList<String>();
+                var output = new ChunkedOutput(chunkSize, chunk -> chunks.add(chunk.toString()));
+
+                var text = "a".repeat(prefix) + "😀𝄞😀".repeat(3);
+                output.append(text);
+                output.finish();
+
+                assertThat(String.join("", chunks)).isEqualTo(text);
+                assertNoSplitPairs(chunks);
+            }
+        }
+    }
+
+    private static void assertNoSplitPairs(List<String> chunks) {
+        for (var chunk : chunks) {
+            assertThat(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))).isFalse();
+            assertThat(Character.isLowSurrogate(chunk.charAt(0))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.commonmark.internal.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.commonmark.node.*;
+import org.commonmark.renderer.NodeRenderer;
+import org.junit.jupiter.api.Test;
+
+class NodeRendererMapTest {
+
+    @Test
+    void testFirstRendererWins() {
+        var rendered = new ArrayList<String>();
+        var map = new NodeRendererMap();
+        map.add(new RecordingRenderer("first", rendered, Paragraph.class, MyCustomNode.class));
+        map.add(new RecordingRenderer("second", rendered, Paragraph.class, Text.class));
+        map.add(new RecordingRenderer("third", rendered, MyCustomNode.class));
+
+        map.render(new Paragraph());
+        map.render(new Text("foo"));
+        map.render(new MyCustomNode());
+
+        assertThat(rendered)
+                .containsExactly("first Paragraph", "second Text", "first MyCustomNode");
+    }
+
+    @Test
+    void testNodeWithoutRenderer() {
+        var rendered = new ArrayList<String>();
+        var map = new NodeRendererMap();
+        map.add(new RecordingRenderer("renderer", rendered, Paragraph.class));
+
+        map.render(new Heading());
+        map.render(new MyCustomNode());
+        // The renderer is for exactly the node type, not subclasses
+        map.render(new MyParagraph());
+
+        assertThat(rendered).isEmpty();
+    }
+
+    @Test
+    void testSubclassOfCoreNodeType() {
+        var rendered = new ArrayList<String>();
+        var map = new NodeRendererMap();
+        map.add(new RecordingRenderer("core", rendered, Paragraph.class));
+        map.add(new RecordingRenderer("custom", rendered, MyParagraph.class));
+
+        map.render(new Paragraph());
+        map.render(new MyParagraph());
+
+        assertThat(rendered).containsExactly("core Paragraph", "custom MyParagraph");
+    }
+
+    @Test
+    void testManyCustomNodeTypes() {
+        var rendered = new ArrayList<String>();
+        var map = new NodeRendererMap();
+        for (int i = 0; i < 20; i++) {
+            map.add(new RecordingRenderer("other", rendered, new MyCustomNode() {}.getClass()));
+        }
+        map.add(new RecordingRenderer("renderer", rendered, MyCustomNode.class));
+
+        map.render(new MyCustomNode());
+
+        assertThat(rendered).containsExactly("renderer MyCustomNode");
+    }
+
+    @Test
+    void testEachCoreNodeType() throws Exception {
+        // Each visit method of the dispatcher must use the ID of its node type
+        for (Method method : Visitor.class.getMethods()) {
+            var nodeType = method.getParameterTypes()[0].asSubclass(Node.class);
+            if (nodeType == CustomBlock.class || nodeType == CustomNode.class) {
+                continue;
+            }
+            var rendered = new ArrayList<String>();
+            var map = new NodeRendererMap();
+            map.add(new RecordingRenderer("renderer", rendered, nodeType));
+
+            map.render(nodeType.getDeclaredConstructor().newInstance());
+
+            assertThat(rendered).containsExactly("renderer " + nodeType.getSimpleName());
+        }
+    }
+
+    @Test
+    void testNodeWithoutAccept() {
+        var rendered = new ArrayList<String>();
+        var map = new NodeRendererMap();
+        map.add(new RecordingRenderer("renderer", rendered, MyNodeWithoutAccept.class));
+        map.add(new RecordingRenderer("other", rendered, Paragraph.class));
+
+        map.render(new MyNodeWithoutAccept());
+        map.render(new Paragraph());
+
+        assertThat(rendered).containsExactly("renderer MyNodeWithoutAccept", "other Paragraph");
+    }
+
+    private static class MyCustomNode extends CustomNode {}
+
+    private static class MyNodeWithoutAccept extends Node {
+        @Override
+        public void accept(Visitor visitor) {}
+    }
+
+    private static class MyParagraph extends Paragraph {}
+
+    private static class RecordingRenderer implements NodeRenderer {
+
+        private final String name;
+        private final List<String> rendered;
+        private final Set<Class<? extends Node>> nodeTypes;
+
+        @SafeVarargs
+        RecordingRenderer(String name, List<String> rendered, Class<? extends Node>... nodeTypes) {
+            this.name = name;
+            this.rendered = rendered;
+            this.nodeTypes = Set.of(nodeTypes);
+        }
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return nodeTypes;
+        }
+
+        @Override
+        public void render(Node node) {
+            rendered.add(name + " " + node.getClass().getSimpleName());
+        }
+    }
+}
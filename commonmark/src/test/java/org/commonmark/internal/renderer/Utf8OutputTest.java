@@ -0,0 +1,77 @@
+package org.commonmark.internal.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class Utf8OutputTest {
+
+    @Test
+    void testEncoding() throws IOException {
+        assertEncoded("");
+        assertEncoded("foo");
+        assertEncoded("é ü ß");
+        assertEncoded("€ 中文");
+        assertEncoded("😀 𝄞");
+        assertEncoded("\u007F\u0080߿ࠀ￿");
+    }
+
+    @Test
+    void testUnpairedSurrogates() throws IOException {
+        assertEncoded("a\uD83Db");
+        assertEncoded("a\uDE00b");
+        assertEncoded("\uDE00\uD83D");
+        assertEncoded("\uD83D😀");
+        assertEncoded("end\uD83D");
+    }
+
+    @Test
+    void testBufferBoundaries() throws IOException {
+        for (int i = 8180; i < 8200; i++) {
+            assertEncoded("a".repeat(i) + "é😀€" + "b".repeat(i));
+        }
+        assertEncoded("😀".repeat(10_000));
+    }
+
+    @Test
+    void testSurrogatePairAcrossAppends() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var utf8Output = Utf8Output.of(out);
+        utf8Output.append("a\uD83D");
+        utf8Output.append('\uDE00');
+        utf8Output.append("b\uD83D", 1, 2);
+        utf8Output.append("\uDE00c");
+        utf8Output.flush();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("a😀😀c");
+    }
+
+    @Test
+    void testChannel() throws IOException {
+        var s = "foo é 😀 ".repeat(5000);
+        var out = new ByteArrayOutputStream();
+        var utf8Output = Utf8Output.of(Channels.newChannel(out));
+        utf8Output.append(s);
+        utf8Output.flush();
+        assertThat(out.toByteArray()).isEqualTo(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertEncoded(String s) throws IOException {
+        var out = new ByteArrayOutputStream();
+        var utf8Output = Utf8Output.of(out);
+        utf8Output.append(s);
+        utf8Output.flush();
+        assertThat(out.toByteArray()).isEqualTo(s.getBytes(StandardCharsets.UTF_8));
+
+        // Same char by char
+        out.reset();
+        for (int i = 0; i < s.length(); i++) {
+            utf8Output.append(s.charAt(i));
+        }
+        utf8Output.flush();
+        assertThat(out.toByteArray()).isEqualTo(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package org.commonmark.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequenceViewTest {
+
+    @Test
+    void view() {
+        var view = CharSequenceView.of("foo bar baz", 4, 7);
+        assertThat(view.length()).isEqualTo(3);
+        assertThat(view.charAt(0)).isEqualTo('b');
+        assertThat(view.charAt(2)).isEqualTo('r');
+        assertThat(view.toString()).isEqualTo("bar");
+        assertThatThrownBy(() -> view.charAt(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> view.charAt(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void subSequence() {
+        var view = CharSequenceView.of("foo bar baz", 4, 11);
+        assertThat(view.subSequence(0, 3).toString()).isEqualTo("bar");
+        assertThat(view.subSequence(4, 7).toString()).isEqualTo("baz");
+        assertThat(view.subSequence(7, 7).toString()).isEmpty();
+        assertThat(view.subSequence(4, 7).subSequence(1, 2).toString()).isEqualTo("a");
+        assertThat(CharSequenceView.of(view, 4, 6).toString()).isEqualTo("ba");
+        assertThatThrownBy(() -> view.subSequence(4, 8))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        var view = CharSequenceView.of("foo bar", 4, 7);
+        assertThat(view).isEqualTo(CharSequenceView.of("bar", 0, 3));
+        assertThat(view).isNotEqualTo(CharSequenceView.of("bar", 0, 2));
+        // Symmetric with String#equals
+        assertThat(view).isNotEqualTo("bar");
+        assertThat(CharSequence.compare(view, "bar")).isZero();
+        assertThat(view).isNotEqualTo(new StringBuilder("bar"));
+        assertThat(view.hashCode()).isEqualTo("bar".hashCode());
+    }
+
+    @Test
+    void appendTo() {
+        var sb = new StringBuilder("a");
+        CharSequenceView.appendTo(sb, CharSequenceView.of("foo bar", 4, 7));
+        CharSequenceView.appendTo(sb, "c");
+        assertThat(sb.toString()).isEqualTo("abarc");
+    }
+}
@@ -0,0 +1,45 @@
+package org.commonmark.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class Html5EntitiesTest {
+
+    @Test
+    void allEntities() throws IOException {
+        var entities = Html5EntityDataGenerator.readEntities();
+        for (var entry : entities.entrySet()) {
+            String entity = "&" + entry.getKey() + ";";
+            assertThat(Html5Entities.entityToString(entity)).as(entity).isEqualTo(entry.getValue());
+            String s = "x" + entry.getKey() + "x";
+            assertThat(Html5Entities.named(s, 1, s.length() - 1)).isEqualTo(entry.getValue());
+        }
+        // If this fails, run Html5EntityDataGenerator to update the data
+        assertThat(Html5EntityData.NAMES.chars().filter(c -> c == ';').count())
+                .isEqualTo(entities.size());
+    }
+
+    @Test
+    void unknownNamed() {
+        assertThat(Html5Entities.entityToString("&foo;")).isEqualTo("&foo;");
+        assertThat(Html5Entities.entityToString("&ampx;")).isEqualTo("&ampx;");
+        assertThat(Html5Entities.entityToString("&am;")).isEqualTo("&am;");
+        assertThat(Html5Entities.entityToString("&Amp;")).isEqualTo("&Amp;");
+        assertThat(Html5Entities.named("", 0, 0)).isNull();
+        assertThat(Html5Entities.named("zzzzzz", 0, 6)).isNull();
+    }
+
+    @Test
+    void numeric() {
+        assertThat(Html5Entities.entityToString("&#35;")).isEqualTo("#");
+        assertThat(Html5Entities.entityToString("&#x22;")).isEqualTo("\"");
+        assertThat(Html5Entities.entityToString("&#X1F600;")).isEqualTo("😀");
+        assertThat(Html5Entities.entityToString("&#0;")).isEqualTo("�");
+        assertThat(Html5Entities.entityToString("&#x110000;")).isEqualTo("�");
+        assertThat(Html5Entities.entityToString("&#99999999999;")).isEqualTo("�");
+        assertThat(Html5Entities.entityToString("&#;")).isEqualTo("�");
+        assertThat(Html5Entities.entityToString("&#x;")).isEqualTo("�");
+    }
+}
@@ -0,0 +1,111 @@
+package org.commonmark.internal.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates {@code Html5EntityData.java} from {@code entities.txt}. Run it from the module
+ * directory when the entities change; {@code Html5EntitiesTest} checks that the data is up to date.
+ */
+public class Html5EntityDataGenerator {
+
+    static final String ENTITY_PATH = "/org/commonmark/internal/util/entities.txt";
+
+    private static final Path OUTPUT =
+            Paths.get("src/main/java/org/commonmark/internal/util/Html5EntityData.java");
+
+    private static final int LINE_LENGTH = 72;
+
+    public static void main(String[] args) throws IOException {
+        Files.writeString(OUTPUT, generate(readEntities()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the entities from {@code entities.txt}, sorted by name
+     */
+    static Map<String, String> readEntities() throws IOException {
+        Map<String, String> entities = new TreeMap<>();
+        var stream = Html5EntityDataGenerator.class.getResourceAsStream(ENTITY_PATH);
+        try (var reader =
+                new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int equal = line.indexOf("=");
+                entities.put(line.substring(0, equal), line.substring(equal + 1));
+            }
+        }
+        // The value is a line break, so it's not in the file
+        entities.put("NewLine", "\n");
+        return entities;
+    }
+
+    private static String generate(Map<String, String> entities) {
+        var names = new StringBuilder();
+        var values = new StringBuilder();
+        for (var entry : entities.entrySet()) {
+            names.append(entry.getKey()).append(';');
+            values.append(entry.getValue()).append('\0');
+        }
+
+        var sb = new StringBuilder();
+        sb.append("package org.commonmark.internal.util;\n\n");
+        sb.append("// Generated from entities.txt by Html5EntityDataGenerator, do not edit.\n");
+        sb.append("class Html5EntityData {\n\n");
+        sb.append("    /** The names of the entities, sorted, each followed by {@code ;}. */\n");
+        appendConstant("NAMES", names, sb);
+        sb.append("\n");
+        sb.append(
+                "    /** The values of the entities in the same order, each followed by NUL. */\n");
+        appendConstant("VALUES", values, sb);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void appendConstant(String name, CharSequence value, StringBuilder sb) {
+        sb.append("    static final String ").append(name).append(" =\n");
+        var line = new StringBuilder();
+        String prefix = "            ";
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\0':
+                    line.append("\\u0000");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                default:
+                    if (c >= 0x20 && c < 0x7F) {
+                        line.append(c);
+                    } else {
+                        line.append(String.format("\\u%04X", (int) c));
+                    }
+            }
+            if (line.length() >= LINE_LENGTH || i == value.length() - 1) {
+                sb.append(prefix).append('"').append(line).append('"');
+                sb.append(i == value.length() - 1 ? ";\n" : "\n");
+                prefix = "                    + ";
+                line.setLength(0);
+            }
+        }
+    }
+}
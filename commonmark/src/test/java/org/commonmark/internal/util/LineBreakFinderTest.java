@@ -0,0 +1,68 @@
+package org.commonmark.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+import org.commonmark.text.Characters;
+import org.junit.jupiter.api.Test;
+
+class LineBreakFinderTest {
+
+    @Test
+    void findLineBreaks() {
+        assertLineBreaks("");
+        assertLineBreaks("foo");
+        assertLineBreaks("\n");
+        assertLineBreaks("\r\n");
+        assertLineBreaks("foo\nbar\r\nbaz\rqux");
+        assertLineBreaks("a\rb\rc\nd\ne\r\n\r\n");
+        assertLineBreaks("0123456\n0123456789abcdef\r");
+    }
+
+    @Test
+    void findLineBreaksRandom() {
+        var random = new Random(42);
+        var chars = new char[] {'a', 'b', ' ', '\n', '\r'};
+        for (int i = 0; i < 1000; i++) {
+            var sb = new StringBuilder();
+            int length = random.nextInt(100);
+            // Mostly long lines, to cover checking 8 bytes at a time
+            int breakChance = 1 + random.nextInt(30);
+            for (int j = 0; j < length; j++) {
+                sb.append(
+                        random.nextInt(breakChance) == 0
+                                ? chars[3 + random.nextInt(2)]
+                                : chars[random.nextInt(3)]);
+            }
+            assertLineBreaks(sb.toString());
+        }
+    }
+
+    private static void assertLineBreaks(String s) {
+        var expected = lineBreaks(s, start -> Characters.findLineBreak(s, start));
+
+        assertThat(lineBreaks(s, new LineBreakFinder(s)::find)).isEqualTo(expected);
+
+        var bytes = ("prefix" + s + "\nsuffix").getBytes(StandardCharsets.US_ASCII);
+        var ascii = new AsciiByteSequence(bytes, 6, s.length());
+        assertThat(lineBreaks(ascii, new LineBreakFinder(ascii)::find)).isEqualTo(expected);
+
+        var sb = new StringBuilder(s);
+        assertThat(lineBreaks(sb, new LineBreakFinder(sb)::find)).isEqualTo(expected);
+    }
+
+    private static List<Integer> lineBreaks(CharSequence s, IntUnaryOperator finder) {
+        var result = new ArrayList<Integer>();
+        int start = 0;
+        int lineBreak;
+        while (start < s.length() && (lineBreak = finder.applyAsInt(start)) != -1) {
+            result.add(lineBreak);
+            start = lineBreak + 1;
+        }
+        return result;
+    }
+}
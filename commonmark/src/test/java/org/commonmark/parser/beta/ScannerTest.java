@@ -157,4 +157,31 @@ class ScannerTest {
         assertThat(scanner.next("ya")).isTrue();
         assertThat(scanner.next(" ")).isFalse();
     }
+
+    @Test
+    void find() {
+        Scanner scanner =
+                Scanner.of(
+                        SourceLines.of(
+                                List.of(
+                                        SourceLine.of("foo", null),
+                                        SourceLine.of("", null),
+                                        SourceLine.of("bar baz", null))));
+        assertThat(scanner.find('o')).isEqualTo(1);
+        assertThat(scanner.position()).isEqualTo(new Position(0, 1));
+        assertThat(scanner.find('\n')).isEqualTo(2);
+        assertThat(scanner.find('z')).isEqualTo(8);
+        assertThat(scanner.position()).isEqualTo(new Position(2, 6));
+        assertThat(scanner.find('x')).isEqualTo(-1);
+        assertThat(scanner.peek()).isEqualTo(Scanner.END);
+
+        scanner.setPosition(new Position(0, 3));
+        assertThat(scanner.find(c -> c == 'a' || c == '\n')).isEqualTo(0);
+        scanner.next();
+        assertThat(scanner.find(c -> c == 'a' || c == '\n')).isEqualTo(0);
+        scanner.next();
+        assertThat(scanner.find(c -> c == 'a')).isEqualTo(1);
+        assertThat(scanner.position()).isEqualTo(new Position(2, 1));
+        assertThat(scanner.find(c -> c == 'x')).isEqualTo(-1);
+    }
 }
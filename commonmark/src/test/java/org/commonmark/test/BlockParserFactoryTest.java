@@ -77,7 +77,7 @@ public class BlockParserFactoryTest {
 
             @Override
             public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
-                if (state.getLine().getContent().equals("---")) {
+                if ("---".contentEquals(state.getLine().getContent())) {
                     return BlockStart.of(new DashBlockParser());
                 }
                 return BlockStart.none();
@@ -0,0 +1,107 @@
+package org.commonmark.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.commonmark.CachingMarkdownProcessor;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.markdown.MarkdownRenderer;
+import org.junit.jupiter.api.Test;
+
+public class CachingMarkdownProcessorTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void parserAndRendererRequired() {
+        assertThatThrownBy(() -> CachingMarkdownProcessor.builder().renderer(RENDERER).build())
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CachingMarkdownProcessor.builder().parser(PARSER).build())
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CachingMarkdownProcessor.builder().maximumWeight(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        var processor = processor(1000);
+
+        var html = processor.process("*foo*");
+        assertThat(html).isEqualTo("<p><em>foo</em></p>\n");
+        assertThat(processor.process("*foo*")).isSameAs(html);
+        assertThat(processor.process("bar")).isEqualTo("<p>bar</p>\n");
+
+        var stats = processor.getStats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getWeight()).isEqualTo(5 + 20 + 3 + 11);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isEqualTo(0);
+        assertThat(stats.getHitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        // Each entry weighs 1 + 9 = 10
+        var processor = processor(20);
+
+        var a = processor.process("a");
+        processor.process("b");
+        // Use "a", so that "b" is evicted when adding "c"
+        processor.process("a");
+        processor.process("c");
+
+        assertThat(processor.getStats().getSize()).isEqualTo(2);
+        assertThat(processor.getStats().getEvictionCount()).isEqualTo(1);
+        assertThat(processor.process("a")).isSameAs(a);
+        assertThat(processor.getStats().getHitCount()).isEqualTo(2);
+        processor.process("b");
+        assertThat(processor.getStats().getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void entryHeavierThanMaximumNotCached() {
+        var processor = processor(10);
+
+        assertThat(processor.process("foo")).isEqualTo("<p>foo</p>\n");
+        assertThat(processor.process("foo")).isEqualTo("<p>foo</p>\n");
+
+        assertThat(processor.getStats().getSize()).isEqualTo(0);
+        assertThat(processor.getStats().getWeight()).isEqualTo(0);
+        assertThat(processor.getStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void clear() {
+        var processor = processor(1000);
+        processor.process("foo");
+
+        processor.clear();
+
+        assertThat(processor.getStats().getSize()).isEqualTo(0);
+        assertThat(processor.getStats().getWeight()).isEqualTo(0);
+        processor.process("foo");
+        assertThat(processor.getStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void otherRenderer() {
+        var processor =
+                CachingMarkdownProcessor.builder()
+                        .parser(PARSER)
+                        .renderer(MarkdownRenderer.builder().build())
+                        .build();
+
+        assertThat(processor.process("_foo_")).isEqualTo("_foo_\n");
+    }
+
+    private static CachingMarkdownProcessor processor(long maximumWeight) {
+        return CachingMarkdownProcessor.builder()
+                .parser(PARSER)
+                .renderer(RENDERER)
+                .maximumWeight(maximumWeight)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package org.commonmark.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import org.commonmark.node.*;
+import org.commonmark.node.CompactDocument.Kind;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.markdown.MarkdownRenderer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.Example;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.jupiter.api.Test;
+
+public class CompactDocumentTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer HTML_RENDERER = HtmlRenderer.builder().build();
+    private static final MarkdownRenderer MARKDOWN_RENDERER = MarkdownRenderer.builder().build();
+
+    @Test
+    public void roundTripSpec() {
+        var document = PARSER.parse(TestResources.readAsString(TestResources.getSpec()));
+
+        var compact = CompactDocument.of(document);
+
+        assertThat(HTML_RENDERER.render(compact.toDocument()))
+                .isEqualTo(HTML_RENDERER.render(document));
+        assertThat(MARKDOWN_RENDERER.render(compact.toDocument()))
+                .isEqualTo(MARKDOWN_RENDERER.render(document));
+    }
+
+    @Test
+    public void roundTripExamples() {
+        for (Example example : ExampleReader.readExamples(TestResources.getSpec())) {
+            var document = PARSER.parse(example.getSource());
+            var copy = CompactDocument.of(document).toDocument();
+            assertThat(MARKDOWN_RENDERER.render(copy))
+                    .as(example.toString())
+                    .isEqualTo(MARKDOWN_RENDERER.render(document));
+            assertThat(dump(copy)).as(example.toString()).isEqualTo(dump(document));
+        }
+    }
+
+    @Test
+    public void cursor() {
+        var compact =
+                CompactDocument.of(
+                        PARSER.parse("# Hi\n\n- [a](/url \"title\") `b`\n\n```java\ncode\n```\n"));
+
+        var kinds = new ArrayList<String>();
+        var cursor = compact.cursor();
+        do {
+            var literal = cursor.getLiteral();
+            kinds.add(cursor.getKind() + (literal != null ? " " + literal : ""));
+            if (!cursor.firstChild()) {
+                while (!cursor.next() && cursor.parent()) {}
+            }
+        } while (cursor.getIndex() != 0);
+
+        assertThat(kinds)
+                .containsExactly(
+                        "DOCUMENT",
+                        "HEADING",
+                        "TEXT Hi",
+                        "BULLET_LIST",
+                        "LIST_ITEM",
+                        "PARAGRAPH",
+                        "LINK",
+                        "TEXT a",
+                        "TEXT  ",
+                        "CODE b",
+                        "FENCED_CODE_BLOCK code\n");
+        assertThat(compact.getNodeCount()).isEqualTo(kinds.size());
+
+        cursor = compact.cursor();
+        assertThat(cursor.parent()).isFalse();
+        assertThat(cursor.next()).isFalse();
+        assertThat(cursor.firstChild()).isTrue();
+        assertThat(cursor.getLevel()).isEqualTo(1);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.isTight()).isTrue();
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.getInfo()).isEqualTo("java");
+        assertThat(cursor.next()).isFalse();
+
+        cursor.parent();
+        cursor.firstChild();
+        cursor.next();
+        cursor.firstChild();
+        cursor.firstChild();
+        cursor.firstChild();
+        assertThat(cursor.getKind()).isEqualTo(Kind.LINK);
+        assertThat(cursor.getDestination()).isEqualTo("/url");
+        assertThat(cursor.getTitle()).isEqualTo("title");
+        assertThat(HTML_RENDERER.render(cursor.toNode()))
+                .isEqualTo("<a href=\"/url\" title=\"title\">a</a>");
+    }
+
+    @Test
+    public void unsupportedNode() {
+        var document = new Document();
+        document.appendChild(new CustomNode() {});
+
+        assertThatThrownBy(() -> CompactDocument.of(document))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String dump(Node document) {
+        var sb = new StringBuilder();
+        document.accept(
+                new AbstractVisitor() {
+                    @Override
+                    protected void visitChildren(Node parent) {
+                        sb.append(parent).append('\n');
+                        super.visitChildren(parent);
+                    }
+                });
+        return sb.toString();
+    }
+}
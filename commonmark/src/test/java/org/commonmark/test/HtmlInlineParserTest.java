@@ -34,7 +34,7 @@ public class HtmlInlineParserTest extends CoreRenderingTestCase {
     @Test
     public void unterminatedConstructDoesNotAffectLaterParagraph() {
         // A scan that reaches the end of the input only says something about the inline snippet it
-        // ran in, and a parser is created for each of those
+        // ran in, and the parser is reset for each of those
         assertRendering("x <?a\n\nx <?b?>", "<p>x &lt;?a</p>\n<p>x <?b?></p>\n");
         assertRendering("x <!--a\n\nx <!--b-->", "<p>x &lt;!--a</p>\n<p>x <!--b--></p>\n");
         assertRendering(
@@ -1,12 +1,20 @@
 package org.commonmark.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.commonmark.node.*;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
@@ -254,6 +262,34 @@ public class HtmlRendererTest {
         assertThat(rendered).isEqualTo("<p><img src=\"/url\" test=\"hey\" /></p>\n");
     }
 
+    @Test
+    public void attributeProviderForNodeTypes() {
+        var calledFor = new ArrayList<String>();
+        AttributeProviderFactory factory =
+                context ->
+                        new AttributeProvider() {
+                            @Override
+                            public Set<Class<? extends Node>> getNodeTypes() {
+                                return Set.of(ListBlock.class);
+                            }
+
+                            @Override
+                            public void setAttributes(
+                                    Node node, String tagName, Map<String, String> attributes) {
+                                calledFor.add(tagName);
+                                attributes.put("class", "list");
+                            }
+                        };
+
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(factory).build();
+        String rendered = renderer.render(parse("text\n\n* a\n\n2. b\n"));
+        assertThat(rendered)
+                .isEqualTo(
+                        "<p>text</p>\n<ul class=\"list\">\n<li>a</li>\n</ul>\n"
+                                + "<ol start=\"2\" class=\"list\">\n<li>b</li>\n</ol>\n");
+        assertThat(calledFor).containsExactly("ul", "ol");
+    }
+
     @Test
     public void attributeProviderFactoryNewInstanceForEachRender() {
         AttributeProviderFactory factory =
@@ -275,6 +311,178 @@ public class HtmlRendererTest {
         assertThat(secondPass).isEqualTo(rendered);
     }
 
+    @Test
+    public void metrics() {
+        var rendered = new ArrayList<Node>();
+        var renderer =
+                HtmlRenderer.builder()
+                        .metrics(
+                                (node, nanos) -> {
+                                    assertThat(nanos).isNotNegative();
+                                    rendered.add(node);
+                                })
+                        .build();
+        var first = parse("first");
+        var second = parse("second");
+        assertThat(renderer.render(first)).isEqualTo("<p>first</p>\n");
+        renderer.renderAll(List.of(first, second));
+        assertThat(rendered).containsExactly(first, first, second);
+    }
+
+    @Test
+    public void renderAll() {
+        var created = new ArrayList<String>();
+        HtmlNodeRendererFactory statefulRenderers =
+                context -> {
+                    created.add("renderer");
+                    return new NodeRenderer() {
+                        @Override
+                        public Set<Class<? extends Node>> getNodeTypes() {
+                            return Set.of(ThematicBreak.class);
+                        }
+
+                        @Override
+                        public void render(Node node) {
+                            context.getWriter().text("break");
+                        }
+                    };
+                };
+        var renderer = HtmlRenderer.builder().nodeRendererFactory(statefulRenderers).build();
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var parser = Parser.builder().build();
+        var nodes = new ArrayList<Node>();
+        for (int i = 0; i < 200; i++) {
+            nodes.add(parser.parse(i % 50 == 0 ? spec : "*" + i + "*\n\n***"));
+        }
+
+        var rendered = renderer.renderAll(nodes);
+        assertThat(rendered).hasSize(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            assertThat(rendered.get(i)).isEqualTo(renderer.render(nodes.get(i)));
+        }
+        // Stateful node renderers are still created for each node
+        assertThat(created).hasSize(nodes.size() * 2);
+
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(renderer.renderAll(nodes, executorService, 4)).isEqualTo(rendered);
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(renderer.renderAll(List.of())).isEmpty();
+    }
+
+    @Test
+    public void reuseRendererState() {
+        var created = new ArrayList<String>();
+        var statelessProviders =
+                new AttributeProviderFactory() {
+                    @Override
+                    public AttributeProvider create(AttributeProviderContext context) {
+                        created.add("stateless provider");
+                        return (node, tagName, attributes) -> attributes.put("a", "b");
+                    }
+
+                    @Override
+                    public boolean isStateless() {
+                        return true;
+                    }
+                };
+        AttributeProviderFactory statefulProviders =
+                context -> {
+                    created.add("stateful provider");
+                    return new AttributeProvider() {
+                        int i = 0;
+
+                        @Override
+                        public void setAttributes(
+                                Node node, String tagName, Map<String, String> attributes) {
+                            attributes.put("i", "" + i++);
+                        }
+                    };
+                };
+        var renderer =
+                HtmlRenderer.builder()
+                        .attributeProviderFactory(statelessProviders)
+                        .attributeProviderFactory(statefulProviders)
+                        .reuseRendererState(true)
+                        .build();
+
+        assertThat(renderer.render(parse("foo"))).isEqualTo("<p a=\"b\" i=\"0\">foo</p>\n");
+        assertThat(renderer.render(parse("*bar*")))
+                .isEqualTo("<p a=\"b\" i=\"0\"><em a=\"b\" i=\"1\">bar</em></p>\n");
+        assertThat(created)
+                .containsExactly("stateless provider", "stateful provider", "stateful provider");
+
+        var spec =
+                Parser.builder().build().parse(TestResources.readAsString(TestResources.getSpec()));
+        var defaultRenderer = defaultRenderer();
+        var reusingRenderer = HtmlRenderer.builder().reuseRendererState(true).build();
+        for (int i = 0; i < 3; i++) {
+            assertThat(reusingRenderer.render(spec)).isEqualTo(defaultRenderer.render(spec));
+        }
+    }
+
+    @Test
+    public void statelessNodeRendererFactory() {
+        var created = new AtomicInteger();
+        var factory =
+                HtmlNodeRendererFactory.stateless(
+                        context -> {
+                            created.incrementAndGet();
+                            return new NodeRenderer() {
+                                @Override
+                                public Set<Class<? extends Node>> getNodeTypes() {
+                                    return Set.of(Code.class);
+                                }
+
+                                @Override
+                                public void render(Node node) {
+                                    context.getWriter().text(((Code) node).getLiteral());
+                                }
+                            };
+                        });
+        assertThat(factory.isStateless()).isTrue();
+
+        var renderer =
+                HtmlRenderer.builder()
+                        .nodeRendererFactory(factory)
+                        .reuseRendererState(true)
+                        .build();
+        assertThat(renderer.render(parse("`a`"))).isEqualTo("<p>a</p>\n");
+        assertThat(renderer.render(parse("`b`"))).isEqualTo("<p>b</p>\n");
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    public void reuseRendererStateNested() {
+        var inner = new HtmlRenderer[1];
+        HtmlNodeRendererFactory nodeRendererFactory =
+                context ->
+                        new NodeRenderer() {
+                            @Override
+                            public Set<Class<? extends Node>> getNodeTypes() {
+                                return Set.of(Code.class);
+                            }
+
+                            @Override
+                            public void render(Node node) {
+                                // Renders something else with the same renderer while rendering
+                                String html = inner[0].render(parse(((Code) node).getLiteral()));
+                                context.getWriter().raw(html.trim());
+                            }
+                        };
+        var renderer =
+                HtmlRenderer.builder()
+                        .nodeRendererFactory(nodeRendererFactory)
+                        .reuseRendererState(true)
+                        .build();
+        inner[0] = renderer;
+
+        assertThat(renderer.render(parse("a `*b*` c"))).isEqualTo("<p>a <p><em>b</em></p> c</p>\n");
+        assertThat(renderer.render(parse("d `e` f"))).isEqualTo("<p>d <p>e</p> f</p>\n");
+    }
+
     @Test
     public void overrideNodeRender() {
         HtmlNodeRendererFactory nodeRendererFactory =
@@ -357,6 +565,105 @@ public class HtmlRendererTest {
         assertThat(renderer.render(parse("hi *there*"))).isEqualTo("hi <em>there</em>");
     }
 
+    @Test
+    public void renderToOutputStream() throws IOException {
+        var document =
+                Parser.builder().build().parse(TestResources.readAsString(TestResources.getSpec()));
+        var renderer = defaultRenderer();
+        var out = new ByteArrayOutputStream();
+
+        renderer.render(document, out);
+
+        assertThat(out.toByteArray())
+                .isEqualTo(renderer.render(document).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void renderToChannel() throws IOException {
+        var document = parse("*föö* & 😀 <bar>");
+        var out = new ByteArrayOutputStream();
+
+        htmlEscapingRenderer().render(document, Channels.newChannel(out));
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("<p><em>föö</em> &amp; 😀 &lt;bar&gt;</p>\n");
+    }
+
+    @Test
+    public void renderToOutputStreamFailure() {
+        var document = parse("a".repeat(100_000));
+        var exception = new IOException("broken");
+        var out =
+                new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw exception;
+                    }
+                };
+
+        assertThatThrownBy(() -> defaultRenderer().render(document, out)).isSameAs(exception);
+    }
+
+    @Test
+    public void renderInChunks() throws IOException {
+        var document =
+                Parser.builder().build().parse(TestResources.readAsString(TestResources.getSpec()));
+        var renderer = defaultRenderer();
+        var chunks = new ArrayList<String>();
+
+        renderer.render(document, 1000, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(String.join("", chunks)).isEqualTo(renderer.render(document));
+        assertThat(chunks).hasSizeGreaterThan(10);
+        for (var chunk : chunks.subList(0, chunks.size() - 1)) {
+            // Only ends at block boundaries, as there are no blocks that are too large
+            assertThat(chunk.length()).isBetween(1000, 2000);
+        }
+    }
+
+    @Test
+    public void renderInChunksEndsAtBlocks() throws IOException {
+        var document = parse("Some paragraph *with* text.\n\n".repeat(100));
+        var chunks = new ArrayList<String>();
+
+        defaultRenderer().render(document, 100, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(chunks).hasSize(34);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).endsWith("</p>\n"));
+    }
+
+    @Test
+    public void renderInChunksLargeBlock() throws IOException {
+        var document = parse("```\n" + "😀".repeat(5000) + "\n```\n\nfoo");
+        var chunks = new ArrayList<String>();
+
+        defaultRenderer().render(document, 1001, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(String.join("", chunks)).isEqualTo(defaultRenderer().render(document));
+        assertThat(chunks).hasSizeGreaterThan(4);
+        for (var chunk : chunks) {
+            assertThat(chunk.length()).isLessThanOrEqualTo(2002);
+            assertThat(Character.isLowSurrogate(chunk.charAt(0))).isFalse();
+        }
+    }
+
+    @Test
+    public void renderInChunksFailure() {
+        var document = parse("foo\n\nbar");
+        var exception = new IOException("broken");
+
+        assertThatThrownBy(
+                        () ->
+                                defaultRenderer()
+                                        .render(
+                                                document,
+                                                1,
+                                                chunk -> {
+                                                    throw exception;
+                                                }))
+                .isSameAs(exception);
+    }
+
     @Test
     public void threading() throws Exception {
         var parser = Parser.builder().build();
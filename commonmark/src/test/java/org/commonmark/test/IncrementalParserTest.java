@@ -0,0 +1,175 @@
+package org.commonmark.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.IncrementalParser;
+import org.commonmark.parser.Parser;
+import org.commonmark.testutil.TestResources;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalParserTest {
+
+    private static final Parser PARSER =
+            Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+
+    @Test
+    public void parserWithoutSourceSpans() {
+        assertThatThrownBy(() -> new IncrementalParser(Parser.builder().build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void editBeforeParse() {
+        assertThatThrownBy(() -> new IncrementalParser(PARSER).edit(0, 0, "x"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void editOutOfBounds() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        incrementalParser.parse("foo");
+        assertThatThrownBy(() -> incrementalParser.edit(2, 2, "x"))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void editReparsesAffectedBlocks() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        var document = incrementalParser.parse("# Heading\n\nParagraph\n\n- a\n- b\n\nEnd\n");
+        var paragraph = document.getFirstChild().getNext();
+        var end = document.getLastChild();
+
+        var edited = incrementalParser.edit(11, 9, "Text");
+
+        assertThat(edited).isSameAs(document);
+        assertThat(incrementalParser.getInput())
+                .isEqualTo("# Heading\n\nText\n\n- a\n- b\n\nEnd\n");
+        assertThat(document.getFirstChild().getNext()).isNotSameAs(paragraph);
+        // Blocks that are not next to the edit are kept as they are
+        assertThat(document.getLastChild()).isSameAs(end);
+        assertEquivalentToFullParse(incrementalParser);
+    }
+
+    @Test
+    public void editThatChangesFollowingBlocks() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        incrementalParser.parse("a\n\nb\n\nc\n\nd\n\ne\n");
+
+        // Opening a fenced code block changes all blocks after it
+        incrementalParser.edit(3, 0, "```\n");
+
+        assertThat(incrementalParser.getDocument().getLastChild())
+                .isInstanceOf(FencedCodeBlock.class);
+        assertEquivalentToFullParse(incrementalParser);
+    }
+
+    @Test
+    public void editThatAddsDefinition() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        incrementalParser.parse("[foo]\n\nb\n\nc\n\nd\n");
+
+        incrementalParser.edit(10, 0, "[foo]: /url\n");
+
+        var link = incrementalParser.getDocument().getFirstChild().getFirstChild();
+        assertThat(link).isInstanceOf(Link.class);
+        assertEquivalentToFullParse(incrementalParser);
+    }
+
+    @Test
+    public void editThatRemovesDefinition() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        incrementalParser.parse("[foo]\n\nb\n\n[foo]: /url\n\nd\n");
+
+        incrementalParser.edit(10, 1, "");
+
+        var text = incrementalParser.getDocument().getFirstChild().getFirstChild();
+        assertThat(text).isInstanceOf(Text.class);
+        assertEquivalentToFullParse(incrementalParser);
+    }
+
+    @Test
+    public void editUsesDefinitionsFromRestOfDocument() {
+        var incrementalParser = new IncrementalParser(PARSER);
+        var document = incrementalParser.parse("a\n\nb\n\nc\n\nd\n\n[foo]: /url\n");
+
+        incrementalParser.edit(0, 1, "[foo]");
+
+        assertThat(incrementalParser.getDocument()).isSameAs(document);
+        assertThat(document.getFirstChild().getFirstChild()).isInstanceOf(Link.class);
+        assertEquivalentToFullParse(incrementalParser);
+    }
+
+    @Test
+    public void randomEdits() {
+        var snippets =
+                List.of(
+                        "",
+                        "x",
+                        "foo bar",
+                        "\n",
+                        "\n\n",
+                        "\r\n",
+                        "```",
+                        "~~~\n",
+                        "- ",
+                        "1. ",
+                        "> ",
+                        "# ",
+                        "===",
+                        "---",
+                        "    ",
+                        "*",
+                        "[foo]",
+                        "[foo]: /url\n",
+                        "<div>",
+                        "</div>\n",
+                        "<!--",
+                        "-->");
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var input = spec.substring(0, spec.indexOf("\n", 20_000));
+
+        var random = new Random(42);
+        var incrementalParser = new IncrementalParser(PARSER);
+        var document = incrementalParser.parse(input);
+        int reparsed = 0;
+        for (int i = 0; i < 300; i++) {
+            var current = incrementalParser.getInput();
+            int offset = random.nextInt(current.length() + 1);
+            int removedLength = Math.min(random.nextInt(8), current.length() - offset);
+            var replacement = snippets.get(random.nextInt(snippets.size()));
+
+            var edited = incrementalParser.edit(offset, removedLength, replacement);
+
+            if (edited == document) {
+                reparsed++;
+            }
+            document = edited;
+            assertEquivalentToFullParse(incrementalParser);
+        }
+        // Most edits shouldn't need a full parse
+        assertThat(reparsed).isGreaterThan(150);
+    }
+
+    private static void assertEquivalentToFullParse(IncrementalParser incrementalParser) {
+        var expected = PARSER.parse(incrementalParser.getInput());
+        assertThat(dump(incrementalParser.getDocument())).isEqualTo(dump(expected));
+    }
+
+    private static String dump(Node document) {
+        var sb = new StringBuilder();
+        document.accept(
+                new AbstractVisitor() {
+                    @Override
+                    protected void visitChildren(Node parent) {
+                        sb.append(parent).append(' ').append(parent.getSourceSpans()).append('\n');
+                        super.visitChildren(parent);
+                    }
+                });
+        return sb.toString();
+    }
+}
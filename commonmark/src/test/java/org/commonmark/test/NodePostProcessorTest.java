@@ -0,0 +1,212 @@
+package org.commonmark.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.commonmark.node.*;
+import org.commonmark.parser.NodePostProcessor;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.PostProcessor;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.junit.jupiter.api.Test;
+
+public class NodePostProcessorTest {
+
+    private static final String INPUT = "# foo bar\n\n- foo\n- *bar* foo\n\n> foo `code` foo\n";
+
+    @Test
+    public void nodesProcessedInDocumentOrder() {
+        var calls = new ArrayList<String>();
+        var parser =
+                Parser.builder()
+                        .postProcessor(new Recorder("a", calls, Heading.class, Text.class))
+                        .postProcessor(new Recorder("b", calls, Text.class, Code.class))
+                        .build();
+
+        parser.parse("# foo\n\nbar `baz`");
+
+        assertThat(calls)
+                .containsExactly("a Heading", "a foo", "b foo", "a bar ", "b bar ", "b baz");
+    }
+
+    @Test
+    public void descendantsProcessedByEarlierPostProcessorsFirst() {
+        var calls = new ArrayList<String>();
+        var parser =
+                Parser.builder()
+                        .postProcessor(new Recorder("a", calls, Text.class))
+                        .postProcessor(new Recorder("b", calls, Paragraph.class, Text.class))
+                        .build();
+
+        parser.parse("foo\n\nbar");
+
+        assertThat(calls)
+                .containsExactly("a foo", "b Paragraph", "b foo", "a bar", "b Paragraph", "b bar");
+    }
+
+    @Test
+    public void sameResultAsSeparateTraversals() {
+        // The first one splits text nodes, the second one changes text and nodes that the first
+        // one created, the third one replaces nodes.
+        List<NodePostProcessor> postProcessors =
+                List.of(new FooSplitter(), new BarUppercaser(), new EmphasisReplacer());
+
+        var fusedBuilder = Parser.builder();
+        postProcessors.forEach(fusedBuilder::postProcessor);
+        var fused = fusedBuilder.build().parse(INPUT);
+
+        var separate = Parser.builder().build().parse(INPUT);
+        for (var postProcessor : postProcessors) {
+            separate = postProcessor.process(separate);
+        }
+
+        var renderer = HtmlRenderer.builder().build();
+        assertThat(renderer.render(fused)).isEqualTo(renderer.render(separate));
+        assertThat(renderer.render(fused))
+                .isEqualTo(
+                        "<h1><strong>foo</strong> BAR</h1>\n"
+                                + "<ul>\n"
+                                + "<li><strong>foo</strong></li>\n"
+                                + "<li><em>BAR</em> <strong>foo</strong></li>\n"
+                                + "</ul>\n"
+                                + "<blockquote>\n"
+                                + "<p><strong>foo</strong> <code>code</code> <strong>foo</strong></p>\n"
+                                + "</blockquote>\n");
+    }
+
+    @Test
+    public void orderWithOtherPostProcessors() {
+        var calls = new ArrayList<String>();
+        PostProcessor other =
+                node -> {
+                    calls.add("other");
+                    return node;
+                };
+        var parser =
+                Parser.builder()
+                        .postProcessor(new Recorder("a", calls, Paragraph.class))
+                        .postProcessor(new Recorder("b", calls, Paragraph.class))
+                        .postProcessor(other)
+                        .postProcessor(new Recorder("c", calls, Paragraph.class))
+                        .build();
+
+        parser.parse("foo\n\nbar");
+
+        assertThat(calls)
+                .containsExactly(
+                        "a Paragraph",
+                        "b Paragraph",
+                        "a Paragraph",
+                        "b Paragraph",
+                        "other",
+                        "c Paragraph",
+                        "c Paragraph");
+    }
+
+    private static class Recorder implements NodePostProcessor {
+
+        private final String name;
+        private final List<String> calls;
+        private final Set<Class<? extends Node>> nodeTypes;
+
+        @SafeVarargs
+        Recorder(String name, List<String> calls, Class<? extends Node>... nodeTypes) {
+            this.name = name;
+            this.calls = calls;
+            this.nodeTypes = Set.of(nodeTypes);
+        }
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return nodeTypes;
+        }
+
+        @Override
+        public void processNode(Node node) {
+            if (node instanceof Text) {
+                calls.add(name + " " + ((Text) node).getLiteral());
+            } else if (node instanceof Code) {
+                calls.add(name + " " + ((Code) node).getLiteral());
+            } else {
+                calls.add(name + " " + node.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /** Replace "foo" in text with emphasized text. */
+    private static class FooSplitter implements NodePostProcessor {
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return Set.of(Text.class);
+        }
+
+        @Override
+        public void processNode(Node node) {
+            var text = (Text) node;
+            var literal = text.getLiteral();
+            int index = literal.indexOf("foo");
+            if (index == -1) {
+                return;
+            }
+            Node last = text;
+            int start = 0;
+            while (index != -1) {
+                if (index > start) {
+                    last = insertAfter(last, new Text(literal.substring(start, index)));
+                }
+                var emphasis = new Emphasis();
+                emphasis.appendChild(new Text("foo"));
+                last = insertAfter(last, emphasis);
+                start = index + 3;
+                index = literal.indexOf("foo", start);
+            }
+            if (start < literal.length()) {
+                insertAfter(last, new Text(literal.substring(start)));
+            }
+            text.unlink();
+        }
+
+        private static Node insertAfter(Node node, Node newNode) {
+            node.insertAfter(newNode);
+            return newNode;
+        }
+    }
+
+    /** Uppercase "bar" in text. */
+    private static class BarUppercaser implements NodePostProcessor {
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return Set.of(Text.class);
+        }
+
+        @Override
+        public void processNode(Node node) {
+            var text = (Text) node;
+            text.setLiteral(text.getLiteral().replace("bar", "BAR"));
+        }
+    }
+
+    /** Replace emphasis of "foo" with strong emphasis. */
+    private static class EmphasisReplacer implements NodePostProcessor {
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return Set.of(Emphasis.class);
+        }
+
+        @Override
+        public void processNode(Node node) {
+            var first = node.getFirstChild();
+            if (first instanceof Text && ((Text) first).getLiteral().equals("foo")) {
+                var strong = new StrongEmphasis();
+                strong.appendChild(new Text("foo"));
+                node.insertBefore(strong);
+                node.unlink();
+            }
+        }
+    }
+}
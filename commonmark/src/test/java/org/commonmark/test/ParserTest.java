@@ -6,21 +6,36 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.commonmark.node.*;
 import org.commonmark.parser.*;
+import org.commonmark.parser.block.BlockParserFactory;
+import org.commonmark.parser.block.BlockStart;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.renderer.markdown.MarkdownRenderer;
 import org.commonmark.testutil.TestResources;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ParserTest {
 
+    private static final Parser SOURCE_SPANS_PARSER =
+            Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+
     @Test
     public void ioReaderTest() throws IOException {
         Parser parser = Parser.builder().build();
@@ -38,6 +53,85 @@ public class ParserTest {
         assertThat(renderer.render(document1)).isEqualTo(renderer.render(document2));
     }
 
+    @Test
+    public void parseBlocks() throws IOException {
+        var input =
+                String.join(
+                        "\n",
+                        "[foo]: /url",
+                        "# Heading",
+                        "",
+                        "Setext",
+                        "===",
+                        "",
+                        "- item with [foo]",
+                        "",
+                        "  continued",
+                        "- item *2*",
+                        "",
+                        "> quote",
+                        "lazy",
+                        "",
+                        "```",
+                        "code",
+                        "```",
+                        "[bar]: /bar",
+                        "[bar]");
+        var parser = Parser.builder().build();
+        var renderer = HtmlRenderer.builder().build();
+
+        var nodes = new ArrayList<Node>();
+        parser.parseBlocks(new StringReader(input), nodes::add);
+
+        var document = parser.parse(input);
+        var expectedNodes = new ArrayList<Node>();
+        for (var node = document.getFirstChild(); node != null; node = node.getNext()) {
+            expectedNodes.add(node);
+        }
+        assertThat(nodes).hasSameSizeAs(expectedNodes);
+        for (int i = 0; i < nodes.size(); i++) {
+            var node = nodes.get(i);
+            assertThat(node.getParent()).isNull();
+            assertThat(node).isInstanceOf(expectedNodes.get(i).getClass());
+            assertThat(renderer.render(node)).isEqualTo(renderer.render(expectedNodes.get(i)));
+        }
+    }
+
+    @Test
+    public void parseBlocksOnlyUsesPreviousDefinitions() throws IOException {
+        var parser = Parser.builder().build();
+        var renderer = HtmlRenderer.builder().build();
+
+        var rendered = new StringBuilder();
+        parser.parseBlocks(
+                new StringReader("[foo] [bar]\n\n[bar]: /bar\n\n[foo] [bar]\n\n[foo]: /foo"),
+                node -> renderer.render(node, rendered));
+
+        assertThat(rendered.toString())
+                .isEqualTo("<p>[foo] [bar]</p>\n<p>[foo] <a href=\"/bar\">bar</a></p>\n");
+    }
+
+    @Test
+    public void parseBlocksAppliesPostProcessors() throws IOException {
+        var parser =
+                Parser.builder()
+                        .postProcessor(
+                                node -> {
+                                    node.appendChild(new Text("!"));
+                                    return node;
+                                })
+                        .build();
+
+        var nodes = new ArrayList<Node>();
+        parser.parseBlocks(new StringReader("a\n\nb"), nodes::add);
+
+        assertThat(nodes).hasSize(2);
+        for (var node : nodes) {
+            assertThat(node.getLastChild()).isInstanceOf(Text.class);
+            assertThat(((Text) node.getLastChild()).getLiteral()).isEqualTo("!");
+        }
+    }
+
     @Test
     public void enabledBlockTypes() {
         String given = "# heading 1\n\nnot a heading";
@@ -126,6 +220,469 @@ public class ParserTest {
         }
     }
 
+    @Test
+    public void inlineParallelism() throws Exception {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var renderer = HtmlRenderer.builder().build();
+        var expectedRendering = renderer.render(Parser.builder().build().parse(spec));
+
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            var parser = Parser.builder().inlineParallelism(executorService, 4).build();
+            for (int i = 0; i < 10; i++) {
+                assertThat(renderer.render(parser.parse(spec))).isEqualTo(expectedRendering);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // If the executor doesn't accept work, the calling thread does all of it
+        var parser = Parser.builder().inlineParallelism(executorService, 4).build();
+        assertThat(renderer.render(parser.parse(spec))).isEqualTo(expectedRendering);
+    }
+
+    @Test
+    public void inlineParallelismMustBeOneOrGreater() {
+        assertThatThrownBy(() -> Parser.builder().inlineParallelism(Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void parseFile(@TempDir Path tempDir) throws IOException {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var inputs =
+                List.of(
+                        "",
+                        "\uFEFF",
+                        "\uFEFF# Heading\r\n\r\nf\u00f6\u00f6 \ud83d\ude00 b\0r\r\n",
+                        spec,
+                        // Large enough to be memory-mapped
+                        spec.repeat(6));
+        var parser = SOURCE_SPANS_PARSER;
+        var reusingParser =
+                Parser.builder()
+                        .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                        .reuseParserState(true)
+                        .build();
+        var file = tempDir.resolve("file.md");
+        for (var input : inputs) {
+            Files.writeString(file, input);
+            var withoutBom = input.startsWith("\uFEFF") ? input.substring(1) : input;
+            var expected = dump(parser.parse(withoutBom));
+            assertThat(dump(parser.parseFile(file))).isEqualTo(expected);
+            assertThat(dump(reusingParser.parseFile(file))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void parseBytes() {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var asciiSpec = spec.replaceAll("[^\\x01-\\x7f]", "?");
+        var inputs =
+                List.of(
+                        "",
+                        "# Heading\r\n\r\nfoo *bar*\r\n    code\n",
+                        "f\u00f6\u00f6 \ud83d\ude00 b\0r\n",
+                        "\0",
+                        asciiSpec,
+                        spec);
+        var reusingParser =
+                Parser.builder()
+                        .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                        .reuseParserState(true)
+                        .build();
+        for (var input : inputs) {
+            var expected = dump(SOURCE_SPANS_PARSER.parse(input));
+            var bytes = ("ignored" + input + "ignored").getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length - 2 * "ignored".length();
+            assertThat(dump(SOURCE_SPANS_PARSER.parse(bytes, 7, length))).isEqualTo(expected);
+            assertThat(dump(reusingParser.parse(bytes, 7, length))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void parseBytesOutOfBounds() {
+        var parser = Parser.builder().build();
+        assertThatThrownBy(() -> parser.parse(new byte[2], 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void parseFileMalformed(@TempDir Path tempDir) throws IOException {
+        var bytes = new byte[] {'a', (byte) 0xff, 'b', (byte) 0xe2, (byte) 0x82};
+        var file = Files.write(tempDir.resolve("file.md"), bytes);
+        var document = Parser.builder().build().parseFile(file);
+        assertThat(((Text) document.getFirstChild().getFirstChild()).getLiteral())
+                .isEqualTo(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void parseFileChannel(@TempDir Path tempDir) throws IOException {
+        var file = Files.writeString(tempDir.resolve("file.md"), "ignored\n# Heading\n");
+        try (var channel = FileChannel.open(file)) {
+            channel.position(8);
+            var document = Parser.builder().build().parseFile(channel);
+            assertThat(document.getFirstChild()).isInstanceOf(Heading.class);
+            assertThat(document.getFirstChild().getNext()).isNull();
+            assertThat(channel.position()).isEqualTo(channel.size());
+        }
+    }
+
+    @Test
+    public void metrics() {
+        var events = new ArrayList<String>();
+        var starts = new AtomicInteger();
+        var nodeCounts = new ArrayList<Map<Class<? extends Node>, Integer>>();
+        PostProcessor first = node -> node;
+        PostProcessor second = node -> node;
+        var metrics =
+                new ParserMetrics() {
+                    @Override
+                    public void blocksParsed(Document document, int lines, long nanos) {
+                        assertThat(nanos).isNotNegative();
+                        events.add("blocks " + lines);
+                    }
+
+                    @Override
+                    public void blockStarts(
+                            Document document, BlockParserFactory factory, int attempts, int hits) {
+                        assertThat(attempts).isGreaterThanOrEqualTo(hits).isPositive();
+                        starts.addAndGet(hits);
+                    }
+
+                    @Override
+                    public void inlinesParsed(Document document, int maxDelimiters, long nanos) {
+                        assertThat(nanos).isNotNegative();
+                        events.add("inlines " + maxDelimiters);
+                    }
+
+                    @Override
+                    public void postProcessed(
+                            Node document, PostProcessor postProcessor, long nanos) {
+                        assertThat(document).isInstanceOf(Document.class);
+                        events.add(postProcessor == first ? "first" : "second");
+                    }
+
+                    @Override
+                    public void nodeCounts(
+                            Node document, Map<Class<? extends Node>, Integer> counts) {
+                        nodeCounts.add(counts);
+                    }
+                };
+        var parser =
+                Parser.builder()
+                        .postProcessor(first)
+                        .postProcessor(second)
+                        .metrics(metrics)
+                        .reuseParserState(true)
+                        .build();
+
+        var document = parser.parse("# Heading\n\n*a **b** c*\n\n- item\n");
+        assertThat(events).containsExactly("blocks 5", "inlines 4", "first", "second");
+        // The heading and the list (with its item), paragraphs aren't started by a factory
+        assertThat(starts.get()).isEqualTo(2);
+        assertThat(nodeCounts).hasSize(1);
+        assertThat(nodeCounts.get(0))
+                .containsEntry(Document.class, 1)
+                .containsEntry(Heading.class, 1)
+                .containsEntry(Emphasis.class, 1)
+                .containsEntry(StrongEmphasis.class, 1)
+                .containsEntry(Text.class, 5)
+                .containsEntry(ListItem.class, 1);
+        assertThat(dump(document))
+                .isEqualTo(
+                        dump(
+                                Parser.builder()
+                                        .build()
+                                        .parse("# Heading\n\n*a **b** c*\n\n- item\n")));
+
+        // Nothing is carried over to the next document
+        events.clear();
+        starts.set(0);
+        parser.parse("text");
+        assertThat(events).containsExactly("blocks 1", "inlines 0", "first", "second");
+        assertThat(starts.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void metricsWithBlockParallelism() {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var input = spec + "\n\n" + spec;
+        var sequential = new ArrayList<String>();
+        var concurrent = new ArrayList<String>();
+        var executorService = Executors.newFixedThreadPool(2);
+        try {
+            Parser.builder().metrics(recordingMetrics(sequential)).build().parse(input);
+            Parser.builder()
+                    .metrics(recordingMetrics(concurrent))
+                    .blockParallelism(executorService, 2)
+                    .build()
+                    .parse(input);
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(concurrent).isEqualTo(sequential);
+    }
+
+    @Test
+    public void metricsWithInlineParallelism() {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        // The block with the most delimiters is at the end, so it's likely parsed by a worker
+        var input = spec + "\n\n" + spec + "\n\n" + "*a _b ".repeat(100);
+        var sequential = new ArrayList<String>();
+        Parser.builder().metrics(recordingMetrics(sequential)).build().parse(input);
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                var concurrent = new ArrayList<String>();
+                Parser.builder()
+                        .metrics(recordingMetrics(concurrent))
+                        .inlineParallelism(executorService, 4)
+                        .build()
+                        .parse(input);
+                assertThat(concurrent).isEqualTo(sequential);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(sequential).contains("inlines 200");
+    }
+
+    private static ParserMetrics recordingMetrics(List<String> events) {
+        return new ParserMetrics() {
+            @Override
+            public void blocksParsed(Document document, int lines, long nanos) {
+                events.add("blocks " + lines);
+            }
+
+            @Override
+            public void blockStarts(
+                    Document document, BlockParserFactory factory, int attempts, int hits) {
+                events.add(factory.getClass().getName() + " " + hits);
+            }
+
+            @Override
+            public void inlinesParsed(Document document, int maxDelimiters, long nanos) {
+                events.add("inlines " + maxDelimiters);
+            }
+        };
+    }
+
+    @Test
+    public void blockParallelism() {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var input = spec + "\n\n" + spec.replace("\n", "\r\n") + "\n\n" + spec;
+        var executions = new AtomicInteger();
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            Executor executor =
+                    command -> {
+                        executions.incrementAndGet();
+                        executorService.execute(command);
+                    };
+            var parser =
+                    Parser.builder()
+                            .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                            .blockParallelism(executor, 4)
+                            .build();
+            assertThat(dump(parser.parse(input))).isEqualTo(dump(SOURCE_SPANS_PARSER.parse(input)));
+            assertThat(executions.get()).isGreaterThan(0);
+
+            // Small inputs are parsed on the calling thread
+            executions.set(0);
+            parser.parse("foo\n\nbar");
+            assertThat(executions.get()).isEqualTo(0);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void blockParallelismWithBlocksAcrossChunks() {
+        var blocks =
+                List.of(
+                        // Not recognized as a fenced code block when splitting, so the parts in it
+                        // are parsed again after the start of the block.
+                        "  ```\n",
+                        "<!--\n",
+                        "-->\n",
+                        "<script>\n",
+                        "</script>\n",
+                        "- item\n",
+                        "1. item\n",
+                        "> quote\n",
+                        "    code\n",
+                        "[foo]: /url\n",
+                        "[foo]\n",
+                        "text\n",
+                        "# heading\n",
+                        "***\n",
+                        "===\n",
+                        "```\n",
+                        "~~~~\n",
+                        "| a |\n");
+        var random = new Random(42);
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            var parser =
+                    Parser.builder()
+                            .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                            .blockParallelism(executorService, 4)
+                            .build();
+            // With a custom factory, chunks can only be joined where no block is open
+            var customParser =
+                    Parser.builder()
+                            .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                            .customBlockParserFactory((state, matched) -> BlockStart.none())
+                            .blockParallelism(executorService, 4)
+                            .build();
+            for (int i = 0; i < 10; i++) {
+                var sb = new StringBuilder();
+                while (sb.length() < 300_000) {
+                    sb.append(blocks.get(random.nextInt(blocks.size())));
+                    sb.append(random.nextInt(4) == 0 ? "\n" : "\n\n");
+                }
+                var input = sb.toString();
+                var expected = dump(SOURCE_SPANS_PARSER.parse(input));
+                assertThat(dump(parser.parse(input))).isEqualTo(expected);
+                assertThat(dump(customParser.parse(input))).isEqualTo(expected);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void blockParallelismMustBeOneOrGreater() {
+        assertThatThrownBy(() -> Parser.builder().blockParallelism(Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void reuseParserState() throws IOException {
+        var parser =
+                Parser.builder()
+                        .reuseParserState(true)
+                        .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                        .build();
+        var freshParser =
+                Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        var renderer = HtmlRenderer.builder().build();
+
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var inputs = List.of("[foo]: /url\n\n# Heading", "[foo]\n\n```", spec, "*a* `b`", "");
+        for (int i = 0; i < 2; i++) {
+            for (var input : inputs) {
+                var expected = freshParser.parse(input);
+                assertThat(renderer.render(parser.parse(input)))
+                        .isEqualTo(renderer.render(expected));
+                assertThat(renderer.render(parser.parseReader(new StringReader(input))))
+                        .isEqualTo(renderer.render(expected));
+            }
+        }
+
+        // Definitions of the previous document are not used
+        parser.parse("[foo]: /url");
+        assertThat(Nodes.find(parser.parse("[foo]"), Paragraph.class).getFirstChild())
+                .isInstanceOf(Text.class);
+    }
+
+    @Test
+    public void reuseParserStateWithNestedParse() throws IOException {
+        var nested = new ArrayList<Node>();
+        var parser = new Parser[1];
+        parser[0] =
+                Parser.builder()
+                        .reuseParserState(true)
+                        .postProcessor(
+                                node -> {
+                                    var text = Nodes.find(node, Text.class);
+                                    if (text.getLiteral().startsWith("outer")) {
+                                        nested.add(parser[0].parse("*inner*"));
+                                    }
+                                    return node;
+                                })
+                        .build();
+
+        // With parseBlocks, post-processors run while the parser state is in use
+        var blocks = new ArrayList<Node>();
+        parser[0].parseBlocks(new StringReader("outer *a*\n\nouter *b*"), blocks::add);
+
+        assertThat(blocks).hasSize(2);
+        assertThat(((Text) blocks.get(1).getFirstChild()).getLiteral()).isEqualTo("outer ");
+        assertThat(((Text) blocks.get(1).getLastChild().getFirstChild()).getLiteral())
+                .isEqualTo("b");
+        assertThat(nested).hasSize(2);
+        for (var document : nested) {
+            assertThat(document.getFirstChild().getFirstChild()).isInstanceOf(Emphasis.class);
+        }
+    }
+
+    @Test
+    public void parseAll() {
+        var parser = Parser.builder().build();
+        var renderer = HtmlRenderer.builder().build();
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var inputs = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add(i % 50 == 0 ? spec : "[foo" + i + "]: /url" + i + "\n\n*" + i + "* [foo1]");
+        }
+
+        var documents = parser.parseAll(inputs);
+        assertThat(documents).hasSize(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertThat(renderer.render(documents.get(i)))
+                    .isEqualTo(renderer.render(parser.parse(inputs.get(i))));
+        }
+
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            var concurrentDocuments = parser.parseAll(inputs, executorService, 4);
+            for (int i = 0; i < inputs.size(); i++) {
+                assertThat(renderer.render(concurrentDocuments.get(i)))
+                        .isEqualTo(renderer.render(documents.get(i)));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // If the executor doesn't accept work, the calling thread does all of it
+        assertThat(parser.parseAll(inputs, executorService, 4)).hasSize(inputs.size());
+        assertThat(parser.parseAll(List.of())).isEmpty();
+    }
+
+    @Test
+    public void parseAllFailure() {
+        var parser =
+                Parser.builder()
+                        .postProcessor(
+                                node -> {
+                                    if (Nodes.find(node, Text.class).getLiteral().equals("fail")) {
+                                        throw new IllegalStateException("failed");
+                                    }
+                                    return node;
+                                })
+                        .build();
+        var inputs = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            inputs.add(i == 42 ? "fail" : "ok");
+        }
+
+        var executorService = Executors.newFixedThreadPool(4);
+        try {
+            assertThatThrownBy(() -> parser.parseAll(inputs, executorService, 4))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("failed");
+        } finally {
+            executorService.shutdown();
+        }
+        assertThatThrownBy(() -> parser.parseAll(inputs))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+        assertThatThrownBy(() -> parser.parseAll(inputs, Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void maxOpenBlockParsersMustBeZeroOrGreater() {
         assertThatThrownBy(() -> Parser.builder().maxOpenBlockParsers(-1))
@@ -308,6 +865,29 @@ public class ParserTest {
         assertThat(nesting).isGreaterThan(1000);
     }
 
+    @Test
+    public void compactSourceSpans() {
+        var spec = TestResources.readAsString(TestResources.getSpec());
+        var builder = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES);
+        var expected = builder.build().parse(spec);
+        var actual = builder.compactSourceSpans(true).build().parse(spec);
+
+        var expectedSpans = new ArrayList<List<SourceSpan>>();
+        var actualSpans = new ArrayList<List<SourceSpan>>();
+        expected.accept(new SourceSpansCollector(expectedSpans));
+        actual.accept(new SourceSpansCollector(actualSpans));
+        assertThat(actualSpans).isEqualTo(expectedSpans);
+
+        // Changing the spans of a node still works
+        var paragraph = actual.getFirstChild().getNext();
+        var spans = paragraph.getSourceSpans();
+        assertThatThrownBy(() -> spans.add(SourceSpan.of(0, 0, 0, 1)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        paragraph.addSourceSpan(SourceSpan.of(1000, 0, 0, 1));
+        assertThat(paragraph.getSourceSpans()).hasSize(spans.size() + 1);
+        assertThat(paragraph.getSourceSpans().subList(0, spans.size())).isEqualTo(spans);
+    }
+
     private String renderText(Node node) {
         return MarkdownRenderer.builder().build().render(node).trim();
     }
@@ -324,6 +904,35 @@ public class ParserTest {
         return String.join("\n", lines);
     }
 
+    /** The rendering of the document and its nodes with their source spans, for comparing */
+    private static String dump(Node document) {
+        var sb = new StringBuilder(HtmlRenderer.builder().build().render(document));
+        document.accept(
+                new AbstractVisitor() {
+                    @Override
+                    protected void visitChildren(Node parent) {
+                        sb.append(parent).append(' ').append(parent.getSourceSpans()).append('\n');
+                        super.visitChildren(parent);
+                    }
+                });
+        return sb.toString();
+    }
+
+    private static class SourceSpansCollector extends AbstractVisitor {
+
+        private final List<List<SourceSpan>> sourceSpans;
+
+        SourceSpansCollector(List<List<SourceSpan>> sourceSpans) {
+            this.sourceSpans = sourceSpans;
+        }
+
+        @Override
+        protected void visitChildren(Node parent) {
+            sourceSpans.add(parent.getSourceSpans());
+            super.visitChildren(parent);
+        }
+    }
+
     private int depth(Node node) {
         int depth = 0;
         while (node.getParent() != null) {
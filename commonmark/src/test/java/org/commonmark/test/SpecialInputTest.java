@@ -19,6 +19,14 @@ public class SpecialInputTest extends CoreRenderingTestCase {
         assertRendering("foo&#0;bar", "<p>foo\uFFFDbar</p>\n");
     }
 
+    @Test
+    public void unmatchedBackticksDoNotAffectLaterParagraph() {
+        // The backticks parser remembers positions of backtick runs, which only apply to the
+        // inline snippet they're from
+        assertRendering("x ``a `b\n\n``c``", "<p>x ``a `b</p>\n<p><code>c</code></p>\n");
+        assertRendering("``c`` ``\n\n``d``", "<p><code>c</code> ``</p>\n<p><code>d</code></p>\n");
+    }
+
     @Test
     public void crLfAsLineSeparatorShouldBeParsed() {
         assertRendering("foo\r\nbar", "<p>foo\nbar</p>\n");
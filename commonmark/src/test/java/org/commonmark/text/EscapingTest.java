@@ -0,0 +1,100 @@
+package org.commonmark.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.commonmark.internal.util.Html5Entities;
+import org.junit.jupiter.api.Test;
+
+class EscapingTest {
+
+    // The regex-based implementations that the scanners replaced, to compare against
+    private static final Pattern ENTITY_OR_ESCAPED_CHAR =
+            Pattern.compile(
+                    "\\\\[!\"#$%&'()*+,./:;<=>?@\\[\\\\\\]^_`{|}~-]"
+                            + "|&(?:#x[a-f0-9]{1,6}|#[0-9]{1,7}|[a-z][a-z0-9]{1,31});",
+                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern ESCAPE_IN_URI =
+            Pattern.compile("(%[a-fA-F0-9]{0,2}|[^:/?#@!$&'()*+,;=a-zA-Z0-9\\-._~])");
+
+    @Test
+    void unescapeString() {
+        assertThat(Escaping.unescapeString("nothing")).isEqualTo("nothing");
+        assertThat(Escaping.unescapeString("\\*foo\\*")).isEqualTo("*foo*");
+        assertThat(Escaping.unescapeString("\\a\\")).isEqualTo("\\a\\");
+        assertThat(Escaping.unescapeString("\\\\&amp;")).isEqualTo("\\&");
+        assertThat(Escaping.unescapeString("&copy; &AElig;")).isEqualTo("© Æ");
+        assertThat(Escaping.unescapeString("&#35; &#X22; &#xD06;")).isEqualTo("# \" ആ");
+        assertThat(Escaping.unescapeString("&#0; &#x110000;")).isEqualTo("� �");
+        assertThat(Escaping.unescapeString("&nosuchentity; &#; &#x; &#12345678; &a;"))
+                .isEqualTo("&nosuchentity; &#; &#x; &#12345678; &a;");
+    }
+
+    @Test
+    void percentEncodeUrl() {
+        assertThat(Escaping.percentEncodeUrl("/url?a=b#c")).isEqualTo("/url?a=b#c");
+        assertThat(Escaping.percentEncodeUrl("a b")).isEqualTo("a%20b");
+        assertThat(Escaping.percentEncodeUrl("%20 %2 %")).isEqualTo("%20%20%252%20%25");
+        assertThat(Escaping.percentEncodeUrl("ä€😀")).isEqualTo("%C3%A4%E2%82%AC%F0%9F%98%80");
+        assertThat(Escaping.percentEncodeUrl("\uD83Da\uDE00")).isEqualTo("%3Fa%3F");
+    }
+
+    @Test
+    void sameAsRegex() {
+        String alphabet = "\\&#;xX%aAfF09zZ*[] ä€😀";
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                if (random.nextInt(20) == 0) {
+                    sb.append("&amp;");
+                } else {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String s = sb.toString();
+            assertThat(Escaping.unescapeString(s)).as(s).isEqualTo(unescapeWithRegex(s));
+            assertThat(Escaping.percentEncodeUrl(s)).as(s).isEqualTo(percentEncodeWithRegex(s));
+        }
+    }
+
+    private static String unescapeWithRegex(String s) {
+        Matcher matcher = ENTITY_OR_ESCAPED_CHAR.matcher(s);
+        StringBuilder sb = new StringBuilder();
+        int lastEnd = 0;
+        while (matcher.find()) {
+            sb.append(s, lastEnd, matcher.start());
+            String match = matcher.group();
+            if (match.charAt(0) == '\\') {
+                sb.append(match, 1, match.length());
+            } else {
+                sb.append(Html5Entities.entityToString(match));
+            }
+            lastEnd = matcher.end();
+        }
+        return sb.append(s, lastEnd, s.length()).toString();
+    }
+
+    private static String percentEncodeWithRegex(String s) {
+        Matcher matcher = ESCAPE_IN_URI.matcher(s);
+        StringBuilder sb = new StringBuilder();
+        int lastEnd = 0;
+        while (matcher.find()) {
+            sb.append(s, lastEnd, matcher.start());
+            String match = matcher.group();
+            if (match.startsWith("%")) {
+                sb.append(match.length() == 3 ? match : "%25" + match.substring(1));
+            } else {
+                for (byte b : match.getBytes(StandardCharsets.UTF_8)) {
+                    sb.append(String.format("%%%02X", b));
+                }
+            }
+            lastEnd = matcher.end();
+        }
+        return sb.append(s, lastEnd, s.length()).toString();
+    }
+}